@@ -0,0 +1,105 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A level for benchmarks that spawns nothing by itself and never ends. It is populated up front with a given
+ * number of enemy planes and projectiles scattered over the screen, so that every tick phase has work to do.
+ */
+public class BenchmarkLevel extends LevelParent {
+
+	/** The screen width benchmarks are run with, matching the game window. */
+	public static final double SCREEN_WIDTH = 1300;
+
+	/** The screen height benchmarks are run with, matching the game window. */
+	public static final double SCREEN_HEIGHT = 750;
+
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+	private static final int PLAYER_INITIAL_HEALTH = Integer.MAX_VALUE;
+	private static final double ENEMY_MINIMUM_X_POSITION = 300;
+	private static final double PROJECTILE_MINIMUM_X_POSITION = 110;
+
+	/** Every enemy plane added by {@link #populate}, in the order they were added. */
+	private final List<ActiveActorDestructible> populatedActors;
+
+	/**
+	 * Constructs an empty BenchmarkLevel.
+	 */
+	public BenchmarkLevel() {
+		super(BACKGROUND_IMAGE_NAME, SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH);
+		populatedActors = new ArrayList<>();
+	}
+
+	/**
+	 * Scatters enemy planes and projectiles over the screen. Half of the projectiles are the player's and
+	 * half are the enemies'.
+	 *
+	 * @param enemyCount the number of enemy planes to add
+	 * @param projectileCount the number of projectiles to add
+	 * @param seed the seed used to place the actors
+	 */
+	public void populate(int enemyCount, int projectileCount, long seed) {
+		Random random = new Random(seed);
+		for (int i = 0; i < enemyCount; i++) {
+			EnemyPlane enemy = EnemyPlane.obtain(randomX(random, ENEMY_MINIMUM_X_POSITION), randomY(random));
+			addEnemyUnit(enemy);
+			populatedActors.add(enemy);
+		}
+		for (int i = 0; i < projectileCount; i++) {
+			double x = randomX(random, PROJECTILE_MINIMUM_X_POSITION);
+			if (i % 2 == 0) {
+				getUserProjectiles().spawn(ProjectileType.USER, x, randomY(random));
+			} else {
+				getEnemyProjectiles().spawn(ProjectileType.ENEMY, x, randomY(random));
+			}
+		}
+	}
+
+	/**
+	 * Destroys every n-th populated enemy plane and every n-th projectile of each side, so that the removal
+	 * phase has work to do.
+	 *
+	 * @param interval the distance between destroyed actors
+	 */
+	public void destroyEvery(int interval) {
+		for (int i = 0; i < populatedActors.size(); i += interval) {
+			populatedActors.get(i).destroy();
+		}
+		destroyEvery(getUserProjectiles(), interval);
+		destroyEvery(getEnemyProjectiles(), interval);
+	}
+
+	private static void destroyEvery(ProjectileStore projectiles, int interval) {
+		for (int i = 0; i < projectiles.size(); i += interval) {
+			projectiles.destroy(i);
+		}
+	}
+
+	@Override
+	protected void initializeFriendlyUnits() {
+		addFriendlyUnit(getUser());
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	@Override
+	protected void spawnEnemyUnits() {
+	}
+
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getSceneLayers(), 0);
+	}
+
+	private double randomX(Random random, double minimum) {
+		return minimum + random.nextDouble() * (SCREEN_WIDTH - minimum);
+	}
+
+	private double randomY(Random random) {
+		return random.nextDouble() * getEnemyMaximumYPosition();
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the phases spread over {@link SimulationWorkers} scale with the number of threads, on scenes
+ * large enough to be split into chunks. Comparing the scores of each parallelism with those of a parallelism of
+ * one gives the speedup; parallelisms above the number of cores of the machine only show the cost of the split.
+ * As in the {@link TickBenchmark}, a new scene is built before each iteration, which times one batch of
+ * consecutive calls.
+ * <p>
+ * The default parameters only cover the largest scene without pixel collisions; the full sweep runs with
+ * {@code -p projectileCount=10000,50000 -p pixelCollisions=false,true}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 200, batchSize = TickBenchmark.BATCH_SIZE)
+@Measurement(iterations = 50, batchSize = TickBenchmark.BATCH_SIZE)
+@Fork(1)
+public class ParallelTickBenchmark {
+
+	/** The seed used to place the actors, so every run measures the same scene. */
+	private static final long SCENE_SEED = 42;
+
+	/** The number of enemy planes of every scene. */
+	private static final int ENEMY_COUNT = 100;
+
+	@Param({"1", "2", "4", "8"})
+	public int parallelism;
+
+	@Param({"50000"})
+	public int projectileCount;
+
+	@Param({"false"})
+	public boolean pixelCollisions;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Builds a new level with the benchmark's parallelism, projectile count and collision mode.
+	 */
+	@Setup(Level.Iteration)
+	public void createLevel() {
+		GameSettings.setParallelism(parallelism);
+		GameSettings.setPixelCollisionsEnabled(pixelCollisions);
+		level = new BenchmarkLevel();
+		level.populate(ENEMY_COUNT, projectileCount, SCENE_SEED);
+	}
+
+	/**
+	 * Disposes of the iteration's level, returning its pooled enemy planes.
+	 */
+	@TearDown(Level.Iteration)
+	public void disposeLevel() {
+		level.dispose();
+		level = null;
+	}
+
+	/**
+	 * Restores the default parallelism, so that benchmarks run after this one in the same JVM stay serial.
+	 */
+	@TearDown
+	public void restoreParallelism() {
+		GameSettings.setParallelism(1);
+	}
+
+	@Benchmark
+	public BenchmarkLevel fullTick() {
+		level.step();
+		return level;
+	}
+
+	@Benchmark
+	public BenchmarkLevel updateActors() {
+		level.runPhase(TickPhase.UPDATE_ACTORS);
+		return level;
+	}
+
+	@Benchmark
+	public BenchmarkLevel handleCollisions() {
+		level.runPhase(TickPhase.HANDLE_COLLISIONS);
+		return level;
+	}
+}
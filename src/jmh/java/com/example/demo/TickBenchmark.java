@@ -0,0 +1,114 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full level tick and each of its main phases on a freshly populated {@link BenchmarkLevel}.
+ * A new scene is built, outside the timed region, before each iteration, which times one batch of
+ * {@link #BATCH_SIZE} consecutive calls, so every iteration starts from the same scene and the scene drifts
+ * little within it; scores are the time of a whole batch. Removing destroyed actors consumes its input, so that
+ * phase is timed one call per iteration. Many warmup iterations are needed, as each one only runs a few calls.
+ * <p>
+ * The default parameters only cover a mid-sized scene; the full sweep runs with
+ * {@code -p enemyCount=10,100,1000,10000 -p projectileCount=10,100,1000,10000,50000 -p pixelCollisions=false,true}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 200, batchSize = TickBenchmark.BATCH_SIZE)
+@Measurement(iterations = 50, batchSize = TickBenchmark.BATCH_SIZE)
+@Fork(1)
+public class TickBenchmark {
+
+	/** The number of consecutive calls timed by each iteration. */
+	static final int BATCH_SIZE = 10;
+
+	/** The seed used to place the actors, so every run measures the same scene. */
+	private static final long SCENE_SEED = 42;
+
+	/** Every n-th actor is destroyed before each iteration. */
+	private static final int DESTROYED_ACTOR_INTERVAL = 10;
+
+	@Param({"100", "1000"})
+	public int enemyCount;
+
+	@Param({"10000"})
+	public int projectileCount;
+
+	@Param({"false"})
+	public boolean pixelCollisions;
+
+	private BenchmarkLevel level;
+
+	/**
+	 * Builds a new level with the benchmark's actor counts and collision mode and destroys a tenth of its actors.
+	 */
+	@Setup(Level.Iteration)
+	public void createLevel() {
+		GameSettings.setPixelCollisionsEnabled(pixelCollisions);
+		level = new BenchmarkLevel();
+		level.populate(enemyCount, projectileCount, SCENE_SEED);
+		level.destroyEvery(DESTROYED_ACTOR_INTERVAL);
+	}
+
+	/**
+	 * Disposes of the iteration's level, returning its pooled enemy planes.
+	 */
+	@TearDown(Level.Iteration)
+	public void disposeLevel() {
+		level.dispose();
+		level = null;
+	}
+
+	@Benchmark
+	public BenchmarkLevel fullTick() {
+		level.step();
+		return level;
+	}
+
+	@Benchmark
+	public BenchmarkLevel updateActors() {
+		level.runPhase(TickPhase.UPDATE_ACTORS);
+		return level;
+	}
+
+	@Benchmark
+	public BenchmarkLevel generateEnemyFire() {
+		level.runPhase(TickPhase.GENERATE_ENEMY_FIRE);
+		return level;
+	}
+
+	@Benchmark
+	public BenchmarkLevel handleCollisions() {
+		level.runPhase(TickPhase.HANDLE_COLLISIONS);
+		return level;
+	}
+
+	@Benchmark
+	@Warmup(iterations = 1000, batchSize = 1)
+	@Measurement(iterations = 100, batchSize = 1)
+	public BenchmarkLevel removeDestroyedActors() {
+		level.runPhase(TickPhase.REMOVE_DESTROYED_ACTORS);
+		return level;
+	}
+
+	@Benchmark
+	public BenchmarkLevel updateKillCount() {
+		level.runPhase(TickPhase.UPDATE_KILL_COUNT);
+		return level;
+	}
+}
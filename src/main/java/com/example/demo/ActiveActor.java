@@ -1,33 +1,63 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-
 /**
- * The ActiveActor class represents an interactive, movable game object
- * that is displayed as an image on the screen. This abstract class provides
- * basic functionalities for image setup and movement, allowing subclasses to
+ * The ActiveActor class represents an interactive, movable game object.
+ * It holds the simulated state of the object (its position, size and the name of its sprite in the
+ * {@link SpriteAtlas}) without depending on JavaFX,
+ * so that levels can be simulated headlessly; {@link ActorView} mirrors it on screen. This abstract class provides
+ * basic functionalities for sprite setup and movement, allowing subclasses to
  * define specific behaviors for different types of active actors.
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
+
+	/** The name of the actor's sprite in the {@link SpriteAtlas}, which is also the name of its image file. */
+	private final String imageName;
+
+	/** The height of the actor, which is also the height its image is displayed at. */
+	private final int imageHeight;
+
+	/** The width of the actor, derived from the image's aspect ratio. */
+	private final double imageWidth;
 
-	/** The location path for images used by active actors. */
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	/** The collision shape of the actor's image at the actor's size. */
+	private final SpriteMask mask;
+
+	private double layoutX;
+	private double layoutY;
+	private double translateX;
+	private double translateY;
+
+	/** The translation of the actor at the start of the current tick. */
+	private double previousTranslateX;
+	private double previousTranslateY;
 
 	/**
 	 * Constructs an ActiveActor with the specified image, size, and initial position.
 	 *
-	 * @param imageName the name of the image file for the actor
+	 * @param imageName the name of the actor's sprite in the {@link SpriteAtlas}
 	 * @param imageHeight the height to set for the image, preserving its aspect ratio
 	 * @param initialXPos the initial x-coordinate of the actor on the screen
 	 * @param initialYPos the initial y-coordinate of the actor on the screen
+	 * @throws IllegalArgumentException if the sprite atlas has no sprite of that name
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		String resourcePath = SpriteAtlas.getDefinition(imageName).getResourcePath();
+		this.imageWidth = imageHeight * SpriteMetrics.getAspectRatio(resourcePath);
+		this.mask = SpriteMask.of(resourcePath, imageWidth, imageHeight);
 		this.setLayoutX(initialXPos);
 		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+	}
+
+	/**
+	 * Resolves an actor sprite in the {@link SpriteAtlas}, loading the atlas if needed, so that spawning the
+	 * first actor of a kind does not stall the game loop.
+	 *
+	 * @param imageName the name of the actor's sprite
+	 */
+	protected static void preloadSprite(String imageName) {
+		SpriteAtlas.getRegion(imageName);
 	}
 
 	/**
@@ -36,6 +66,27 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public abstract void updatePosition();
 
+	/**
+	 * Records the current translation as the start of the tick about to run, so that the actor can be
+	 * drawn between its previous and current positions.
+	 */
+	public void savePreviousPosition() {
+		previousTranslateX = translateX;
+		previousTranslateY = translateY;
+	}
+
+	/**
+	 * Checks whether the actor's bounding box intersects another actor's bounding box.
+	 * Touching edges count as an intersection.
+	 *
+	 * @param other the other actor
+	 * @return true if the bounding boxes intersect, false otherwise
+	 */
+	public boolean intersects(ActiveActor other) {
+		return other.getMaxX() >= getMinX() && other.getMaxY() >= getMinY()
+				&& other.getMinX() <= getMaxX() && other.getMinY() <= getMaxY();
+	}
+
 	/**
 	 * Moves the actor horizontally by the specified distance.
 	 *
@@ -53,4 +104,185 @@ public abstract class ActiveActor extends ImageView {
 	protected void moveVertically(double verticalMove) {
 		this.setTranslateY(getTranslateY() + verticalMove);
 	}
+
+	/**
+	 * Returns the name of the actor's sprite in the {@link SpriteAtlas}.
+	 *
+	 * @return the sprite name
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Returns the height of the actor.
+	 *
+	 * @return the height the actor's image is displayed at
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Returns the width of the actor.
+	 *
+	 * @return the width the actor's image is displayed at
+	 */
+	public double getImageWidth() {
+		return imageWidth;
+	}
+
+	/**
+	 * Returns the collision shape of the actor, whose tight box and pixels are relative to the actor's
+	 * bounding box.
+	 *
+	 * @return the actor's sprite mask
+	 */
+	public SpriteMask getMask() {
+		return mask;
+	}
+
+	/**
+	 * Returns the left edge of the actor's bounding box.
+	 *
+	 * @return the minimum x-coordinate
+	 */
+	public double getMinX() {
+		return layoutX + translateX;
+	}
+
+	/**
+	 * Returns the top edge of the actor's bounding box.
+	 *
+	 * @return the minimum y-coordinate
+	 */
+	public double getMinY() {
+		return layoutY + translateY;
+	}
+
+	/**
+	 * Returns the right edge of the actor's bounding box.
+	 *
+	 * @return the maximum x-coordinate
+	 */
+	public double getMaxX() {
+		return getMinX() + imageWidth;
+	}
+
+	/**
+	 * Returns the bottom edge of the actor's bounding box.
+	 *
+	 * @return the maximum y-coordinate
+	 */
+	public double getMaxY() {
+		return getMinY() + imageHeight;
+	}
+
+	/**
+	 * Returns the left edge of the actor's bounding box at the start of the current tick.
+	 *
+	 * @return the previous minimum x-coordinate
+	 */
+	public double getPreviousMinX() {
+		return layoutX + previousTranslateX;
+	}
+
+	/**
+	 * Returns the top edge of the actor's bounding box at the start of the current tick.
+	 *
+	 * @return the previous minimum y-coordinate
+	 */
+	public double getPreviousMinY() {
+		return layoutY + previousTranslateY;
+	}
+
+	/**
+	 * Returns the x-coordinate the actor was placed at.
+	 *
+	 * @return the layout x-coordinate
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Sets the x-coordinate the actor is placed at.
+	 *
+	 * @param layoutX the layout x-coordinate
+	 */
+	public void setLayoutX(double layoutX) {
+		this.layoutX = layoutX;
+	}
+
+	/**
+	 * Returns the y-coordinate the actor was placed at.
+	 *
+	 * @return the layout y-coordinate
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Sets the y-coordinate the actor is placed at.
+	 *
+	 * @param layoutY the layout y-coordinate
+	 */
+	public void setLayoutY(double layoutY) {
+		this.layoutY = layoutY;
+	}
+
+	/**
+	 * Returns the horizontal distance the actor has moved from its layout position.
+	 *
+	 * @return the x translation
+	 */
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	/**
+	 * Sets the horizontal distance the actor has moved from its layout position.
+	 *
+	 * @param translateX the x translation
+	 */
+	public void setTranslateX(double translateX) {
+		this.translateX = translateX;
+	}
+
+	/**
+	 * Returns the vertical distance the actor has moved from its layout position.
+	 *
+	 * @return the y translation
+	 */
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	/**
+	 * Sets the vertical distance the actor has moved from its layout position.
+	 *
+	 * @param translateY the y translation
+	 */
+	public void setTranslateY(double translateY) {
+		this.translateY = translateY;
+	}
+
+	/**
+	 * Returns the x translation recorded at the start of the current tick.
+	 *
+	 * @return the previous x translation
+	 */
+	public double getPreviousTranslateX() {
+		return previousTranslateX;
+	}
+
+	/**
+	 * Returns the y translation recorded at the start of the current tick.
+	 *
+	 * @return the previous y translation
+	 */
+	public double getPreviousTranslateY() {
+		return previousTranslateY;
+	}
 }
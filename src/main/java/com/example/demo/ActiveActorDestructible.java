@@ -11,6 +11,12 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	/** A flag indicating whether the actor has been destroyed. */
 	private boolean isDestroyed;
 
+	/** The pool this actor is returned to once it has been removed from the level, or null if it is not pooled. */
+	private ActorPool<?> pool;
+
+	/** A flag indicating whether the actor is currently waiting in its pool. */
+	private boolean isPooled;
+
 	/**
 	 * Constructs an ActiveActorDestructible with the specified image, size, and initial position.
 	 *
@@ -52,6 +58,49 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		setDestroyed(true);
 	}
 
+	/**
+	 * Reinitialises the actor so that it can be reused as if it had just been constructed at the given position.
+	 * Subclasses holding additional per-life state must override this method and call the superclass version.
+	 *
+	 * @param initialXPos the new initial x-coordinate of the actor on the screen
+	 * @param initialYPos the new initial y-coordinate of the actor on the screen
+	 */
+	public void reset(double initialXPos, double initialYPos) {
+		setLayoutX(initialXPos);
+		setLayoutY(initialYPos);
+		setTranslateX(0);
+		setTranslateY(0);
+		savePreviousPosition();
+		setDestroyed(false);
+	}
+
+	/**
+	 * Returns the actor to the pool it was acquired from. Actors that were not created by a pool are left
+	 * for the garbage collector.
+	 */
+	public void recycle() {
+		if (pool != null && !isPooled) {
+			isPooled = true;
+			pool.release(this);
+		}
+	}
+
+	/**
+	 * Associates the actor with the pool that created it.
+	 *
+	 * @param pool the owning pool
+	 */
+	void setPool(ActorPool<?> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Marks the actor as taken out of its pool.
+	 */
+	void markAcquired() {
+		isPooled = false;
+	}
+
 	/**
 	 * Sets the destroyed status of the actor.
 	 *
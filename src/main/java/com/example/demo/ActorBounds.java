@@ -0,0 +1,328 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The ActorBounds class caches the hitboxes of a list of actors, or of the projectiles in a
+ * {@link ProjectileStore}, for one collision pass.
+ * Each actor's bounds are computed once per tick instead of once per tested pair. A hitbox is the tight box of
+ * the opaque pixels of the actor's {@link SpriteMask}, not its whole image; the mask and the actor's top-left
+ * corner are kept alongside it for the pixel-accurate narrowphase.
+ * <p>
+ * Collisions are continuous: each hitbox also records how far it moved during the tick, and two hitboxes collide
+ * if they meet anywhere along their paths, at a time of impact between 0 (the start of the tick) and 1 (its
+ * end). Fast projectiles therefore cannot pass through thin targets between two ticks. The box reported by
+ * {@link #getMinX(int)} and the other getters is the box swept along the path, which is what the broadphase
+ * inserts and queries.
+ */
+public class ActorBounds {
+
+	/** The time of impact reported for two hitboxes that do not meet during the tick. */
+	public static final double NO_IMPACT = Double.POSITIVE_INFINITY;
+
+	/** The initial number of actors the cache can hold before growing. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The hitbox of each actor swept from its position at the start of the tick to its position at the end. */
+	private double[] minX;
+	private double[] minY;
+	private double[] maxX;
+	private double[] maxY;
+
+	/** The distance each actor moved during the tick. */
+	private double[] moveX;
+	private double[] moveY;
+
+	private double[] originX;
+	private double[] originY;
+	private SpriteMask[] masks;
+	private int count;
+
+	/**
+	 * Constructs an empty ActorBounds cache.
+	 */
+	public ActorBounds() {
+		minX = new double[INITIAL_CAPACITY];
+		minY = new double[INITIAL_CAPACITY];
+		maxX = new double[INITIAL_CAPACITY];
+		maxY = new double[INITIAL_CAPACITY];
+		moveX = new double[INITIAL_CAPACITY];
+		moveY = new double[INITIAL_CAPACITY];
+		originX = new double[INITIAL_CAPACITY];
+		originY = new double[INITIAL_CAPACITY];
+		masks = new SpriteMask[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Replaces the cached bounds with the current hitboxes of the given actors, in list order, and their
+	 * movement since the start of the tick.
+	 *
+	 * @param actors the actors whose bounds are captured
+	 */
+	public void capture(List<ActiveActorDestructible> actors) {
+		count = 0;
+		ensureCapacity(actors.size());
+		for (ActiveActorDestructible actor : actors) {
+			set(count++, actor.getMinX(), actor.getMinY(), actor.getPreviousMinX(), actor.getPreviousMinY(),
+					actor.getMask());
+		}
+	}
+
+	/**
+	 * Replaces the cached bounds with the current hitboxes of the projectiles in a store, in store order, and
+	 * their movement since the start of the tick.
+	 *
+	 * @param projectiles the projectiles whose bounds are captured
+	 */
+	public void capture(ProjectileStore projectiles) {
+		prepare(projectiles.size());
+		capture(projectiles, 0, count);
+	}
+
+	/**
+	 * Sizes the cache for the given number of boxes, to be filled by range with
+	 * {@link #capture(ProjectileStore, int, int)}.
+	 *
+	 * @param size the number of boxes the cache will hold
+	 */
+	public void prepare(int size) {
+		count = size;
+		ensureCapacity(size);
+	}
+
+	/**
+	 * Captures the hitboxes of the projectiles of a range of indices of a store, into the same indices of a cache
+	 * sized with {@link #prepare(int)}. Ranges that do not overlap may be captured from different threads at once.
+	 *
+	 * @param projectiles the projectiles whose bounds are captured
+	 * @param from the first index to capture
+	 * @param to one past the last index to capture
+	 */
+	public void capture(ProjectileStore projectiles, int from, int to) {
+		for (int i = from; i < to; i++) {
+			set(i, projectiles.getMinX(i), projectiles.getMinY(i), projectiles.getPreviousMinX(i),
+					projectiles.getPreviousMinY(i), projectiles.getType(i).getMask());
+		}
+	}
+
+	/**
+	 * Appends the hitbox of a sprite with the given mask and top-left corners at the end and start of the tick,
+	 * for sprites held by no actor list or projectile store.
+	 *
+	 * @param x the x-coordinate of the sprite's top-left corner at the end of the tick
+	 * @param y the y-coordinate of the sprite's top-left corner at the end of the tick
+	 * @param previousX the x-coordinate of the sprite's top-left corner at the start of the tick
+	 * @param previousY the y-coordinate of the sprite's top-left corner at the start of the tick
+	 * @param mask the sprite's mask
+	 */
+	void add(double x, double y, double previousX, double previousY, SpriteMask mask) {
+		ensureCapacity(count + 1);
+		set(count++, x, y, previousX, previousY, mask);
+	}
+
+	/**
+	 * Finds the earliest time during the tick at which a cached hitbox meets a hitbox cached by another
+	 * ActorBounds, both moving in a straight line from their start-of-tick positions. Touching edges count as
+	 * meeting, matching {@link ActiveActor#intersects(ActiveActor)}. With pixel accuracy, the masks are compared
+	 * along the stretch of the paths where the hitboxes overlap, about one pixel of relative movement apart, and
+	 * the first overlapping sample is reported.
+	 *
+	 * @param index the index of the hitbox in this cache
+	 * @param other the cache holding the other hitbox
+	 * @param otherIndex the index of the other hitbox
+	 * @param pixelAccurate true to require the masks to overlap, not just the hitboxes
+	 * @return the time of impact, from 0 at the start of the tick to 1 at its end, or {@link #NO_IMPACT}
+	 */
+	public double timeOfImpact(int index, ActorBounds other, int otherIndex, boolean pixelAccurate) {
+		if (isEmpty(index) || other.isEmpty(otherIndex)
+				|| other.maxX[otherIndex] < minX[index] || other.maxY[otherIndex] < minY[index]
+				|| other.minX[otherIndex] > maxX[index] || other.minY[otherIndex] > maxY[index]) {
+			// Paths whose swept boxes are apart cannot meet; most broadphase candidates stop here.
+			return NO_IMPACT;
+		}
+		// Move the other box relative to this one, both starting where they were at the start of the tick.
+		double relativeX = other.moveX[otherIndex] - moveX[index];
+		double relativeY = other.moveY[otherIndex] - moveY[index];
+		double startGapLeft = startMinX(index) - other.startMaxX(otherIndex);
+		double startGapRight = startMaxX(index) - other.startMinX(otherIndex);
+		double startGapTop = startMinY(index) - other.startMaxY(otherIndex);
+		double startGapBottom = startMaxY(index) - other.startMinY(otherIndex);
+		double enterX;
+		double exitX;
+		if (relativeX == 0) {
+			if (startGapLeft > 0 || startGapRight < 0) {
+				return NO_IMPACT;
+			}
+			enterX = Double.NEGATIVE_INFINITY;
+			exitX = Double.POSITIVE_INFINITY;
+		} else {
+			enterX = Math.min(startGapLeft / relativeX, startGapRight / relativeX);
+			exitX = Math.max(startGapLeft / relativeX, startGapRight / relativeX);
+		}
+		double enterY;
+		double exitY;
+		if (relativeY == 0) {
+			if (startGapTop > 0 || startGapBottom < 0) {
+				return NO_IMPACT;
+			}
+			enterY = Double.NEGATIVE_INFINITY;
+			exitY = Double.POSITIVE_INFINITY;
+		} else {
+			enterY = Math.min(startGapTop / relativeY, startGapBottom / relativeY);
+			exitY = Math.max(startGapTop / relativeY, startGapBottom / relativeY);
+		}
+		double enter = Math.max(Math.max(enterX, enterY), 0);
+		double exit = Math.min(Math.min(exitX, exitY), 1);
+		if (enter > exit) {
+			return NO_IMPACT;
+		}
+		if (!pixelAccurate) {
+			return enter;
+		}
+		int steps = (int) Math.ceil(Math.hypot(relativeX, relativeY) * (exit - enter));
+		for (int step = 0; step <= steps; step++) {
+			double time = steps == 0 ? enter : enter + (exit - enter) * step / steps;
+			if (masksOverlap(index, other, otherIndex, time)) {
+				return time;
+			}
+		}
+		return NO_IMPACT;
+	}
+
+	/**
+	 * Returns the number of cached boxes.
+	 *
+	 * @return the number of actors captured
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Returns the minimum x-coordinate of a cached box, swept along its path during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the minimum x-coordinate
+	 */
+	public double getMinX(int index) {
+		return minX[index];
+	}
+
+	/**
+	 * Returns the minimum y-coordinate of a cached box, swept along its path during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the minimum y-coordinate
+	 */
+	public double getMinY(int index) {
+		return minY[index];
+	}
+
+	/**
+	 * Returns the maximum x-coordinate of a cached box, swept along its path during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the maximum x-coordinate
+	 */
+	public double getMaxX(int index) {
+		return maxX[index];
+	}
+
+	/**
+	 * Returns the maximum y-coordinate of a cached box, swept along its path during the tick.
+	 *
+	 * @param index the index of the box
+	 * @return the maximum y-coordinate
+	 */
+	public double getMaxY(int index) {
+		return maxY[index];
+	}
+
+	/**
+	 * Returns the left edge of a cached hitbox at the start of the tick.
+	 */
+	private double startMinX(int index) {
+		return minX[index] + Math.max(-moveX[index], 0);
+	}
+
+	/**
+	 * Returns the right edge of a cached hitbox at the start of the tick.
+	 */
+	private double startMaxX(int index) {
+		return maxX[index] - Math.max(moveX[index], 0);
+	}
+
+	/**
+	 * Returns the top edge of a cached hitbox at the start of the tick.
+	 */
+	private double startMinY(int index) {
+		return minY[index] + Math.max(-moveY[index], 0);
+	}
+
+	/**
+	 * Returns the bottom edge of a cached hitbox at the start of the tick.
+	 */
+	private double startMaxY(int index) {
+		return maxY[index] - Math.max(moveY[index], 0);
+	}
+
+	/**
+	 * Checks whether the masks of two sprites overlap at the given time of the tick. The masks are aligned on
+	 * the nearest whole pixel.
+	 */
+	private boolean masksOverlap(int index, ActorBounds other, int otherIndex, double time) {
+		double remaining = 1 - time;
+		double x = originX[index] - moveX[index] * remaining;
+		double y = originY[index] - moveY[index] * remaining;
+		double otherX = other.originX[otherIndex] - other.moveX[otherIndex] * remaining;
+		double otherY = other.originY[otherIndex] - other.moveY[otherIndex] * remaining;
+		int offsetX = (int) Math.round(otherX - x);
+		int offsetY = (int) Math.round(otherY - y);
+		return masks[index].overlaps(other.masks[otherIndex], offsetX, offsetY);
+	}
+
+	/**
+	 * Caches the hitbox of a sprite with the given top-left corners at the end and start of the tick, and mask.
+	 * A fully transparent sprite keeps its empty box, unswept, so that it never collides.
+	 */
+	private void set(int index, double x, double y, double previousX, double previousY, SpriteMask mask) {
+		double dx = mask.isEmpty() ? 0 : x - previousX;
+		double dy = mask.isEmpty() ? 0 : y - previousY;
+		originX[index] = x;
+		originY[index] = y;
+		moveX[index] = dx;
+		moveY[index] = dy;
+		masks[index] = mask;
+		minX[index] = x + mask.getMinX() - Math.max(dx, 0);
+		minY[index] = y + mask.getMinY() - Math.max(dy, 0);
+		maxX[index] = x + mask.getMaxX() - Math.min(dx, 0);
+		maxY[index] = y + mask.getMaxY() - Math.min(dy, 0);
+	}
+
+	/**
+	 * Checks whether a cached box is empty, that is, has a negative width or height.
+	 */
+	private boolean isEmpty(int index) {
+		return maxX[index] < minX[index] || maxY[index] < minY[index];
+	}
+
+	/**
+	 * Grows the backing arrays so that they can hold at least the given number of boxes.
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity <= minX.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, minX.length * 2);
+		minX = Arrays.copyOf(minX, newCapacity);
+		minY = Arrays.copyOf(minY, newCapacity);
+		maxX = Arrays.copyOf(maxX, newCapacity);
+		maxY = Arrays.copyOf(maxY, newCapacity);
+		moveX = Arrays.copyOf(moveX, newCapacity);
+		moveY = Arrays.copyOf(moveY, newCapacity);
+		originX = Arrays.copyOf(originX, newCapacity);
+		originY = Arrays.copyOf(originY, newCapacity);
+		masks = Arrays.copyOf(masks, newCapacity);
+	}
+}
@@ -0,0 +1,90 @@
+package com.example.demo;
+
+/**
+ * The ActorLifetime class retires the projectiles of a {@link ProjectileStore} that can no longer affect the game:
+ * projectiles that have left the playfield by more than a margin, and projectiles that have outlived a maximum
+ * age. Retired projectiles are destroyed so that the level removes them in its regular clean-up pass.
+ */
+public class ActorLifetime {
+
+	/** The width of the playfield. */
+	private final double playfieldWidth;
+
+	/** The height of the playfield. */
+	private final double playfieldHeight;
+
+	/** How far outside the playfield an actor may travel before it is retired. */
+	private double margin;
+
+	/** The number of ticks an actor may live before it is retired. */
+	private int maxAgeInTicks;
+
+	/**
+	 * Constructs an ActorLifetime for a playfield of the given size.
+	 *
+	 * @param playfieldWidth the width of the playfield
+	 * @param playfieldHeight the height of the playfield
+	 * @param margin how far outside the playfield an actor may travel before it is retired
+	 * @param maxAgeInTicks the number of ticks an actor may live before it is retired
+	 */
+	public ActorLifetime(double playfieldWidth, double playfieldHeight, double margin, int maxAgeInTicks) {
+		this.playfieldWidth = playfieldWidth;
+		this.playfieldHeight = playfieldHeight;
+		setMargin(margin);
+		setMaxAgeInTicks(maxAgeInTicks);
+	}
+
+	/**
+	 * Ages the live projectiles of a range of indices of a store by one tick and destroys those that are off the
+	 * playfield or too old. Ranges that do not overlap may be checked from different threads at once.
+	 *
+	 * @param projectiles the projectiles to check
+	 * @param from the first index to check
+	 * @param to one past the last index to check
+	 */
+	public void retireExpired(ProjectileStore projectiles, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (projectiles.isDestroyed(i)) {
+				continue;
+			}
+			if (projectiles.incrementAge(i) > maxAgeInTicks
+					|| isOutsidePlayfield(projectiles.getMinX(i), projectiles.getMinY(i), projectiles.getMaxX(i),
+							projectiles.getMaxY(i))) {
+				projectiles.destroy(i);
+			}
+		}
+	}
+
+	/**
+	 * Sets how far outside the playfield an actor may travel before it is retired.
+	 *
+	 * @param margin the margin in pixels
+	 * @throws IllegalArgumentException if the margin is negative
+	 */
+	public void setMargin(double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Margin must not be negative: " + margin);
+		}
+		this.margin = margin;
+	}
+
+	/**
+	 * Sets the number of ticks an actor may live before it is retired.
+	 *
+	 * @param maxAgeInTicks the maximum age in ticks
+	 * @throws IllegalArgumentException if the maximum age is not positive
+	 */
+	public void setMaxAgeInTicks(int maxAgeInTicks) {
+		if (maxAgeInTicks <= 0) {
+			throw new IllegalArgumentException("Maximum age must be positive: " + maxAgeInTicks);
+		}
+		this.maxAgeInTicks = maxAgeInTicks;
+	}
+
+	/**
+	 * Checks whether a bounding box lies entirely outside the playfield extended by the margin.
+	 */
+	private boolean isOutsidePlayfield(double minX, double minY, double maxX, double maxY) {
+		return maxX < -margin || minX > playfieldWidth + margin || maxY < -margin || minY > playfieldHeight + margin;
+	}
+}
@@ -0,0 +1,191 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The ActorPool class keeps destroyed actors of one type so that they can be reset and reused instead of
+ * being allocated again. Actors created by a pool return to it through {@link ActiveActorDestructible#recycle()}
+ * once the level has removed them from the scene.
+ *
+ * @param <T> the type of actor held by the pool
+ */
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	/** The name of the pool, used in reports. */
+	private final String name;
+
+	/** Creates a new actor when the pool is empty. */
+	private final Supplier<T> factory;
+
+	/** The actors waiting to be reused. */
+	private final ArrayDeque<T> freeActors;
+
+	/** The number of actors currently handed out by the pool. */
+	private int actorsInUse;
+
+	/** The largest number of actors that have been in use at the same time. */
+	private int highWaterMark;
+
+	/** The number of acquisitions served by the pool. */
+	private long acquisitions;
+
+	/** The number of acquisitions that had to allocate a new actor because the pool was empty. */
+	private long allocationMisses;
+
+	/**
+	 * Constructs an empty ActorPool.
+	 *
+	 * @param name the name of the pool, used in reports
+	 * @param factory creates a new actor when no pooled actor is available
+	 */
+	public ActorPool(String name, Supplier<T> factory) {
+		this.name = name;
+		this.factory = factory;
+		this.freeActors = new ArrayDeque<>();
+	}
+
+	/**
+	 * Takes an actor out of the pool, or creates one if the pool is empty, and resets it to the given position.
+	 *
+	 * @param initialXPos the initial x-coordinate of the actor
+	 * @param initialYPos the initial y-coordinate of the actor
+	 * @return an actor ready to be added to the level
+	 */
+	public T acquire(double initialXPos, double initialYPos) {
+		T actor = freeActors.poll();
+		if (actor == null) {
+			actor = factory.get();
+			actor.setPool(this);
+			allocationMisses++;
+		}
+		actor.markAcquired();
+		actor.reset(initialXPos, initialYPos);
+		acquisitions++;
+		actorsInUse++;
+		highWaterMark = Math.max(highWaterMark, actorsInUse);
+		return actor;
+	}
+
+	/**
+	 * Creates actors up front so that the first acquisitions do not allocate.
+	 *
+	 * @param count the number of actors the pool should hold
+	 */
+	public void prewarm(int count) {
+		while (freeActors.size() < count) {
+			T actor = factory.get();
+			actor.setPool(this);
+			actorsInUse++;
+			actor.recycle();
+		}
+	}
+
+	/**
+	 * Creates actors for the pool without touching its state, so that they can be built on a background thread
+	 * and handed over later with {@link #prewarm(List)}.
+	 *
+	 * @param count the number of actors to create
+	 * @return the new actors, not yet in the pool
+	 */
+	public List<T> createSpares(int count) {
+		List<T> spares = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			T actor = factory.get();
+			actor.setPool(this);
+			spares.add(actor);
+		}
+		return spares;
+	}
+
+	/**
+	 * Tops the pool up to as many free actors as there are spares, taking them from the spares instead of
+	 * creating new ones. Spares that are not needed are dropped.
+	 *
+	 * @param spares actors created by {@link #createSpares(int)}
+	 */
+	public void prewarm(List<T> spares) {
+		int target = spares.size();
+		for (int i = 0; freeActors.size() < target; i++) {
+			actorsInUse++;
+			spares.get(i).recycle();
+		}
+	}
+
+	/**
+	 * Returns an actor to the pool. Called by {@link ActiveActorDestructible#recycle()}.
+	 *
+	 * @param actor the actor to return
+	 */
+	@SuppressWarnings("unchecked")
+	void release(ActiveActorDestructible actor) {
+		freeActors.push((T) actor);
+		actorsInUse--;
+	}
+
+	/**
+	 * Returns the name of the pool.
+	 *
+	 * @return the pool name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of actors waiting to be reused.
+	 *
+	 * @return the number of free actors
+	 */
+	public int getFreeCount() {
+		return freeActors.size();
+	}
+
+	/**
+	 * Returns the number of actors currently in use.
+	 *
+	 * @return the number of actors handed out and not yet recycled
+	 */
+	public int getInUseCount() {
+		return actorsInUse;
+	}
+
+	/**
+	 * Returns the largest number of actors that have been in use at the same time.
+	 *
+	 * @return the high-water mark
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Returns the number of acquisitions served by the pool.
+	 *
+	 * @return the acquisition count
+	 */
+	public long getAcquisitions() {
+		return acquisitions;
+	}
+
+	/**
+	 * Returns the number of acquisitions that had to allocate a new actor.
+	 *
+	 * @return the allocation miss count
+	 */
+	public long getAllocationMisses() {
+		return allocationMisses;
+	}
+
+	/**
+	 * Builds a one-line summary of the pool statistics.
+	 *
+	 * @return the pool report
+	 */
+	public String report() {
+		return String.format("%s: %d in use, %d free, high-water %d, %d acquired, %d allocation misses",
+				name, actorsInUse, freeActors.size(), highWaterMark, acquisitions, allocationMisses);
+	}
+}
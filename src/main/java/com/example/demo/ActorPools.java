@@ -0,0 +1,47 @@
+package com.example.demo;
+
+import java.util.List;
+
+/**
+ * The ActorPools class holds the shared pools for the actors that are spawned and destroyed continuously
+ * during a level: regular enemy planes. Projectiles are not pooled objects; they live in each level's
+ * {@link ProjectileStore}s.
+ */
+public final class ActorPools {
+
+	/** Pool of regular enemy planes. */
+	public static final ActorPool<EnemyPlane> ENEMY_PLANES =
+			new ActorPool<>("EnemyPlane", () -> new EnemyPlane(0, 0));
+
+	/** All pools, in reporting order. */
+	private static final List<ActorPool<?>> ALL_POOLS =
+			List.of(ENEMY_PLANES);
+
+	/**
+	 * Prevents instantiation; the pools are accessed through the static fields.
+	 */
+	private ActorPools() {
+	}
+
+	/**
+	 * Returns every shared actor pool.
+	 *
+	 * @return an unmodifiable list of the pools
+	 */
+	public static List<ActorPool<?>> getAll() {
+		return ALL_POOLS;
+	}
+
+	/**
+	 * Builds a summary of the statistics of every pool, one pool per line.
+	 *
+	 * @return the pool report
+	 */
+	public static String report() {
+		StringBuilder report = new StringBuilder();
+		for (ActorPool<?> pool : ALL_POOLS) {
+			report.append(pool.report()).append(System.lineSeparator());
+		}
+		return report.toString();
+	}
+}
@@ -0,0 +1,27 @@
+package com.example.demo;
+
+/**
+ * The ActorRenderer interface is implemented by the view layers that mirror a level's simulated actors on screen.
+ * Renderers never read the live actors: the level captures each tick it wants drawn into a {@link FrameSnapshot},
+ * listing every actor and projectile in play with the {@link SceneLayer} of its category, and the renderer draws
+ * whichever snapshot it is handed, adding and removing its own nodes as actors appear in and vanish from the
+ * snapshots. The simulation may therefore run on another thread than the renderer, which always runs on the
+ * JavaFX application thread. A level without a renderer, for example one simulated headlessly, uses
+ * {@link #NONE}.
+ */
+public interface ActorRenderer {
+
+	/** A renderer that draws nothing, used when a level runs without a scene. */
+	ActorRenderer NONE = new ActorRenderer() {
+	};
+
+	/**
+	 * Draws every actor and projectile of a snapshot between its previous and current simulated position.
+	 *
+	 * @param frame the snapshot to draw
+	 * @param alpha the fraction of a tick elapsed since the captured tick, where 0 draws the previous position
+	 *              and 1 the current one
+	 */
+	default void render(FrameSnapshot frame, double alpha) {
+	}
+}
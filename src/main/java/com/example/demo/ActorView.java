@@ -0,0 +1,46 @@
+package com.example.demo;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * The ActorView class is the on-screen image of an {@link ActiveActor}, showing the actor's region of the
+ * {@link SpriteAtlas}. It holds no game state of its own: its position is copied from each {@link FrameSnapshot}
+ * drawn, never from the actor itself.
+ */
+public class ActorView extends ImageView {
+
+	/** The actor mirrored by this view. */
+	private final ActiveActor actor;
+
+	/**
+	 * Constructs an ActorView showing the actor's sprite at the actor's size.
+	 *
+	 * @param actor the actor to mirror
+	 */
+	public ActorView(ActiveActor actor) {
+		this.actor = actor;
+		SpriteAtlas.getRegion(actor.getImageName()).applyTo(this);
+		this.setFitWidth(actor.getImageWidth());
+		this.setFitHeight(actor.getImageHeight());
+	}
+
+	/**
+	 * Moves the view's top-left corner to the given position.
+	 *
+	 * @param x the x-coordinate of the top-left corner
+	 * @param y the y-coordinate of the top-left corner
+	 */
+	public void moveTo(double x, double y) {
+		setLayoutX(x);
+		setLayoutY(y);
+	}
+
+	/**
+	 * Returns the actor mirrored by this view.
+	 *
+	 * @return the actor
+	 */
+	public ActiveActor getActor() {
+		return actor;
+	}
+}
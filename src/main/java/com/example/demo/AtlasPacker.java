@@ -0,0 +1,163 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The AtlasPacker class bins sprites into square pages with a shelf algorithm. Sprites are placed tallest
+ * first, left to right along horizontal shelves; a new shelf starts below the tallest sprite of the current one
+ * when a sprite no longer fits across, and a new page starts when a shelf no longer fits below. The packer only
+ * computes the layout, so it runs without decoding any image.
+ */
+public class AtlasPacker {
+
+	/**
+	 * The position of one sprite in the packed atlas.
+	 */
+	public static final class Placement {
+
+		/** The sprite placed. */
+		private final SpriteDefinition sprite;
+
+		/** The index of the page holding the sprite. */
+		private final int page;
+
+		/** The left edge of the sprite in its page. */
+		private final int x;
+
+		/** The top edge of the sprite in its page. */
+		private final int y;
+
+		/**
+		 * Constructs a Placement.
+		 *
+		 * @param sprite the sprite placed
+		 * @param page the index of the page holding the sprite
+		 * @param x the left edge of the sprite in its page
+		 * @param y the top edge of the sprite in its page
+		 */
+		private Placement(SpriteDefinition sprite, int page, int x, int y) {
+			this.sprite = sprite;
+			this.page = page;
+			this.x = x;
+			this.y = y;
+		}
+
+		/**
+		 * Returns the sprite placed.
+		 *
+		 * @return the sprite definition
+		 */
+		public SpriteDefinition getSprite() {
+			return sprite;
+		}
+
+		/**
+		 * Returns the index of the page holding the sprite.
+		 *
+		 * @return the page index
+		 */
+		public int getPage() {
+			return page;
+		}
+
+		/**
+		 * Returns the left edge of the sprite in its page.
+		 *
+		 * @return the x-coordinate in pixels
+		 */
+		public int getX() {
+			return x;
+		}
+
+		/**
+		 * Returns the top edge of the sprite in its page.
+		 *
+		 * @return the y-coordinate in pixels
+		 */
+		public int getY() {
+			return y;
+		}
+	}
+
+	/** The maximum width and height of a page. */
+	private final int pageSize;
+
+	/** The empty space kept around each sprite, so that smoothing does not bleed neighbours into it. */
+	private final int padding;
+
+	/**
+	 * Constructs an AtlasPacker.
+	 *
+	 * @param pageSize the maximum width and height of a page
+	 * @param padding the empty space kept around each sprite
+	 * @throws IllegalArgumentException if the page size is not positive or the padding is negative
+	 */
+	public AtlasPacker(int pageSize, int padding) {
+		if (pageSize <= 0 || padding < 0) {
+			throw new IllegalArgumentException("Invalid page size or padding: " + pageSize + ", " + padding);
+		}
+		this.pageSize = pageSize;
+		this.padding = padding;
+	}
+
+	/**
+	 * Packs the sprites into as few pages as the shelf algorithm needs. Sprites of equal height keep their
+	 * relative order, so the same sprites always produce the same layout.
+	 *
+	 * @param sprites the sprites to pack
+	 * @return the placement of every sprite, in packing order
+	 * @throws IllegalArgumentException if a sprite does not fit on a page
+	 */
+	public List<Placement> pack(List<SpriteDefinition> sprites) {
+		List<SpriteDefinition> ordered = new ArrayList<>(sprites);
+		ordered.sort(Comparator.comparingInt(SpriteDefinition::getHeight).reversed());
+		List<Placement> placements = new ArrayList<>(ordered.size());
+		int page = 0;
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		for (SpriteDefinition sprite : ordered) {
+			int width = sprite.getWidth() + 2 * padding;
+			int height = sprite.getHeight() + 2 * padding;
+			if (width > pageSize || height > pageSize) {
+				throw new IllegalArgumentException("Sprite does not fit on a " + pageSize + " pixel page: "
+						+ sprite.getName());
+			}
+			if (shelfX + width > pageSize) {
+				shelfX = 0;
+				shelfY += shelfHeight;
+				shelfHeight = 0;
+			}
+			if (shelfY + height > pageSize) {
+				page++;
+				shelfX = 0;
+				shelfY = 0;
+				shelfHeight = 0;
+			}
+			placements.add(new Placement(sprite, page, shelfX + padding, shelfY + padding));
+			shelfX += width;
+			shelfHeight = Math.max(shelfHeight, height);
+		}
+		return placements;
+	}
+
+	/**
+	 * Returns the empty space kept around each sprite.
+	 *
+	 * @return the padding in pixels
+	 */
+	public int getPadding() {
+		return padding;
+	}
+
+	/**
+	 * Returns the maximum width and height of a page.
+	 *
+	 * @return the page size in pixels
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+}
@@ -13,6 +13,7 @@ public class Boss extends FighterPlane {
 	private static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
+	private static final double PROJECTILE_X_POSITION = 950;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 	private static final double BOSS_FIRE_RATE = .04;
 	private static final double BOSS_SHIELD_PROBABILITY = .002;
@@ -36,9 +37,12 @@ public class Boss extends FighterPlane {
 	/**
 	 * Constructs a Boss object with default attributes, initializes movement
 	 * pattern, and sets shield and move tracking variables.
+	 *
+	 * @param randomSource the random numbers of the level the boss appears in
 	 */
-	public Boss() {
+	public Boss(RandomSource randomSource) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		setRandomSource(randomSource);
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
@@ -47,6 +51,13 @@ public class Boss extends FighterPlane {
 		initializeMovePattern();
 	}
 
+	/**
+	 * Resolves the boss sprite in the sprite atlas ahead of the first spawn.
+	 */
+	public static void preload() {
+		preloadSprite(IMAGE_NAME);
+	}
+
 	/**
 	 * Updates the position of the boss based on its movement pattern. Prevents
 	 * movement beyond the screen's upper and lower bounds.
@@ -73,11 +84,16 @@ public class Boss extends FighterPlane {
 	/**
 	 * Fires a projectile if the boss's firing rate condition is met.
 	 *
-	 * @return a new BossProjectile if firing occurs, or null if not
+	 * @param projectiles the store the fireball is spawned into
+	 * @return true if firing occurs, false if not
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+	public boolean fireProjectile(ProjectileStore projectiles) {
+		if (!bossFiresInCurrentFrame()) {
+			return false;
+		}
+		projectiles.spawn(ProjectileType.BOSS, PROJECTILE_X_POSITION, getProjectileInitialPosition());
+		return true;
 	}
 
 	/**
@@ -92,7 +108,7 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Initializes the boss's movement pattern with a series of vertical moves
-	 * and shuffles them to create variation.
+	 * and shuffles them with the level's {@link RandomStream#BOSS_AI} stream to create variation.
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
@@ -100,7 +116,7 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		getRandomSource().shuffle(movePattern, RandomStream.BOSS_AI);
 	}
 
 	/**
@@ -124,7 +140,7 @@ public class Boss extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			getRandomSource().shuffle(movePattern, RandomStream.BOSS_AI);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -140,7 +156,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the boss should fire, false otherwise
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return getRandomSource().stream(RandomStream.BOSS_AI).nextDouble() < BOSS_FIRE_RATE;
 	}
 
 	/**
@@ -158,7 +174,7 @@ public class Boss extends FighterPlane {
 	 * @return true if the shield should activate, false otherwise
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return getRandomSource().stream(RandomStream.SHIELD).nextDouble() < BOSS_SHIELD_PROBABILITY;
 	}
 
 	/**
@@ -171,17 +187,20 @@ public class Boss extends FighterPlane {
 	}
 
 	/**
-	 * Activates the boss's shield.
+	 * Activates the boss's shield and publishes a {@link GameEventType#SHIELD_TOGGLED} event.
 	 */
 	private void activateShield() {
 		isShielded = true;
+		publishEvent(GameEventType.SHIELD_TOGGLED, 1);
 	}
 
 	/**
-	 * Deactivates the boss's shield and resets the activation duration.
+	 * Deactivates the boss's shield, resets the activation duration and publishes a
+	 * {@link GameEventType#SHIELD_TOGGLED} event.
 	 */
 	private void deactivateShield() {
 		isShielded = false;
 		framesWithShieldActivated = 0;
+		publishEvent(GameEventType.SHIELD_TOGGLED, 0);
 	}
 }
@@ -0,0 +1,191 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * The CanvasActorRenderer class draws every actor onto a single {@link Canvas} each frame, instead of keeping a
+ * scene-graph node per actor. Actors are drawn layer by layer in {@link SceneLayer} order; within a layer they are
+ * grouped into batches of the same {@link SpriteRegion}, and batches sharing an atlas page are drawn one after
+ * another, so consecutive draw calls rarely switch images. The projectiles of each store captured in the frame are
+ * drawn after the batches of their layer.
+ */
+public class CanvasActorRenderer implements ActorRenderer {
+
+	/** The number of actors a batch can hold before growing. */
+	private static final int INITIAL_BATCH_CAPACITY = 16;
+
+	/** Every layer, in drawing order. */
+	private static final SceneLayer[] LAYERS = SceneLayer.values();
+
+	/**
+	 * The actors of one layer drawn from the same sprite region.
+	 */
+	private static final class SpriteBatch {
+
+		/** The sprite region the actors are drawn from. */
+		private final SpriteRegion region;
+
+		/** The indices, in the frame being drawn, of the actors in the batch, in frame order. */
+		private int[] actors = new int[INITIAL_BATCH_CAPACITY];
+		private int count;
+
+		/**
+		 * Constructs an empty batch for a sprite region.
+		 *
+		 * @param region the sprite region the actors are drawn from
+		 */
+		private SpriteBatch(SpriteRegion region) {
+			this.region = region;
+		}
+
+		/**
+		 * Adds the actor at the given index of the frame to the batch.
+		 *
+		 * @param index the index of the actor in the frame
+		 */
+		private void add(int index) {
+			if (count == actors.length) {
+				actors = Arrays.copyOf(actors, count * 2);
+			}
+			actors[count++] = index;
+		}
+	}
+
+	/** The canvas the actors are drawn onto. */
+	private final Canvas canvas;
+
+	/** The graphics context of the canvas. */
+	private final GraphicsContext graphics;
+
+	/** The batches of each layer, ordered so that batches sharing an image are adjacent. */
+	private final Map<SceneLayer, List<SpriteBatch>> batches;
+
+	/** The batch each actor that has been drawn belongs to. */
+	private final Map<ActiveActor, SpriteBatch> batchOfActor;
+
+	/** The sprite region of each projectile type, indexed by ordinal. */
+	private final SpriteRegion[] projectileRegions;
+
+	/**
+	 * Constructs a CanvasActorRenderer and adds its canvas, covering the screen, to the layers. The canvas is
+	 * placed in the lowest actor layer, {@link SceneLayer#ENEMIES}, and draws every actor layer itself.
+	 *
+	 * @param layers the scene layers
+	 * @param width the width of the screen
+	 * @param height the height of the screen
+	 */
+	public CanvasActorRenderer(SceneLayers layers, double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.batches = new EnumMap<>(SceneLayer.class);
+		this.batchOfActor = new IdentityHashMap<>();
+		for (SceneLayer layer : LAYERS) {
+			batches.put(layer, new ArrayList<>());
+		}
+		ProjectileType[] types = ProjectileType.values();
+		this.projectileRegions = new SpriteRegion[types.length];
+		for (ProjectileType type : types) {
+			projectileRegions[type.ordinal()] = SpriteAtlas.getRegion(type.getImageName());
+		}
+		canvas.setMouseTransparent(true);
+		layers.add(SceneLayer.ENEMIES, canvas);
+	}
+
+	/**
+	 * Sorts the actors of the frame into the batches of their sprites, clears the canvas and draws every actor at
+	 * its interpolated position, layer by layer and batch by batch, followed by the layer's projectiles. An actor
+	 * stays in the batch of the layer it was first drawn in.
+	 *
+	 * @param frame the snapshot to draw
+	 * @param alpha the fraction of a tick elapsed since the captured tick
+	 */
+	@Override
+	public void render(FrameSnapshot frame, double alpha) {
+		fillBatches(frame);
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		for (SceneLayer layer : LAYERS) {
+			List<SpriteBatch> layerBatches = batches.get(layer);
+			for (int b = 0; b < layerBatches.size(); b++) {
+				SpriteBatch batch = layerBatches.get(b);
+				SpriteRegion region = batch.region;
+				for (int i = 0; i < batch.count; i++) {
+					int index = batch.actors[i];
+					ActiveActorDestructible actor = frame.getActor(index);
+					graphics.drawImage(region.getImage(), region.getX(), region.getY(), region.getWidth(),
+							region.getHeight(), frame.interpolateActorX(index, alpha),
+							frame.interpolateActorY(index, alpha), actor.getImageWidth(), actor.getImageHeight());
+				}
+			}
+			for (int p = 0; p < frame.getProjectileLayerCount(); p++) {
+				FrameSnapshot.ProjectileLayer projectiles = frame.getProjectileLayer(p);
+				if (projectiles.getLayer() == layer) {
+					drawProjectiles(projectiles, alpha);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Empties every batch and adds each actor of the frame to the batch of its sprite, creating the batch the first
+	 * time the actor is drawn.
+	 */
+	private void fillBatches(FrameSnapshot frame) {
+		for (SceneLayer layer : LAYERS) {
+			List<SpriteBatch> layerBatches = batches.get(layer);
+			for (int b = 0; b < layerBatches.size(); b++) {
+				layerBatches.get(b).count = 0;
+			}
+		}
+		for (int i = 0; i < frame.getActorCount(); i++) {
+			ActiveActorDestructible actor = frame.getActor(i);
+			SpriteBatch batch = batchOfActor.get(actor);
+			if (batch == null) {
+				batch = findOrCreateBatch(frame.getActorLayer(i), SpriteAtlas.getRegion(actor.getImageName()));
+				batchOfActor.put(actor, batch);
+			}
+			batch.add(i);
+		}
+	}
+
+	/**
+	 * Draws every projectile of a store at its interpolated position.
+	 */
+	private void drawProjectiles(FrameSnapshot.ProjectileLayer projectiles, double alpha) {
+		for (int i = 0; i < projectiles.size(); i++) {
+			ProjectileType type = projectiles.getType(i);
+			SpriteRegion region = projectileRegions[type.ordinal()];
+			graphics.drawImage(region.getImage(), region.getX(), region.getY(), region.getWidth(),
+					region.getHeight(), projectiles.interpolateX(i, alpha), projectiles.interpolateY(i, alpha),
+					type.getImageWidth(), type.getImageHeight());
+		}
+	}
+
+	/**
+	 * Returns the batch of a sprite region in a layer, creating it next to the layer's other batches drawn from
+	 * the same image if it does not exist yet.
+	 */
+	private SpriteBatch findOrCreateBatch(SceneLayer layer, SpriteRegion region) {
+		List<SpriteBatch> layerBatches = batches.get(layer);
+		int insertAt = layerBatches.size();
+		for (int i = 0; i < layerBatches.size(); i++) {
+			SpriteBatch batch = layerBatches.get(i);
+			if (batch.region == region) {
+				return batch;
+			}
+			if (batch.region.getImage() == region.getImage()) {
+				insertAt = i + 1;
+			}
+		}
+		SpriteBatch batch = new SpriteBatch(region);
+		layerBatches.add(insertAt, batch);
+		return batch;
+	}
+}
@@ -0,0 +1,221 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The CollisionGrid class is a uniform-grid broadphase for collision detection. The boxes of one group of
+ * actors are inserted into the cells they overlap, and the boxes of another group then query the grid for
+ * candidates sharing at least one cell. Only those candidates need an exact intersection test.
+ * Cells are stored in a fixed-size spatial hash, so the grid covers an unbounded area and is rebuilt
+ * every tick without allocating.
+ * <p>
+ * Once built, the grid is only read by queries. Each {@link Query} keeps its own scratch buffers, so several
+ * threads can query the same grid at once, each through its own Query.
+ */
+public class CollisionGrid {
+
+	/** The number of hash buckets; must be a power of two. */
+	private static final int BUCKET_COUNT = 1024;
+
+	/** Marks the end of a bucket's entry chain. */
+	private static final int NO_ENTRY = -1;
+
+	/** The initial number of cell entries the grid can hold before growing. */
+	private static final int INITIAL_ENTRY_CAPACITY = 256;
+
+	/** Hash multipliers used to spread cell coordinates over the buckets. */
+	private static final int HASH_PRIME_X = 73856093;
+	private static final int HASH_PRIME_Y = 19349663;
+
+	/** The width and height of a cell. */
+	private double cellSize;
+
+	/** The first entry of each bucket. */
+	private final int[] bucketHeads;
+
+	/** The actor index, cell coordinates and next entry of each cell entry. */
+	private int[] entryActor;
+	private int[] entryCellX;
+	private int[] entryCellY;
+	private int[] entryNext;
+	private int entryCount;
+
+	/** The number of boxes inserted by the last build. */
+	private int builtCount;
+
+	/**
+	 * Constructs an empty CollisionGrid.
+	 *
+	 * @param cellSize the width and height of a grid cell
+	 */
+	public CollisionGrid(double cellSize) {
+		setCellSize(cellSize);
+		this.bucketHeads = new int[BUCKET_COUNT];
+		this.entryActor = new int[INITIAL_ENTRY_CAPACITY];
+		this.entryCellX = new int[INITIAL_ENTRY_CAPACITY];
+		this.entryCellY = new int[INITIAL_ENTRY_CAPACITY];
+		this.entryNext = new int[INITIAL_ENTRY_CAPACITY];
+		Arrays.fill(bucketHeads, NO_ENTRY);
+	}
+
+	/**
+	 * Changes the cell size used the next time the grid is built.
+	 *
+	 * @param cellSize the width and height of a grid cell
+	 * @throws IllegalArgumentException if the cell size is not positive
+	 */
+	public void setCellSize(double cellSize) {
+		if (!(cellSize > 0)) {
+			throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+		}
+		this.cellSize = cellSize;
+	}
+
+	/**
+	 * Returns the width and height of a grid cell.
+	 *
+	 * @return the cell size
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Clears the grid and inserts every box of the given cache into the cells it overlaps.
+	 *
+	 * @param bounds the boxes to insert; box indices are reported by {@link Query#run}
+	 */
+	public void build(ActorBounds bounds) {
+		Arrays.fill(bucketHeads, NO_ENTRY);
+		entryCount = 0;
+		int actorCount = bounds.size();
+		builtCount = actorCount;
+		for (int actor = 0; actor < actorCount; actor++) {
+			int firstCellX = toCell(bounds.getMinX(actor));
+			int lastCellX = toCell(bounds.getMaxX(actor));
+			int firstCellY = toCell(bounds.getMinY(actor));
+			int lastCellY = toCell(bounds.getMaxY(actor));
+			for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+				for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+					insert(actor, cellX, cellY);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a query with its own scratch buffers. Each thread querying the grid needs a query of its own.
+	 *
+	 * @return a new query
+	 */
+	public Query newQuery() {
+		return new Query();
+	}
+
+	/**
+	 * A reader of the grid: the scratch buffers of one sequence of queries. A Query must only be used by one
+	 * thread at a time.
+	 */
+	public final class Query {
+
+		/** The query number in which each actor was last reported, used to report every candidate once. */
+		private int[] actorStamps;
+		private int currentStamp;
+
+		/** The candidates found by the last query, in ascending index order. */
+		private int[] candidates;
+
+		/**
+		 * Constructs a Query with empty buffers, which grow with the grid.
+		 */
+		private Query() {
+			this.actorStamps = new int[0];
+			this.candidates = new int[0];
+		}
+
+		/**
+		 * Finds the boxes inserted by the last {@link CollisionGrid#build} that share at least one cell with a box
+		 * of another cache. The candidates are written to {@link Query#getCandidates()} in ascending index order,
+		 * without duplicates.
+		 *
+		 * @param bounds the cache holding the query box
+		 * @param index the index of the query box
+		 * @return the number of candidates found
+		 */
+		public int run(ActorBounds bounds, int index) {
+			if (actorStamps.length < builtCount) {
+				actorStamps = new int[Math.max(builtCount, actorStamps.length * 2)];
+				candidates = new int[actorStamps.length];
+				currentStamp = 0;
+			}
+			if (++currentStamp == 0) {
+				Arrays.fill(actorStamps, 0);
+				currentStamp = 1;
+			}
+			int candidateCount = 0;
+			int firstCellX = toCell(bounds.getMinX(index));
+			int lastCellX = toCell(bounds.getMaxX(index));
+			int firstCellY = toCell(bounds.getMinY(index));
+			int lastCellY = toCell(bounds.getMaxY(index));
+			for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+				for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+					for (int entry = bucketHeads[bucketOf(cellX, cellY)]; entry != NO_ENTRY;
+							entry = entryNext[entry]) {
+						int actor = entryActor[entry];
+						if (entryCellX[entry] == cellX && entryCellY[entry] == cellY
+								&& actorStamps[actor] != currentStamp) {
+							actorStamps[actor] = currentStamp;
+							candidates[candidateCount++] = actor;
+						}
+					}
+				}
+			}
+			Arrays.sort(candidates, 0, candidateCount);
+			return candidateCount;
+		}
+
+		/**
+		 * Returns the buffer holding the candidates found by the last {@link #run}. Only the number of entries
+		 * returned by {@link #run} are valid.
+		 *
+		 * @return the candidate buffer
+		 */
+		public int[] getCandidates() {
+			return candidates;
+		}
+	}
+
+	/**
+	 * Adds a cell entry for an actor to the bucket of its cell.
+	 */
+	private void insert(int actor, int cellX, int cellY) {
+		if (entryCount == entryActor.length) {
+			int newCapacity = entryActor.length * 2;
+			entryActor = Arrays.copyOf(entryActor, newCapacity);
+			entryCellX = Arrays.copyOf(entryCellX, newCapacity);
+			entryCellY = Arrays.copyOf(entryCellY, newCapacity);
+			entryNext = Arrays.copyOf(entryNext, newCapacity);
+		}
+		int bucket = bucketOf(cellX, cellY);
+		entryActor[entryCount] = actor;
+		entryCellX[entryCount] = cellX;
+		entryCellY[entryCount] = cellY;
+		entryNext[entryCount] = bucketHeads[bucket];
+		bucketHeads[bucket] = entryCount;
+		entryCount++;
+	}
+
+	/**
+	 * Converts a coordinate to the index of the cell containing it.
+	 */
+	private int toCell(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	/**
+	 * Maps cell coordinates to a hash bucket.
+	 */
+	private static int bucketOf(int cellX, int cellY) {
+		return ((cellX * HASH_PRIME_X) ^ (cellY * HASH_PRIME_Y)) & (BUCKET_COUNT - 1);
+	}
+}
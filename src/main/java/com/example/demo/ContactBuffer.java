@@ -0,0 +1,145 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The ContactBuffer class collects the contacts found by the detection phase of one collision pass, each as a
+ * pair of indices into the two groups of actors tested and the time of impact of the pair, so that the
+ * resolution phase can apply them in the order they happened during the tick rather than the order they were
+ * found in. The buffer is reused from pass to pass and only allocates when it has to grow.
+ */
+public class ContactBuffer {
+
+	/** The initial number of contacts the buffer can hold before growing. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The number of distinct times of impact a sort can tell apart. */
+	private static final double TIME_STEPS = Integer.MAX_VALUE;
+
+	/** The index of the actor in the first group of each contact. */
+	private int[] first;
+
+	/** The index of the actor in the second group of each contact. */
+	private int[] second;
+
+	/** The time of impact of each contact. */
+	private double[] times;
+
+	/** The contacts in sorted order, each as its time of impact in the high half and its index in the low half. */
+	private long[] order;
+
+	private int count;
+	private boolean sorted;
+
+	/**
+	 * Constructs an empty ContactBuffer.
+	 */
+	public ContactBuffer() {
+		first = new int[INITIAL_CAPACITY];
+		second = new int[INITIAL_CAPACITY];
+		times = new double[INITIAL_CAPACITY];
+		order = new long[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Removes every contact.
+	 */
+	public void clear() {
+		count = 0;
+		sorted = false;
+	}
+
+	/**
+	 * Adds a contact. Contacts must be added in ascending order of the first index and then the second, so that
+	 * {@link #sortByTime()} breaks ties between simultaneous contacts by their indices.
+	 *
+	 * @param firstIndex the index of the actor in the first group
+	 * @param secondIndex the index of the actor in the second group
+	 * @param time the time of impact, between 0 and 1
+	 */
+	public void add(int firstIndex, int secondIndex, double time) {
+		if (count == first.length) {
+			int newCapacity = count * 2;
+			first = Arrays.copyOf(first, newCapacity);
+			second = Arrays.copyOf(second, newCapacity);
+			times = Arrays.copyOf(times, newCapacity);
+			order = Arrays.copyOf(order, newCapacity);
+		}
+		first[count] = firstIndex;
+		second[count] = secondIndex;
+		times[count] = time;
+		count++;
+		sorted = false;
+	}
+
+	/**
+	 * Appends every contact of another buffer, in the order they were added to it. Buffers filled from
+	 * consecutive ranges of first indices and appended in range order give the same contacts, in the same order,
+	 * as one buffer filled over the whole range.
+	 *
+	 * @param other the buffer whose contacts are appended
+	 */
+	public void addAll(ContactBuffer other) {
+		for (int i = 0; i < other.count; i++) {
+			add(other.first[i], other.second[i], other.times[i]);
+		}
+	}
+
+	/**
+	 * Orders the contacts by time of impact. Contacts whose times cannot be told apart keep the order they
+	 * were added in, that is, ascending order of their indices, so the result does not depend on the sort.
+	 */
+	public void sortByTime() {
+		for (int i = 0; i < count; i++) {
+			order[i] = (long) (times[i] * TIME_STEPS) << Integer.SIZE | i;
+		}
+		Arrays.sort(order, 0, count);
+		sorted = true;
+	}
+
+	/**
+	 * Returns the number of contacts.
+	 *
+	 * @return the contact count
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Returns the first actor of a contact, in sorted order once {@link #sortByTime()} has been called.
+	 *
+	 * @param rank the position of the contact
+	 * @return the index of the actor in the first group
+	 */
+	public int getFirst(int rank) {
+		return first[indexOf(rank)];
+	}
+
+	/**
+	 * Returns the second actor of a contact, in sorted order once {@link #sortByTime()} has been called.
+	 *
+	 * @param rank the position of the contact
+	 * @return the index of the actor in the second group
+	 */
+	public int getSecond(int rank) {
+		return second[indexOf(rank)];
+	}
+
+	/**
+	 * Returns the time of impact of a contact, in sorted order once {@link #sortByTime()} has been called.
+	 *
+	 * @param rank the position of the contact
+	 * @return the time of impact
+	 */
+	public double getTime(int rank) {
+		return times[indexOf(rank)];
+	}
+
+	/**
+	 * Returns the insertion index of the contact at the given position.
+	 */
+	private int indexOf(int rank) {
+		return sorted ? (int) order[rank] : rank;
+	}
+}
@@ -31,6 +31,24 @@ public class EnemyPlane extends FighterPlane {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
 	}
 
+	/**
+	 * Resolves the EnemyPlane sprite in the sprite atlas ahead of the first spawn.
+	 */
+	public static void preload() {
+		preloadSprite(IMAGE_NAME);
+	}
+
+	/**
+	 * Obtains an EnemyPlane from the shared pool, reset to the given position with full health.
+	 *
+	 * @param initialXPos Initial x-coordinate of the EnemyPlane.
+	 * @param initialYPos Initial y-coordinate of the EnemyPlane.
+	 * @return A pooled EnemyPlane.
+	 */
+	public static EnemyPlane obtain(double initialXPos, double initialYPos) {
+		return ActorPools.ENEMY_PLANES.acquire(initialXPos, initialYPos);
+	}
+
 	/**
 	 * Updates the horizontal position of the EnemyPlane based on its velocity.
 	 */
@@ -40,19 +58,21 @@ public class EnemyPlane extends FighterPlane {
 	}
 
 	/**
-	 * Fires a projectile if the fire rate condition is met.
+	 * Fires a projectile if the fire rate condition is met, drawing from the level's {@link RandomStream#FIRE} stream.
 	 * The projectile's position is calculated based on the EnemyPlane's current location.
 	 *
-	 * @return A new EnemyProjectile if the fire rate condition is met; otherwise, null.
+	 * @param projectiles The store the projectile is spawned into.
+	 * @return True if the fire rate condition is met and a projectile was fired; otherwise, false.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+	public boolean fireProjectile(ProjectileStore projectiles) {
+		if (getRandomSource().stream(RandomStream.FIRE).nextDouble() < FIRE_RATE) {
 			double projectileX = getProjectileXPosition(PROJECTILE_X_OFFSET);
 			double projectileY = getProjectileYPosition(PROJECTILE_Y_OFFSET);
-			return new EnemyProjectile(projectileX, projectileY);
+			projectiles.spawn(ProjectileType.ENEMY, projectileX, projectileY);
+			return true;
 		}
-		return null;
+		return false;
 	}
 
 	/**
@@ -6,9 +6,18 @@ package com.example.demo;
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
+	/** The health the FighterPlane starts each life with. */
+	private final int initialHealth;
+
 	/** The health of the FighterPlane. */
 	private int health;
 
+	/** The random numbers of the level the FighterPlane is in play in. */
+	private RandomSource randomSource;
+
+	/** The event bus of the level the FighterPlane is in play in, or null outside a level. */
+	private GameEventBus eventBus;
+
 	/**
 	 * Constructs a FighterPlane object with specified attributes such as image, size, position, and health.
 	 *
@@ -20,16 +29,73 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
+		this.initialHealth = health;
 		this.health = health;
 	}
 
 	/**
-	 * Fires a projectile from the FighterPlane.
+	 * Reinitialises the FighterPlane at the given position and restores its initial health.
+	 *
+	 * @param initialXPos the new initial x-coordinate of the FighterPlane
+	 * @param initialYPos the new initial y-coordinate of the FighterPlane
+	 */
+	@Override
+	public void reset(double initialXPos, double initialYPos) {
+		super.reset(initialXPos, initialYPos);
+		health = initialHealth;
+	}
+
+	/**
+	 * Sets the random numbers the FighterPlane draws from, those of the level it enters play in.
+	 *
+	 * @param randomSource the level's random source
+	 */
+	public void setRandomSource(RandomSource randomSource) {
+		this.randomSource = randomSource;
+	}
+
+	/**
+	 * Sets the event bus the FighterPlane publishes on, that of the level it enters play in.
+	 *
+	 * @param eventBus the level's event bus
+	 */
+	public void setEventBus(GameEventBus eventBus) {
+		this.eventBus = eventBus;
+	}
+
+	/**
+	 * Publishes an event on the bus of the FighterPlane's level, if it has entered play in one.
+	 *
+	 * @param type the type of the event
+	 * @param value the value of the event
+	 */
+	protected void publishEvent(GameEventType type, int value) {
+		if (eventBus != null) {
+			eventBus.publish(type, value);
+		}
+	}
+
+	/**
+	 * Returns the random numbers the FighterPlane draws from.
+	 *
+	 * @return the random source of the FighterPlane's level
+	 * @throws IllegalStateException if the FighterPlane has not entered play in a level
+	 */
+	protected RandomSource getRandomSource() {
+		if (randomSource == null) {
+			throw new IllegalStateException(getClass().getSimpleName() + " has no random source");
+		}
+		return randomSource;
+	}
+
+	/**
+	 * Fires a projectile from the FighterPlane by spawning it into a projectile store.
 	 * This method must be implemented by subclasses to specify the projectile behavior.
 	 *
-	 * @return the fired projectile or null if no projectile is fired
+	 * @param projectiles the store the projectile is spawned into
+	 * @return true if a projectile was fired, false otherwise
 	 */
-	public abstract ActiveActorDestructible fireProjectile();
+	public abstract boolean fireProjectile(ProjectileStore projectiles);
 
 	/**
 	 * Reduces the health of the FighterPlane when it takes damage.
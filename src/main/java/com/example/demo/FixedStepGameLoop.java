@@ -0,0 +1,142 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The FixedStepGameLoop class runs simulation ticks at a fixed rate from an {@link AnimationTimer}.
+ * Elapsed frame time is collected in an accumulator and spent in whole ticks, up to a maximum number of
+ * catch-up ticks per frame. The remaining fraction of a tick is passed to the render callback so that
+ * actors can be drawn between their previous and current positions. A {@link SimulationSpeed} scales the time
+ * fed into the accumulator, or, when uncapped, replaces it with a per-frame budget of wall-clock time; faster
+ * speeds also draw only every few frames.
+ */
+public class FixedStepGameLoop extends AnimationTimer implements GameLoop {
+
+	/** The number of nanoseconds in a second. */
+	private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+
+	/** Marks that no frame has been handled since the loop was started. */
+	private static final long NO_PREVIOUS_FRAME = -1;
+
+	/** The simulated time covered by one tick, in nanoseconds. */
+	private final long nanosPerTick;
+
+	/** The maximum number of ticks run in a single frame. */
+	private final int maxTicksPerFrame;
+
+	/** The simulation tick to run. */
+	private final Runnable tick;
+
+	/** Receives the fraction of a tick elapsed since the last tick, between 0 and 1. */
+	private final DoubleConsumer render;
+
+	private long previousFrameTime;
+	private long accumulatedNanos;
+	private boolean running;
+	private SimulationSpeed speed;
+	private int framesSinceRender;
+
+	/**
+	 * Constructs a FixedStepGameLoop.
+	 *
+	 * @param ticksPerSecond the number of simulation ticks to run per second
+	 * @param maxTicksPerFrame the maximum number of ticks to run in one frame before dropping the backlog
+	 * @param tick the simulation tick to run
+	 * @param render receives the interpolation factor after the ticks of a frame have run
+	 */
+	public FixedStepGameLoop(double ticksPerSecond, int maxTicksPerFrame, Runnable tick, DoubleConsumer render) {
+		if (!(ticksPerSecond > 0) || maxTicksPerFrame <= 0) {
+			throw new IllegalArgumentException("Tick rate and catch-up limit must be positive");
+		}
+		this.nanosPerTick = Math.round(NANOSECONDS_PER_SECOND / ticksPerSecond);
+		this.maxTicksPerFrame = maxTicksPerFrame;
+		this.tick = tick;
+		this.render = render;
+		this.previousFrameTime = NO_PREVIOUS_FRAME;
+		this.speed = SimulationSpeed.NORMAL;
+	}
+
+	/**
+	 * Starts the loop. The first frame after starting only records the time, so no time spent stopped is simulated.
+	 */
+	@Override
+	public void start() {
+		running = true;
+		previousFrameTime = NO_PREVIOUS_FRAME;
+		accumulatedNanos = 0;
+		super.start();
+	}
+
+	/**
+	 * Stops the loop, including from within a tick, in which case the remaining ticks of the frame are skipped.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+
+	/**
+	 * Sets how fast simulated time passes relative to real time and how often the result is drawn.
+	 *
+	 * @param speed the simulation speed
+	 */
+	@Override
+	public void setSpeed(SimulationSpeed speed) {
+		this.speed = speed;
+		accumulatedNanos = 0;
+	}
+
+	/**
+	 * Runs the ticks owed for the time elapsed since the previous frame and renders the interpolated state.
+	 *
+	 * @param now the timestamp of the current frame in nanoseconds
+	 */
+	@Override
+	public void handle(long now) {
+		if (previousFrameTime == NO_PREVIOUS_FRAME) {
+			previousFrameTime = now;
+		}
+		long elapsedNanos = now - previousFrameTime;
+		previousFrameTime = now;
+		if (speed.isUncapped()) {
+			runUncappedTicks();
+		} else {
+			runOwedTicks(elapsedNanos * speed.getMultiplier(), maxTicksPerFrame * speed.getMultiplier());
+		}
+		if (running && ++framesSinceRender >= speed.getRenderInterval()) {
+			render.accept((double) accumulatedNanos / nanosPerTick);
+			framesSinceRender = 0;
+		}
+	}
+
+	/**
+	 * Adds simulated time to the accumulator and spends it in whole ticks, dropping any backlog beyond the
+	 * catch-up limit.
+	 */
+	private void runOwedTicks(long simulatedNanos, int maxTicks) {
+		accumulatedNanos += simulatedNanos;
+		int ticksThisFrame = 0;
+		while (running && accumulatedNanos >= nanosPerTick && ticksThisFrame < maxTicks) {
+			tick.run();
+			accumulatedNanos -= nanosPerTick;
+			ticksThisFrame++;
+		}
+		if (accumulatedNanos >= nanosPerTick) {
+			accumulatedNanos %= nanosPerTick;
+		}
+	}
+
+	/**
+	 * Runs ticks until the frame's budget of wall-clock time is spent. The state reached is drawn as is.
+	 */
+	private void runUncappedTicks() {
+		long deadline = System.nanoTime() + SimulationSpeed.UNCAPPED_TICK_BUDGET_NANOS;
+		do {
+			tick.run();
+		} while (running && System.nanoTime() < deadline);
+		accumulatedNanos = nanosPerTick;
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.demo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * The FrameExchange class hands {@link FrameSnapshot}s from the thread simulating a level to the thread drawing
+ * it through a lock-free triple buffer. The writer fills its back snapshot and publishes it, swapping it with the
+ * shared one; the reader takes the shared snapshot whenever a newer one has been published since it last looked.
+ * Neither side ever waits for the other or allocates: the writer always has a snapshot to fill, the reader always
+ * has the latest complete one to draw, and snapshots published faster than they are drawn are simply skipped.
+ * <p>
+ * One thread may write and one thread may read at a time. The swaps are atomic exchanges of the index of the shared
+ * snapshot, tagged with whether it is fresh, so everything the writer put in a snapshot is visible to the reader
+ * that takes it.
+ */
+public final class FrameExchange {
+
+	/** Masks the tag out of the shared index. */
+	private static final int INDEX_MASK = 0b11;
+
+	/** Tags the shared index when the shared snapshot has been published since the reader last took one. */
+	private static final int FRESH = 0b100;
+
+	/** Accesses {@link #shared} atomically. */
+	private static final VarHandle SHARED;
+
+	static {
+		try {
+			SHARED = MethodHandles.lookup().findVarHandle(FrameExchange.class, "shared", int.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/** The three snapshots, each owned by the writer, the reader, or neither at any time. */
+	private final FrameSnapshot[] frames;
+
+	/** The index of the snapshot owned by neither side, tagged with {@link #FRESH} once published. */
+	@SuppressWarnings("unused")
+	private int shared;
+
+	/** The index of the snapshot being filled. Only touched by the writer. */
+	private int back;
+
+	/** The index of the snapshot being drawn. Only touched by the reader. */
+	private int front;
+
+	/**
+	 * Constructs a FrameExchange of three empty snapshots.
+	 */
+	public FrameExchange() {
+		this.frames = new FrameSnapshot[] { new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot() };
+		this.back = 0;
+		this.shared = 1;
+		this.front = 2;
+	}
+
+	/**
+	 * Returns the snapshot the writer fills next. It stays the same until {@link #publish()} is called.
+	 *
+	 * @return the back snapshot
+	 */
+	public FrameSnapshot getBackFrame() {
+		return frames[back];
+	}
+
+	/**
+	 * Publishes the back snapshot as the latest one, and takes over the previously shared snapshot to fill next.
+	 * Must only be called from the writing thread.
+	 */
+	public void publish() {
+		back = (int) SHARED.getAndSet(this, back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Returns the latest published snapshot, taking it over from the writer if it is newer than the one the
+	 * reader holds. The snapshot returned is not modified until the reader calls this method again. Must only be
+	 * called from the reading thread.
+	 *
+	 * @return the latest snapshot, or an empty one if none has been published yet
+	 */
+	public FrameSnapshot getLatestFrame() {
+		if (((int) SHARED.getAcquire(this) & FRESH) != 0) {
+			front = (int) SHARED.getAndSet(this, front) & INDEX_MASK;
+		}
+		return frames[front];
+	}
+}
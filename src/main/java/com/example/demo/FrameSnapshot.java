@@ -0,0 +1,307 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The FrameSnapshot class is a copy of everything an {@link ActorRenderer} draws from one tick of a level: each
+ * actor in play with its layer and its positions at the start and end of the tick, and the same for the projectiles
+ * of each {@link ProjectileStore}. Renderers draw from a snapshot instead of the live actors, so the simulation can
+ * run the next tick, on another thread, while the last one is drawn.
+ * <p>
+ * Snapshots are recycled by a {@link FrameExchange}: the simulation fills one and publishes it, after which it is
+ * only read until the exchange hands it back to be filled again, so a renderer never sees it change. The actors it
+ * holds are only identities for the renderer to keep its nodes by, and only their immutable sprite properties may
+ * be read from them.
+ */
+public final class FrameSnapshot {
+
+	/** The initial number of actors a snapshot can hold before growing. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** The number of stores of projectiles a snapshot can hold before growing. */
+	private static final int INITIAL_PROJECTILE_LAYERS = 2;
+
+	/**
+	 * The projectiles of one store, as captured in a snapshot.
+	 */
+	public static final class ProjectileLayer {
+
+		private SceneLayer layer;
+		private ProjectileType[] types;
+		private double[] x;
+		private double[] y;
+		private double[] previousX;
+		private double[] previousY;
+		private int count;
+
+		/**
+		 * Constructs an empty ProjectileLayer.
+		 */
+		private ProjectileLayer() {
+			types = new ProjectileType[INITIAL_CAPACITY];
+			x = new double[INITIAL_CAPACITY];
+			y = new double[INITIAL_CAPACITY];
+			previousX = new double[INITIAL_CAPACITY];
+			previousY = new double[INITIAL_CAPACITY];
+		}
+
+		/**
+		 * Copies the type and positions of every projectile of a store.
+		 */
+		private void capture(ProjectileStore projectiles, SceneLayer projectileLayer) {
+			layer = projectileLayer;
+			count = projectiles.size();
+			if (count > types.length) {
+				int newCapacity = Math.max(count, types.length * 2);
+				types = Arrays.copyOf(types, newCapacity);
+				x = Arrays.copyOf(x, newCapacity);
+				y = Arrays.copyOf(y, newCapacity);
+				previousX = Arrays.copyOf(previousX, newCapacity);
+				previousY = Arrays.copyOf(previousY, newCapacity);
+			}
+			for (int i = 0; i < count; i++) {
+				types[i] = projectiles.getType(i);
+				x[i] = projectiles.getMinX(i);
+				y[i] = projectiles.getMinY(i);
+				previousX[i] = projectiles.getPreviousMinX(i);
+				previousY[i] = projectiles.getPreviousMinY(i);
+			}
+		}
+
+		/**
+		 * Returns the layer of the projectiles' category.
+		 *
+		 * @return the layer the projectiles are drawn in
+		 */
+		public SceneLayer getLayer() {
+			return layer;
+		}
+
+		/**
+		 * Returns the number of projectiles captured, in store order.
+		 *
+		 * @return the projectile count
+		 */
+		public int size() {
+			return count;
+		}
+
+		/**
+		 * Returns the type of a projectile.
+		 *
+		 * @param index the index of the projectile
+		 * @return the projectile's type
+		 */
+		public ProjectileType getType(int index) {
+			return types[index];
+		}
+
+		/**
+		 * Returns the x-coordinate of a projectile's top-left corner, between the start and the end of the tick.
+		 *
+		 * @param index the index of the projectile
+		 * @param alpha the fraction of the tick, where 0 gives the previous position and 1 the current one
+		 * @return the interpolated x-coordinate
+		 */
+		public double interpolateX(int index, double alpha) {
+			return previousX[index] + (x[index] - previousX[index]) * alpha;
+		}
+
+		/**
+		 * Returns the y-coordinate of a projectile's top-left corner, between the start and the end of the tick.
+		 *
+		 * @param index the index of the projectile
+		 * @param alpha the fraction of the tick, where 0 gives the previous position and 1 the current one
+		 * @return the interpolated y-coordinate
+		 */
+		public double interpolateY(int index, double alpha) {
+			return previousY[index] + (y[index] - previousY[index]) * alpha;
+		}
+	}
+
+	private long tick;
+
+	/** The {@link System#nanoTime()} at which the tick was due, and the real time between ticks, or 0 if unpaced. */
+	private long tickNanos;
+	private long tickIntervalNanos;
+
+	private ActiveActorDestructible[] actors;
+	private SceneLayer[] actorLayers;
+	private double[] actorX;
+	private double[] actorY;
+	private double[] actorPreviousX;
+	private double[] actorPreviousY;
+	private int actorCount;
+
+	private ProjectileLayer[] projectileLayers;
+	private int projectileLayerCount;
+
+	/**
+	 * Constructs an empty FrameSnapshot.
+	 */
+	public FrameSnapshot() {
+		actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+		actorLayers = new SceneLayer[INITIAL_CAPACITY];
+		actorX = new double[INITIAL_CAPACITY];
+		actorY = new double[INITIAL_CAPACITY];
+		actorPreviousX = new double[INITIAL_CAPACITY];
+		actorPreviousY = new double[INITIAL_CAPACITY];
+		projectileLayers = new ProjectileLayer[INITIAL_PROJECTILE_LAYERS];
+	}
+
+	/**
+	 * Empties the snapshot to capture a new tick.
+	 *
+	 * @param tickIndex the number of ticks run when the snapshot is captured
+	 * @param dueNanos the {@link System#nanoTime()} at which the last tick was due
+	 * @param intervalNanos the real time between two ticks, or 0 if the ticks are not paced in real time
+	 */
+	public void clear(long tickIndex, long dueNanos, long intervalNanos) {
+		tick = tickIndex;
+		tickNanos = dueNanos;
+		tickIntervalNanos = intervalNanos;
+		Arrays.fill(actors, 0, actorCount, null);
+		actorCount = 0;
+		projectileLayerCount = 0;
+	}
+
+	/**
+	 * Copies the position of every actor of a list, in list order.
+	 *
+	 * @param actorList the actors to capture
+	 * @param layer the layer of the actors' category
+	 */
+	public void addActors(List<ActiveActorDestructible> actorList, SceneLayer layer) {
+		int size = actorList.size();
+		if (actorCount + size > actors.length) {
+			int newCapacity = Math.max(actorCount + size, actors.length * 2);
+			actors = Arrays.copyOf(actors, newCapacity);
+			actorLayers = Arrays.copyOf(actorLayers, newCapacity);
+			actorX = Arrays.copyOf(actorX, newCapacity);
+			actorY = Arrays.copyOf(actorY, newCapacity);
+			actorPreviousX = Arrays.copyOf(actorPreviousX, newCapacity);
+			actorPreviousY = Arrays.copyOf(actorPreviousY, newCapacity);
+		}
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actorList.get(i);
+			actors[actorCount] = actor;
+			actorLayers[actorCount] = layer;
+			actorX[actorCount] = actor.getMinX();
+			actorY[actorCount] = actor.getMinY();
+			actorPreviousX[actorCount] = actor.getPreviousMinX();
+			actorPreviousY[actorCount] = actor.getPreviousMinY();
+			actorCount++;
+		}
+	}
+
+	/**
+	 * Copies the type and position of every projectile of a store, in store order.
+	 *
+	 * @param projectiles the projectiles to capture
+	 * @param layer the layer of the projectiles' category
+	 */
+	public void addProjectiles(ProjectileStore projectiles, SceneLayer layer) {
+		if (projectileLayerCount == projectileLayers.length) {
+			projectileLayers = Arrays.copyOf(projectileLayers, projectileLayerCount * 2);
+		}
+		if (projectileLayers[projectileLayerCount] == null) {
+			projectileLayers[projectileLayerCount] = new ProjectileLayer();
+		}
+		projectileLayers[projectileLayerCount++].capture(projectiles, layer);
+	}
+
+	/**
+	 * Returns the number of ticks the level had run when the snapshot was captured.
+	 *
+	 * @return the tick count
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Returns the fraction of a tick elapsed at a given time since the captured tick was due, which is where
+	 * actors should be drawn between their positions at the start and end of the tick. Snapshots of ticks that
+	 * are not paced in real time are always drawn at the end of the tick.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return the interpolation factor, between 0 and 1
+	 */
+	public double alphaAt(long nowNanos) {
+		if (tickIntervalNanos <= 0) {
+			return 1;
+		}
+		return Math.min(1, Math.max(0, (double) (nowNanos - tickNanos) / tickIntervalNanos));
+	}
+
+	/**
+	 * Returns the number of actors captured.
+	 *
+	 * @return the actor count
+	 */
+	public int getActorCount() {
+		return actorCount;
+	}
+
+	/**
+	 * Returns a captured actor, as an identity only.
+	 *
+	 * @param index the index of the actor
+	 * @return the actor
+	 */
+	public ActiveActorDestructible getActor(int index) {
+		return actors[index];
+	}
+
+	/**
+	 * Returns the layer of a captured actor's category.
+	 *
+	 * @param index the index of the actor
+	 * @return the layer the actor is drawn in
+	 */
+	public SceneLayer getActorLayer(int index) {
+		return actorLayers[index];
+	}
+
+	/**
+	 * Returns the x-coordinate of an actor's top-left corner, between the start and the end of the tick.
+	 *
+	 * @param index the index of the actor
+	 * @param alpha the fraction of the tick, where 0 gives the previous position and 1 the current one
+	 * @return the interpolated x-coordinate
+	 */
+	public double interpolateActorX(int index, double alpha) {
+		return actorPreviousX[index] + (actorX[index] - actorPreviousX[index]) * alpha;
+	}
+
+	/**
+	 * Returns the y-coordinate of an actor's top-left corner, between the start and the end of the tick.
+	 *
+	 * @param index the index of the actor
+	 * @param alpha the fraction of the tick, where 0 gives the previous position and 1 the current one
+	 * @return the interpolated y-coordinate
+	 */
+	public double interpolateActorY(int index, double alpha) {
+		return actorPreviousY[index] + (actorY[index] - actorPreviousY[index]) * alpha;
+	}
+
+	/**
+	 * Returns the number of projectile stores captured.
+	 *
+	 * @return the number of projectile layers
+	 */
+	public int getProjectileLayerCount() {
+		return projectileLayerCount;
+	}
+
+	/**
+	 * Returns the projectiles of one captured store.
+	 *
+	 * @param index the index of the store, in the order the stores were captured
+	 * @return the store's projectiles
+	 */
+	public ProjectileLayer getProjectileLayer(int index) {
+		return projectileLayers[index];
+	}
+}
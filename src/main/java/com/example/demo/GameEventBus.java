@@ -0,0 +1,207 @@
+package com.example.demo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * The GameEventBus class carries the events of a level from the simulation to its listeners through a ring
+ * buffer with a single writer and any number of readers. Each event is stored as a type, a tick and a value in
+ * preallocated arrays, so publishing allocates nothing and never waits for a reader. Each reader holds its own
+ * {@link Subscription}, a cursor into the ring, and reads at its own pace, on any thread. A reader that falls
+ * as far as the ring's capacity behind skips the events that were overwritten, and the oldest one, whose slot
+ * the writer may be overwriting, and counts them as dropped; a reader thus keeps at most one event less than
+ * the capacity.
+ * <p>
+ * Only one thread may publish. The writer marks an event as published with a release store of the published
+ * count after writing its slot; a reader loads the count with acquire semantics, reads the slots below it and
+ * then checks, after a load fence, that the writer has not started overwriting them meanwhile.
+ */
+public final class GameEventBus {
+
+	/** The number of events a bus holds by default. */
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	/** Every event type, indexed by ordinal, to turn stored ordinals back into types. */
+	private static final GameEventType[] TYPES = GameEventType.values();
+
+	/** Accesses {@link #published} with explicit memory ordering. */
+	private static final VarHandle PUBLISHED;
+
+	static {
+		try {
+			PUBLISHED = MethodHandles.lookup().findVarHandle(GameEventBus.class, "published", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/** The number of events the ring holds. */
+	private final int capacity;
+
+	/** Masks a sequence number down to a slot index; the capacity minus one. */
+	private final int mask;
+
+	/** The type ordinal of the event in each slot. */
+	private final byte[] types;
+
+	/** The tick of the event in each slot. */
+	private final long[] ticks;
+
+	/** The value of the event in each slot. */
+	private final int[] values;
+
+	/** The number of events published so far, which is also the sequence number of the next event. */
+	@SuppressWarnings("unused")
+	private long published;
+
+	/** The tick stamped on events published from now on. Only touched by the writer. */
+	private long currentTick;
+
+	/**
+	 * Constructs a GameEventBus holding {@link #DEFAULT_CAPACITY} events.
+	 */
+	public GameEventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a GameEventBus holding the given number of events.
+	 *
+	 * @param capacity the number of events the ring holds
+	 * @throws IllegalArgumentException if the capacity is not a positive power of two
+	 */
+	public GameEventBus(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+		}
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.types = new byte[capacity];
+		this.ticks = new long[capacity];
+		this.values = new int[capacity];
+	}
+
+	/**
+	 * Sets the tick stamped on the events published from now on. Called by the writer.
+	 *
+	 * @param tick the index of the current tick
+	 */
+	public void setTick(long tick) {
+		currentTick = tick;
+	}
+
+	/**
+	 * Publishes an event stamped with the current tick, overwriting the oldest event if the ring is full.
+	 * Must only be called from the writing thread.
+	 *
+	 * @param type the type of the event
+	 * @param value the value of the event
+	 */
+	public void publish(GameEventType type, int value) {
+		long sequence = (long) PUBLISHED.getOpaque(this);
+		int slot = (int) sequence & mask;
+		types[slot] = (byte) type.ordinal();
+		ticks[slot] = currentTick;
+		values[slot] = value;
+		PUBLISHED.setRelease(this, sequence + 1);
+		// The next event's slot writes must not become visible before this count, or a reader could miss
+		// that the slot it is reading is being overwritten.
+		VarHandle.storeStoreFence();
+	}
+
+	/**
+	 * Returns the number of events published so far.
+	 *
+	 * @return the published event count
+	 */
+	public long getPublishedCount() {
+		return (long) PUBLISHED.getAcquire(this);
+	}
+
+	/**
+	 * Returns the number of events the ring holds.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Creates a reader that delivers the events published from now on to a listener.
+	 *
+	 * @param listener the listener to deliver events to
+	 * @return the subscription
+	 */
+	public Subscription subscribe(GameEventListener listener) {
+		return new Subscription(listener, getPublishedCount());
+	}
+
+	/**
+	 * A reader of the bus: a cursor into the ring and the listener the events it reads are delivered to.
+	 * A subscription must only be polled from one thread at a time.
+	 */
+	public final class Subscription {
+
+		/** The listener events are delivered to. */
+		private final GameEventListener listener;
+
+		/** The sequence number of the next event to read. */
+		private long cursor;
+
+		/** The number of events overwritten before they could be read. */
+		private long droppedCount;
+
+		/**
+		 * Constructs a Subscription starting at the given sequence number.
+		 */
+		private Subscription(GameEventListener listener, long cursor) {
+			this.listener = listener;
+			this.cursor = cursor;
+		}
+
+		/**
+		 * Delivers every event published since the last poll to the listener, skipping and counting those
+		 * that have already been overwritten or may be being overwritten.
+		 *
+		 * @return the number of events delivered
+		 */
+		public int poll() {
+			long available = getPublishedCount();
+			if (available - cursor >= capacity) {
+				long oldestIntact = available - capacity + 1;
+				droppedCount += oldestIntact - cursor;
+				cursor = oldestIntact;
+			}
+			int delivered = 0;
+			while (cursor < available) {
+				int slot = (int) cursor & mask;
+				byte type = types[slot];
+				long tick = ticks[slot];
+				int value = values[slot];
+				VarHandle.acquireFence();
+				long publishedNow = getPublishedCount();
+				if (publishedNow - cursor >= capacity) {
+					// The writer has reached this slot again; skip ahead to the oldest event still intact.
+					long next = publishedNow - capacity + 1;
+					droppedCount += next - cursor;
+					cursor = next;
+					continue;
+				}
+				cursor++;
+				listener.onGameEvent(TYPES[type], tick, value);
+				delivered++;
+			}
+			return delivered;
+		}
+
+		/**
+		 * Returns the number of events this subscription missed because it fell too far behind.
+		 *
+		 * @return the dropped event count
+		 */
+		public long getDroppedCount() {
+			return droppedCount;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.demo;
+
+/**
+ * The GameEventCounter class is a statistics listener that counts the events of each type read from a
+ * {@link GameEventBus}, and formats the counts as a report.
+ */
+public class GameEventCounter implements GameEventListener {
+
+	/** The number of events of each type, indexed by ordinal. */
+	private final long[] counts = new long[GameEventType.values().length];
+
+	/**
+	 * Counts one event.
+	 *
+	 * @param type the type of the event
+	 * @param tick the index of the tick the event belongs to
+	 * @param value the value of the event
+	 */
+	@Override
+	public void onGameEvent(GameEventType type, long tick, int value) {
+		counts[type.ordinal()]++;
+	}
+
+	/**
+	 * Returns the number of events of a type counted so far.
+	 *
+	 * @param type the event type
+	 * @return the event count
+	 */
+	public long getCount(GameEventType type) {
+		return counts[type.ordinal()];
+	}
+
+	/**
+	 * Formats the count of every event type that occurred, on one line.
+	 *
+	 * @return the report
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder("Game events:");
+		for (GameEventType type : GameEventType.values()) {
+			if (counts[type.ordinal()] > 0) {
+				report.append(' ').append(type).append('=').append(counts[type.ordinal()]);
+			}
+		}
+		return report.toString();
+	}
+}
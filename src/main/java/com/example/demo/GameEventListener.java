@@ -0,0 +1,18 @@
+package com.example.demo;
+
+/**
+ * Receives the events read from a {@link GameEventBus} by a {@link GameEventBus.Subscription}. An event is passed
+ * as its fields rather than as an object, so that delivering it allocates nothing.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+	/**
+	 * Called for each event, in the order the events were published.
+	 *
+	 * @param type the type of the event
+	 * @param tick the index of the tick the event belongs to
+	 * @param value the value of the event, whose meaning is given by its type
+	 */
+	void onGameEvent(GameEventType type, long tick, int value);
+}
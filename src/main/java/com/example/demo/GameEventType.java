@@ -0,0 +1,38 @@
+package com.example.demo;
+
+/**
+ * The GameEventType enum lists the events a level publishes on its {@link GameEventBus}. Every event carries one
+ * int value, whose meaning depends on the type.
+ */
+public enum GameEventType {
+
+	/** An enemy was removed from play after being destroyed. The value is the player's kill count after it. */
+	ENEMY_DESTROYED,
+
+	/** The player lost health during a tick. The value is the player's remaining health. */
+	PLAYER_HIT,
+
+	/** A projectile entered play. The value is {@link #FIRED_BY_PLAYER} or {@link #FIRED_BY_ENEMY}. */
+	PROJECTILE_FIRED,
+
+	/** A boss raised or lowered its shield. The value is 1 if the shield is now up and 0 if it is down. */
+	SHIELD_TOGGLED,
+
+	/** The level was won. The value is 0. */
+	LEVEL_WON,
+
+	/** The level was lost. The value is 0. */
+	LEVEL_LOST,
+
+	/**
+	 * The level was completed and the game moves on. The value is 0; the levels involved are handed to the
+	 * {@link LevelTransitionListener}s as a {@link LevelTransition}.
+	 */
+	LEVEL_COMPLETED;
+
+	/** The value of a {@link #PROJECTILE_FIRED} event for a projectile fired by the player. */
+	public static final int FIRED_BY_PLAYER = 0;
+
+	/** The value of a {@link #PROJECTILE_FIRED} event for a projectile fired by an enemy. */
+	public static final int FIRED_BY_ENEMY = 1;
+}
@@ -0,0 +1,24 @@
+package com.example.demo;
+
+/**
+ * The GameLoop interface is implemented by the drivers that advance a level's simulation over time.
+ */
+public interface GameLoop {
+
+	/**
+	 * Starts, or resumes, running the simulation.
+	 */
+	void start();
+
+	/**
+	 * Stops running the simulation. No further ticks are run until the loop is started again.
+	 */
+	void stop();
+
+	/**
+	 * Sets how fast the simulation runs relative to real time, taking effect from the next frame.
+	 *
+	 * @param speed the simulation speed
+	 */
+	void setSpeed(SimulationSpeed speed);
+}
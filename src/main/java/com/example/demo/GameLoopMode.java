@@ -0,0 +1,19 @@
+package com.example.demo;
+
+/**
+ * The GameLoopMode enum lists the available drivers for the game loop.
+ */
+public enum GameLoopMode {
+
+	/** Runs one tick per {@link javafx.animation.Timeline} key frame, without interpolation. */
+	TIMELINE,
+
+	/** Runs ticks at a fixed rate from an {@link javafx.animation.AnimationTimer} and interpolates rendering. */
+	FIXED_STEP,
+
+	/**
+	 * Runs ticks at a fixed rate on a dedicated simulation thread and draws the latest published frame from an
+	 * {@link javafx.animation.AnimationTimer}, see {@link ThreadedGameLoop}.
+	 */
+	THREADED
+}
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -21,10 +20,17 @@ public class GameOverImage extends ImageView {
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
 		// Load the "Game Over" image from the resources folder
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		setImage(ImageCache.getImage(IMAGE_NAME));
 
 		// Set the position of the image
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
 	}
+
+	/**
+	 * Decodes the "Game Over" image into the {@link ImageCache} ahead of time. Safe to call from any thread.
+	 */
+	public static void preload() {
+		ImageCache.preload(IMAGE_NAME, ImageCache.NATURAL_SIZE, ImageCache.NATURAL_SIZE);
+	}
 }
@@ -0,0 +1,401 @@
+package com.example.demo;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * The GameSettings class holds the start-up options of the game. Defaults suit normal play; they can be
+ * overridden from the command line through {@link #apply(Map)}, for example {@code --loop=timeline} or
+ * {@code --renderer=canvas}.
+ */
+public final class GameSettings {
+
+	/** The command-line option selecting the game loop driver. */
+	private static final String LOOP_OPTION = "loop";
+
+	/** The command-line option selecting how actors are drawn. */
+	private static final String RENDERER_OPTION = "renderer";
+
+	/** The command-line option setting the directory of the texture atlas cache, or {@code none}. */
+	private static final String ATLAS_CACHE_OPTION = "atlas-cache";
+
+	/** The command-line option fixing the seed of every level. */
+	private static final String SEED_OPTION = "seed";
+
+	/** The command-line option setting the directory replays are recorded to. */
+	private static final String RECORD_OPTION = "record";
+
+	/** The command-line option setting the simulation tick rate. */
+	private static final String TICK_RATE_OPTION = "tick-rate";
+
+	/** The command-line option setting the maximum number of catch-up ticks per frame. */
+	private static final String MAX_CATCH_UP_TICKS_OPTION = "max-catch-up-ticks";
+
+	/** The command-line option enabling tick profiling. */
+	private static final String PROFILE_OPTION = "profile";
+
+	/** The command-line option setting the simulation speed levels start at. */
+	private static final String SPEED_OPTION = "speed";
+
+	/** The command-line option enabling the developer hotkeys. */
+	private static final String DEV_KEYS_OPTION = "dev-keys";
+
+	/** The command-line option enabling the leak check after every level transition. */
+	private static final String LEAK_CHECK_OPTION = "leak-check";
+
+	/** The command-line option enabling pixel-accurate collisions. */
+	private static final String PIXEL_COLLISIONS_OPTION = "pixel-collisions";
+
+	/** The command-line option setting the number of threads bulk simulation work is split across. */
+	private static final String PARALLELISM_OPTION = "parallelism";
+
+	/** The command-line option setting the fewest indices handed to a simulation worker thread. */
+	private static final String PARALLEL_CHUNK_SIZE_OPTION = "parallel-chunk-size";
+
+	private static GameLoopMode gameLoopMode = GameLoopMode.FIXED_STEP;
+	private static RendererMode rendererMode = RendererMode.NODES;
+	private static double ticksPerSecond = 20;
+	private static int maxCatchUpTicks = 5;
+	private static boolean profilingEnabled = false;
+	private static SimulationSpeed simulationSpeed = SimulationSpeed.NORMAL;
+	private static boolean developerKeysEnabled = false;
+	private static boolean leakCheckEnabled = false;
+	private static boolean pixelCollisionsEnabled = false;
+	private static int parallelism = 1;
+	private static int parallelChunkSize = SimulationWorkers.DEFAULT_MIN_CHUNK_SIZE;
+	private static Long seed = null;
+	private static Path recordingDirectory = null;
+	private static Path atlasCacheDirectory = Path.of(System.getProperty("java.io.tmpdir"), "cw2024-atlas");
+
+	/**
+	 * Prevents instantiation; the settings are accessed through the static methods.
+	 */
+	private GameSettings() {
+	}
+
+	/**
+	 * Overrides the settings named in the given options, leaving the others unchanged.
+	 *
+	 * @param options the named command-line options
+	 * @throws IllegalArgumentException if an option has an invalid value
+	 */
+	public static void apply(Map<String, String> options) {
+		if (options.containsKey(LOOP_OPTION)) {
+			setGameLoopMode(GameLoopMode.valueOf(options.get(LOOP_OPTION).toUpperCase().replace('-', '_')));
+		}
+		if (options.containsKey(RENDERER_OPTION)) {
+			setRendererMode(RendererMode.valueOf(options.get(RENDERER_OPTION).toUpperCase()));
+		}
+		if (options.containsKey(ATLAS_CACHE_OPTION)) {
+			String directory = options.get(ATLAS_CACHE_OPTION);
+			setAtlasCacheDirectory(directory.equals("none") ? null : Path.of(directory));
+		}
+		if (options.containsKey(SEED_OPTION)) {
+			setSeed(Long.parseLong(options.get(SEED_OPTION)));
+		}
+		if (options.containsKey(RECORD_OPTION)) {
+			setRecordingDirectory(Path.of(options.get(RECORD_OPTION)));
+		}
+		if (options.containsKey(TICK_RATE_OPTION)) {
+			setTicksPerSecond(Double.parseDouble(options.get(TICK_RATE_OPTION)));
+		}
+		if (options.containsKey(MAX_CATCH_UP_TICKS_OPTION)) {
+			setMaxCatchUpTicks(Integer.parseInt(options.get(MAX_CATCH_UP_TICKS_OPTION)));
+		}
+		if (options.containsKey(PROFILE_OPTION)) {
+			setProfilingEnabled(Boolean.parseBoolean(options.get(PROFILE_OPTION)));
+		}
+		if (options.containsKey(SPEED_OPTION)) {
+			setSimulationSpeed(SimulationSpeed.parse(options.get(SPEED_OPTION)));
+		}
+		if (options.containsKey(DEV_KEYS_OPTION)) {
+			setDeveloperKeysEnabled(Boolean.parseBoolean(options.get(DEV_KEYS_OPTION)));
+		}
+		if (options.containsKey(LEAK_CHECK_OPTION)) {
+			setLeakCheckEnabled(Boolean.parseBoolean(options.get(LEAK_CHECK_OPTION)));
+		}
+		if (options.containsKey(PIXEL_COLLISIONS_OPTION)) {
+			setPixelCollisionsEnabled(Boolean.parseBoolean(options.get(PIXEL_COLLISIONS_OPTION)));
+		}
+		if (options.containsKey(PARALLELISM_OPTION)) {
+			setParallelism(Integer.parseInt(options.get(PARALLELISM_OPTION)));
+		}
+		if (options.containsKey(PARALLEL_CHUNK_SIZE_OPTION)) {
+			setParallelChunkSize(Integer.parseInt(options.get(PARALLEL_CHUNK_SIZE_OPTION)));
+		}
+	}
+
+	/**
+	 * Returns the driver used for the game loop of new levels.
+	 *
+	 * @return the game loop mode
+	 */
+	public static GameLoopMode getGameLoopMode() {
+		return gameLoopMode;
+	}
+
+	/**
+	 * Sets the driver used for the game loop of new levels.
+	 *
+	 * @param mode the game loop mode
+	 */
+	public static void setGameLoopMode(GameLoopMode mode) {
+		gameLoopMode = mode;
+	}
+
+	/**
+	 * Returns the way actors of new levels are drawn.
+	 *
+	 * @return the renderer mode
+	 */
+	public static RendererMode getRendererMode() {
+		return rendererMode;
+	}
+
+	/**
+	 * Sets the way actors of new levels are drawn.
+	 *
+	 * @param mode the renderer mode
+	 */
+	public static void setRendererMode(RendererMode mode) {
+		rendererMode = mode;
+	}
+
+	/**
+	 * Returns the number of simulation ticks run per second.
+	 *
+	 * @return the tick rate
+	 */
+	public static double getTicksPerSecond() {
+		return ticksPerSecond;
+	}
+
+	/**
+	 * Sets the number of simulation ticks run per second. Actor speeds are expressed per tick, so changing
+	 * the rate also changes how fast the game plays.
+	 *
+	 * @param rate the tick rate
+	 * @throws IllegalArgumentException if the rate is not positive
+	 */
+	public static void setTicksPerSecond(double rate) {
+		if (!(rate > 0)) {
+			throw new IllegalArgumentException("Tick rate must be positive: " + rate);
+		}
+		ticksPerSecond = rate;
+	}
+
+	/**
+	 * Returns the maximum number of ticks the fixed-step and threaded loops run at once to catch up.
+	 *
+	 * @return the maximum number of catch-up ticks
+	 */
+	public static int getMaxCatchUpTicks() {
+		return maxCatchUpTicks;
+	}
+
+	/**
+	 * Sets the maximum number of ticks the fixed-step and threaded loops run at once to catch up.
+	 *
+	 * @param ticks the maximum number of catch-up ticks
+	 * @throws IllegalArgumentException if the number is not positive
+	 */
+	public static void setMaxCatchUpTicks(int ticks) {
+		if (ticks <= 0) {
+			throw new IllegalArgumentException("Catch-up ticks must be positive: " + ticks);
+		}
+		maxCatchUpTicks = ticks;
+	}
+
+	/**
+	 * Checks whether new levels time their ticks and phases and emit Flight Recorder events.
+	 *
+	 * @return true if tick profiling is enabled, false otherwise
+	 */
+	public static boolean isProfilingEnabled() {
+		return profilingEnabled;
+	}
+
+	/**
+	 * Enables or disables tick profiling for new levels.
+	 *
+	 * @param enabled true to profile ticks, false otherwise
+	 */
+	public static void setProfilingEnabled(boolean enabled) {
+		profilingEnabled = enabled;
+	}
+
+	/**
+	 * Returns the simulation speed new levels start at.
+	 *
+	 * @return the simulation speed
+	 */
+	public static SimulationSpeed getSimulationSpeed() {
+		return simulationSpeed;
+	}
+
+	/**
+	 * Sets the simulation speed new levels start at.
+	 *
+	 * @param speed the simulation speed
+	 */
+	public static void setSimulationSpeed(SimulationSpeed speed) {
+		simulationSpeed = speed;
+	}
+
+	/**
+	 * Checks whether the developer hotkeys for simulation speed, pausing and single-stepping are enabled.
+	 *
+	 * @return true if the developer hotkeys are enabled
+	 */
+	public static boolean isDeveloperKeysEnabled() {
+		return developerKeysEnabled;
+	}
+
+	/**
+	 * Enables or disables the developer hotkeys for simulation speed, pausing and single-stepping.
+	 *
+	 * @param enabled true to enable the developer hotkeys
+	 */
+	public static void setDeveloperKeysEnabled(boolean enabled) {
+		developerKeysEnabled = enabled;
+	}
+
+	/**
+	 * Checks whether a {@link LevelLeakCheck} report is printed after every level transition.
+	 *
+	 * @return true if the leak check is enabled
+	 */
+	public static boolean isLeakCheckEnabled() {
+		return leakCheckEnabled;
+	}
+
+	/**
+	 * Enables or disables the {@link LevelLeakCheck} report after every level transition. Each report forces
+	 * garbage collections, so the check is meant for development only.
+	 *
+	 * @param enabled true to enable the leak check
+	 */
+	public static void setLeakCheckEnabled(boolean enabled) {
+		leakCheckEnabled = enabled;
+	}
+
+	/**
+	 * Checks whether new levels confirm each collision of hitboxes pixel for pixel.
+	 *
+	 * @return true if pixel-accurate collisions are enabled
+	 */
+	public static boolean isPixelCollisionsEnabled() {
+		return pixelCollisionsEnabled;
+	}
+
+	/**
+	 * Enables or disables pixel-accurate collisions for new levels. When enabled, two actors whose hitboxes
+	 * intersect only collide if their {@link SpriteMask}s overlap.
+	 *
+	 * @param enabled true to enable pixel-accurate collisions
+	 */
+	public static void setPixelCollisionsEnabled(boolean enabled) {
+		pixelCollisionsEnabled = enabled;
+	}
+
+	/**
+	 * Returns the number of threads new levels split bulk simulation work across.
+	 *
+	 * @return the parallelism; one runs the whole simulation on the game thread
+	 */
+	public static int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of threads new levels split bulk simulation work, such as projectile movement and
+	 * collision detection, across. The outcome of every tick is the same whatever the parallelism.
+	 *
+	 * @param threads the parallelism; one runs the whole simulation on the game thread
+	 * @throws IllegalArgumentException if the number is not positive
+	 */
+	public static void setParallelism(int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("Parallelism must be positive: " + threads);
+		}
+		parallelism = threads;
+	}
+
+	/**
+	 * Returns the fewest indices new levels hand to a simulation worker thread.
+	 *
+	 * @return the minimum chunk size
+	 */
+	public static int getParallelChunkSize() {
+		return parallelChunkSize;
+	}
+
+	/**
+	 * Sets the fewest indices new levels hand to a simulation worker thread. Work smaller than two chunks stays
+	 * on the game thread.
+	 *
+	 * @param size the minimum chunk size
+	 * @throws IllegalArgumentException if the size is not positive
+	 */
+	public static void setParallelChunkSize(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Parallel chunk size must be positive: " + size);
+		}
+		parallelChunkSize = size;
+	}
+
+	/**
+	 * Returns the directory the packed texture atlas is cached in.
+	 *
+	 * @return the cache directory, or null if the atlas is packed at every startup
+	 */
+	public static Path getAtlasCacheDirectory() {
+		return atlasCacheDirectory;
+	}
+
+	/**
+	 * Sets the directory the packed texture atlas is cached in.
+	 *
+	 * @param directory the cache directory, or null to pack the atlas at every startup
+	 */
+	public static void setAtlasCacheDirectory(Path directory) {
+		atlasCacheDirectory = directory;
+	}
+
+	/**
+	 * Returns the seed new levels draw their random numbers from.
+	 *
+	 * @return the seed, or null if every level is given a new seed
+	 */
+	public static Long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Sets the seed new levels draw their random numbers from. A fixed seed makes runs with the same input
+	 * identical.
+	 *
+	 * @param newSeed the seed, or null to give every level a new seed
+	 */
+	public static void setSeed(Long newSeed) {
+		seed = newSeed;
+	}
+
+	/**
+	 * Returns the directory new levels record their player input to.
+	 *
+	 * @return the recording directory, or null if replays are not recorded
+	 */
+	public static Path getRecordingDirectory() {
+		return recordingDirectory;
+	}
+
+	/**
+	 * Sets the directory new levels record their player input to, one replay file per level.
+	 *
+	 * @param directory the recording directory, or null to record no replays
+	 */
+	public static void setRecordingDirectory(Path directory) {
+		recordingDirectory = directory;
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The HeadlessRunner class advances a level as fast as possible without a JavaFX toolkit, scene or game loop.
+ * It is meant for tests, bots and balancing runs, where only the simulated game state matters.
+ */
+public class HeadlessRunner {
+
+	/** The screen width levels are simulated with, matching the game window. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The screen height levels are simulated with, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The number of ticks simulated by {@link #main(String[])} when no count is given. */
+	private static final int DEFAULT_TICKS = 100_000;
+
+	/** The number of ticks between the demo bot's shots. */
+	private static final int BOT_FIRE_INTERVAL = 3;
+
+	/** The number of ticks the demo bot keeps flying in one direction. */
+	private static final int BOT_TURN_INTERVAL = 40;
+
+	/**
+	 * Feeds player input into a level before each tick.
+	 */
+	@FunctionalInterface
+	public interface InputScript {
+
+		/**
+		 * Called before the given tick is simulated.
+		 *
+		 * @param level the level being simulated
+		 * @param tick the index of the tick about to run, starting at 0
+		 */
+		void beforeTick(LevelParent level, long tick);
+	}
+
+	/** The level being simulated. */
+	private final LevelParent level;
+
+	/** The number of ticks simulated so far. */
+	private long ticks;
+
+	/**
+	 * Constructs a HeadlessRunner for a level that has not been given a scene.
+	 *
+	 * @param level the level to simulate
+	 */
+	public HeadlessRunner(LevelParent level) {
+		this.level = level;
+	}
+
+	/**
+	 * Simulates the level until it ends or the given number of ticks has run.
+	 *
+	 * @param maxTicks the maximum number of ticks to simulate
+	 * @param script feeds player input into the level before each tick
+	 * @return the number of ticks simulated by this call
+	 */
+	public long run(long maxTicks, InputScript script) {
+		long ticksRun = 0;
+		while (ticksRun < maxTicks && !level.hasEnded()) {
+			script.beforeTick(level, ticks);
+			level.step();
+			ticks++;
+			ticksRun++;
+		}
+		return ticksRun;
+	}
+
+	/**
+	 * Returns the number of ticks simulated so far.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Returns the level being simulated.
+	 *
+	 * @return the level
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * A simple bot that fires steadily and sweeps up and down the screen.
+	 *
+	 * @param level the level being simulated
+	 * @param tick the index of the tick about to run
+	 */
+	public static void sweepAndFire(LevelParent level, long tick) {
+		if (tick % BOT_FIRE_INTERVAL == 0) {
+			level.handleInput(PlayerInput.FIRE, true);
+			level.handleInput(PlayerInput.FIRE, false);
+		}
+		if (tick % BOT_TURN_INTERVAL == 0) {
+			boolean goingUp = (tick / BOT_TURN_INTERVAL) % 2 == 0;
+			level.handleInput(goingUp ? PlayerInput.UP : PlayerInput.DOWN, true);
+		}
+	}
+
+	/**
+	 * Simulates a level, the first one unless another is chosen, with the sweeping bot and prints the
+	 * simulation speed and the number of game events of each type.
+	 *
+	 * @param args optionally, the number of ticks to simulate, followed by {@code --level=<id>} to choose the
+	 *             level, {@code --profile} to print the tick profile when the level ends,
+	 *             {@code --seed=<seed>} to fix the level's seed, {@code --pixel-collisions} to confirm collisions
+	 *             pixel for pixel, {@code --parallelism=<threads>} and {@code --parallel-chunk-size=<indices>} to
+	 *             spread the bulk simulation work over threads and {@code --record=<directory>} to record a replay
+	 * @throws IOException if the replay file cannot be created
+	 */
+	public static void main(String[] args) throws IOException {
+		LevelRegistry.validate();
+		long maxTicks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+		LevelId levelId = LevelRegistry.getFirstLevel();
+		for (int i = 1; i < args.length; i++) {
+			if (args[i].startsWith("--level=")) {
+				levelId = LevelId.valueOf(args[i].substring("--level=".length()).toUpperCase().replace('-', '_'));
+			} else if (args[i].equals("--profile")) {
+				GameSettings.setProfilingEnabled(true);
+			} else if (args[i].equals("--pixel-collisions")) {
+				GameSettings.setPixelCollisionsEnabled(true);
+			} else if (args[i].startsWith("--parallelism=")) {
+				GameSettings.setParallelism(Integer.parseInt(args[i].substring("--parallelism=".length())));
+			} else if (args[i].startsWith("--parallel-chunk-size=")) {
+				GameSettings.setParallelChunkSize(
+						Integer.parseInt(args[i].substring("--parallel-chunk-size=".length())));
+			} else if (args[i].startsWith("--record=")) {
+				GameSettings.setRecordingDirectory(Path.of(args[i].substring("--record=".length())));
+			} else if (args[i].startsWith("--seed=")) {
+				GameSettings.setSeed(Long.parseLong(args[i].substring("--seed=".length())));
+			} else {
+				throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+		HeadlessRunner runner = new HeadlessRunner(LevelRegistry.create(levelId, SCREEN_HEIGHT, SCREEN_WIDTH));
+		if (GameSettings.getRecordingDirectory() != null) {
+			System.out.println("Recording to " + runner.getLevel().startRecording(GameSettings.getRecordingDirectory()));
+		}
+		GameEventCounter eventCounter = new GameEventCounter();
+		runner.getLevel().addGameEventListener(eventCounter);
+		long start = System.nanoTime();
+		long ticksRun = runner.run(maxTicks, HeadlessRunner::sweepAndFire);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("Simulated %s for %d ticks in %.3f s (%.0f ticks/s), seed %d, level ended: %b%n",
+				levelId, ticksRun, seconds, ticksRun / seconds, runner.getLevel().getRandomSource().getSeed(),
+				runner.getLevel().hasEnded());
+		System.out.println(eventCounter.report());
+		if (!GameSettings.isProfilingEnabled()) {
+			System.out.print(ActorPools.report());
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -10,8 +9,8 @@ import javafx.scene.layout.HBox;
  */
 public class HeartDisplay {
 
-	/** The path to the heart image file. */
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
+	/** The name of the heart sprite in the sprite atlas. */
+	private static final String HEART_IMAGE_NAME = "heart.png";
 
 	/** The height to which each heart image will be resized. */
 	private static final int HEART_HEIGHT = 50;
@@ -61,8 +60,8 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
-
+			ImageView heart = new ImageView();
+			SpriteAtlas.getRegion(HEART_IMAGE_NAME).applyTo(heart);
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
@@ -0,0 +1,151 @@
+package com.example.demo;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javafx.scene.image.Image;
+
+/**
+ * The ImageCache class is a shared store of decoded images keyed by resource path and requested size.
+ * Every actor and HUD element asking for the same image at the same size receives the same immutable
+ * {@link Image} instance, so a sprite is decoded from the classpath only once per game session.
+ */
+public final class ImageCache {
+
+	/** Requested dimension meaning "use the natural size of the image". */
+	public static final double NATURAL_SIZE = 0;
+
+	/** Number of bytes used per decoded pixel (32-bit ARGB). */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/** The decoded images, keyed by resource path and requested size. */
+	private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+	/** The number of lookups served from the cache. */
+	private static final LongAdder HITS = new LongAdder();
+
+	/** The number of lookups that had to decode the image. */
+	private static final LongAdder MISSES = new LongAdder();
+
+	/** The approximate number of bytes held by the decoded images. */
+	private static final LongAdder CACHED_BYTES = new LongAdder();
+
+	/**
+	 * Prevents instantiation; the cache is accessed through its static methods.
+	 */
+	private ImageCache() {
+	}
+
+	/**
+	 * Returns the image stored at the specified resource path at its natural size.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @return the shared image instance
+	 */
+	public static Image getImage(String resourcePath) {
+		return getImage(resourcePath, NATURAL_SIZE, NATURAL_SIZE);
+	}
+
+	/**
+	 * Returns the image stored at the specified resource path, decoded to fit the requested size.
+	 * When only one of the dimensions is requested, the other one is derived from the image's aspect ratio.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @param requestedWidth the width to decode the image at, or {@link #NATURAL_SIZE}
+	 * @param requestedHeight the height to decode the image at, or {@link #NATURAL_SIZE}
+	 * @return the shared image instance
+	 */
+	public static Image getImage(String resourcePath, double requestedWidth, double requestedHeight) {
+		String key = createKey(resourcePath, requestedWidth, requestedHeight);
+		Image image = IMAGES.get(key);
+		if (image != null) {
+			HITS.increment();
+			return image;
+		}
+		return IMAGES.computeIfAbsent(key, k -> decode(resourcePath, requestedWidth, requestedHeight));
+	}
+
+	/**
+	 * Decodes the image ahead of time so the first actor using it does not pay the decoding cost.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @param requestedWidth the width to decode the image at, or {@link #NATURAL_SIZE}
+	 * @param requestedHeight the height to decode the image at, or {@link #NATURAL_SIZE}
+	 */
+	public static void preload(String resourcePath, double requestedWidth, double requestedHeight) {
+		IMAGES.computeIfAbsent(createKey(resourcePath, requestedWidth, requestedHeight),
+				k -> decode(resourcePath, requestedWidth, requestedHeight));
+	}
+
+	/**
+	 * Returns the number of lookups that were served from the cache.
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that required decoding an image.
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Returns the approximate memory held by the decoded images.
+	 *
+	 * @return the number of bytes held by the cache
+	 */
+	public static long getCachedBytes() {
+		return CACHED_BYTES.sum();
+	}
+
+	/**
+	 * Returns the number of distinct images held by the cache.
+	 *
+	 * @return the number of cache entries
+	 */
+	public static int getEntryCount() {
+		return IMAGES.size();
+	}
+
+	/**
+	 * Builds a one-line summary of the cache statistics.
+	 *
+	 * @return the cache report
+	 */
+	public static String report() {
+		return String.format("ImageCache: %d entries, %d hits, %d misses, %d KiB",
+				getEntryCount(), getHitCount(), getMissCount(), getCachedBytes() / 1024);
+	}
+
+	/**
+	 * Creates the cache key for an image resource and requested size.
+	 */
+	private static String createKey(String resourcePath, double requestedWidth, double requestedHeight) {
+		return resourcePath + '@' + requestedWidth + 'x' + requestedHeight;
+	}
+
+	/**
+	 * Decodes the image from the classpath and records the miss.
+	 *
+	 * @throws IllegalArgumentException if the resource does not exist
+	 */
+	private static Image decode(String resourcePath, double requestedWidth, double requestedHeight) {
+		URL url = ImageCache.class.getResource(resourcePath);
+		if (url == null) {
+			throw new IllegalArgumentException("Image resource not found: " + resourcePath);
+		}
+		boolean preserveRatio = requestedWidth == NATURAL_SIZE || requestedHeight == NATURAL_SIZE;
+		Image image = new Image(url.toExternalForm(), requestedWidth, requestedHeight, preserveRatio, true);
+		MISSES.increment();
+		CACHED_BYTES.add((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+		return image;
+	}
+}
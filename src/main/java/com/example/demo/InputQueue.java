@@ -0,0 +1,143 @@
+package com.example.demo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * The InputQueue class carries the player's presses and releases of controls from the JavaFX application thread,
+ * where the key events arrive, to the thread running the level's ticks, through a ring buffer with a single writer
+ * and a single reader. Each input is stored as one packed int in a preallocated array, so offering an input
+ * allocates nothing and never waits for the reader; the reader applies every queued input, in order, at the start
+ * of its next tick.
+ * <p>
+ * The writer stores an input and then marks it as offered with a release store of the offered count; the reader
+ * loads that count with acquire semantics, applies the inputs below it and then frees their slots with a release
+ * store of the taken count, which the writer reads before reusing a slot. An input offered while the queue is full
+ * is rejected rather than overwriting one not yet applied.
+ */
+public final class InputQueue {
+
+	/** The number of inputs a queue holds by default. */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/** Every control, indexed by ordinal, to turn stored ordinals back into controls. */
+	private static final PlayerInput[] INPUTS = PlayerInput.values();
+
+	/** Accesses {@link #offered} with explicit memory ordering. */
+	private static final VarHandle OFFERED;
+
+	/** Accesses {@link #taken} with explicit memory ordering. */
+	private static final VarHandle TAKEN;
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			OFFERED = lookup.findVarHandle(InputQueue.class, "offered", long.class);
+			TAKEN = lookup.findVarHandle(InputQueue.class, "taken", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * Receives the inputs taken from the queue.
+	 */
+	@FunctionalInterface
+	public interface Handler {
+
+		/**
+		 * Applies one input.
+		 *
+		 * @param input the control
+		 * @param pressed true if the control was pressed, false if it was released
+		 */
+		void handle(PlayerInput input, boolean pressed);
+	}
+
+	/** The number of inputs the ring holds. */
+	private final int capacity;
+
+	/** Masks a sequence number down to a slot index; the capacity minus one. */
+	private final int mask;
+
+	/** The control's ordinal shifted left by one, with the lowest bit set for a press, of each slot. */
+	private final int[] entries;
+
+	/** The number of inputs offered so far, which is also the sequence number of the next input. */
+	@SuppressWarnings("unused")
+	private long offered;
+
+	/** The number of inputs taken so far. */
+	@SuppressWarnings("unused")
+	private long taken;
+
+	/** The number of inputs rejected because the queue was full. Only written by the writer. */
+	private volatile long rejectedCount;
+
+	/**
+	 * Constructs an InputQueue holding {@link #DEFAULT_CAPACITY} inputs.
+	 */
+	public InputQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an InputQueue holding the given number of inputs.
+	 *
+	 * @param capacity the number of inputs the ring holds
+	 * @throws IllegalArgumentException if the capacity is not a positive power of two
+	 */
+	public InputQueue(int capacity) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+		}
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.entries = new int[capacity];
+	}
+
+	/**
+	 * Queues an input, unless the queue is full. Must only be called from the writing thread.
+	 *
+	 * @param input the control
+	 * @param pressed true if the control was pressed, false if it was released
+	 * @return true if the input was queued, false if it was rejected
+	 */
+	public boolean offer(PlayerInput input, boolean pressed) {
+		long sequence = (long) OFFERED.getOpaque(this);
+		if (sequence - (long) TAKEN.getAcquire(this) >= capacity) {
+			rejectedCount++;
+			return false;
+		}
+		entries[(int) sequence & mask] = input.ordinal() << 1 | (pressed ? 1 : 0);
+		OFFERED.setRelease(this, sequence + 1);
+		return true;
+	}
+
+	/**
+	 * Hands every input queued since the last drain to a handler, in the order they were offered, and frees their
+	 * slots. Must only be called from the reading thread.
+	 *
+	 * @param handler the handler applying the inputs
+	 * @return the number of inputs applied
+	 */
+	public int drain(Handler handler) {
+		long first = (long) TAKEN.getOpaque(this);
+		long end = (long) OFFERED.getAcquire(this);
+		for (long sequence = first; sequence < end; sequence++) {
+			int entry = entries[(int) sequence & mask];
+			handler.handle(INPUTS[entry >>> 1], (entry & 1) != 0);
+		}
+		TAKEN.setRelease(this, end);
+		return (int) (end - first);
+	}
+
+	/**
+	 * Returns the number of inputs rejected because the queue was full. May be called from any thread.
+	 *
+	 * @return the rejected input count
+	 */
+	public long getRejectedCount() {
+		return rejectedCount;
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The LatencyHistogram class records durations in nanoseconds into log-linear buckets, in the manner of an
+ * HDR histogram: every power of two is split into a fixed number of linear sub-buckets, which bounds the
+ * relative error of any reported percentile while keeping recording allocation-free and constant-time.
+ */
+public class LatencyHistogram {
+
+	/** The number of bits used to split each power of two into linear sub-buckets. */
+	private static final int SUB_BUCKET_BITS = 5;
+
+	/** The number of linear sub-buckets per power of two. */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/** The number of buckets needed to cover every non-negative long value. */
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	/** The number of recorded values per bucket. */
+	private final long[] counts;
+
+	private long totalCount;
+	private long maxValue;
+	private long sum;
+
+	/**
+	 * Constructs an empty LatencyHistogram.
+	 */
+	public LatencyHistogram() {
+		counts = new long[BUCKET_COUNT];
+	}
+
+	/**
+	 * Records a duration. Negative durations are recorded as zero.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		counts[bucketOf(value)]++;
+		totalCount++;
+		sum += value;
+		if (value > maxValue) {
+			maxValue = value;
+		}
+	}
+
+	/**
+	 * Returns the smallest recorded value at or below which the given percentage of values fall, rounded up
+	 * to the upper edge of its bucket.
+	 *
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the value at the percentile in nanoseconds, or 0 if nothing has been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+		long seen = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			seen += counts[bucket];
+			if (seen >= rank) {
+				return Math.min(upperEdgeOf(bucket), maxValue);
+			}
+		}
+		return maxValue;
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return the count
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Returns the largest recorded value.
+	 *
+	 * @return the maximum in nanoseconds
+	 */
+	public long getMaxValue() {
+		return maxValue;
+	}
+
+	/**
+	 * Returns the mean of the recorded values.
+	 *
+	 * @return the mean in nanoseconds, or 0 if nothing has been recorded
+	 */
+	public double getMean() {
+		return totalCount == 0 ? 0 : (double) sum / totalCount;
+	}
+
+	/**
+	 * Discards every recorded value.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		maxValue = 0;
+		sum = 0;
+	}
+
+	/**
+	 * Maps a value to its bucket. Values below the sub-bucket count get a bucket each; larger values share a
+	 * bucket with the values having the same highest bit and the same following sub-bucket bits. The highest bit
+	 * is implied by the power of two and left out of the sub-bucket index, so every sub-bucket is used.
+	 */
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Returns the largest value mapped to a bucket.
+	 */
+	static long upperEdgeOf(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKET_COUNT - 1;
+		long subBucket = bucket % SUB_BUCKET_COUNT;
+		return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.demo;
+
+/**
+ * The LevelFactory interface creates a level for a screen of a given size, typically as a reference to the
+ * level's constructor. Factories are registered in the {@link LevelRegistry}.
+ */
+@FunctionalInterface
+public interface LevelFactory {
+
+	/**
+	 * Creates a new level.
+	 *
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth the width of the screen
+	 * @return the new level, not yet given a scene
+	 */
+	LevelParent create(double screenHeight, double screenWidth);
+}
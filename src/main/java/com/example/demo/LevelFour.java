@@ -15,7 +15,17 @@ public class LevelFour extends LevelParent {
      */
     public LevelFour(double screenHeight, double screenWidth) {
         super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-        boss = new Boss();
+        boss = new Boss(getRandomSource());
+    }
+
+    /**
+     * Preloads the boss and boss projectile images in addition to the player's images.
+     */
+    @Override
+    protected void preloadSprites() {
+        super.preloadSprites();
+        Boss.preload();
+        ProjectileType.BOSS.preload();
     }
 
     /**
@@ -23,7 +33,7 @@ public class LevelFour extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        addFriendlyUnit(getUser());
     }
 
     /**
@@ -55,7 +65,7 @@ public class LevelFour extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        levelView = new LevelViewLevelFour(getRoot(), PLAYER_INITIAL_HEALTH);
+        levelView = new LevelViewLevelFour(getSceneLayers(), PLAYER_INITIAL_HEALTH);
         return levelView;
     }
 }
@@ -0,0 +1,20 @@
+package com.example.demo;
+
+/**
+ * The LevelId enum names every level of the game. Each one must be registered with a factory in the
+ * {@link LevelRegistry}, which {@link LevelRegistry#validate()} checks at start-up.
+ */
+public enum LevelId {
+
+	/** The first level, against waves of enemy planes. */
+	LEVEL_ONE,
+
+	/** The second level, against the boss. */
+	LEVEL_TWO,
+
+	/** The third level, against the boss with three lives. */
+	LEVEL_THREE,
+
+	/** The fourth level, against the boss with two lives. */
+	LEVEL_FOUR
+}
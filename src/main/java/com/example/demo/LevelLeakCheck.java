@@ -0,0 +1,173 @@
+package com.example.demo;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The LevelLeakCheck class confirms that level transitions do not leak memory. Disposed levels are tracked
+ * through weak references; after a garbage collection none of them may still be reachable, no pooled actor may
+ * still be marked in use, and the used heap must be back within a tolerance of the baseline measured after the
+ * first transition.
+ */
+public class LevelLeakCheck {
+
+	/** The screen width levels are simulated with, matching the game window. */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The screen height levels are simulated with, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/** The number of runs through the levels simulated by {@link #main(String[])} when no count is given. */
+	private static final int DEFAULT_CYCLES = 20;
+
+	/** The number of ticks each level is simulated for by {@link #main(String[])}. */
+	private static final int TICKS_PER_LEVEL = 2_000;
+
+	/** The largest number of garbage collections requested while waiting for one to happen. */
+	private static final int MAX_GC_ATTEMPTS = 10;
+
+	/** How far the used heap may grow past the baseline before the check fails, in bytes. */
+	private static final long HEAP_TOLERANCE_BYTES = 2L * 1024 * 1024;
+
+	/** The levels disposed so far. */
+	private final List<WeakReference<LevelParent>> disposedLevels;
+
+	/** The used heap after the first collection, in bytes, or -1 before it is measured. */
+	private long baselineHeapBytes;
+
+	/**
+	 * Constructs a LevelLeakCheck tracking no levels.
+	 */
+	public LevelLeakCheck() {
+		this.disposedLevels = new ArrayList<>();
+		this.baselineHeapBytes = -1;
+	}
+
+	/**
+	 * Tracks a disposed level, which must become unreachable.
+	 *
+	 * @param level the disposed level
+	 * @throws IllegalArgumentException if the level has not been disposed
+	 */
+	public void track(LevelParent level) {
+		if (level.getState() != LevelState.DISPOSED) {
+			throw new IllegalArgumentException("Only disposed levels can be tracked, state: " + level.getState());
+		}
+		disposedLevels.add(new WeakReference<>(level));
+	}
+
+	/**
+	 * Collects garbage and measures the used heap, recording it as the baseline the first time.
+	 *
+	 * @return the used heap in bytes
+	 */
+	public long measureHeap() {
+		collectGarbage();
+		Runtime runtime = Runtime.getRuntime();
+		long usedHeapBytes = runtime.totalMemory() - runtime.freeMemory();
+		if (baselineHeapBytes < 0) {
+			baselineHeapBytes = usedHeapBytes;
+		}
+		return usedHeapBytes;
+	}
+
+	/**
+	 * Collects garbage and checks every condition of the leak check.
+	 *
+	 * @return true if no level is retained, no pooled actor is in use and the heap is back at the baseline
+	 */
+	public boolean passes() {
+		long usedHeapBytes = measureHeap();
+		return countRetainedLevels() == 0 && countPooledActorsInUse() == 0
+				&& usedHeapBytes - baselineHeapBytes <= HEAP_TOLERANCE_BYTES;
+	}
+
+	/**
+	 * Collects garbage and builds a one-line summary of the check.
+	 *
+	 * @return the leak check report
+	 */
+	public String report() {
+		long usedHeapBytes = measureHeap();
+		return String.format("Leak check: %d of %d disposed levels reachable, %d pooled actors in use, "
+						+ "heap %.1f MB (baseline %.1f MB, %+.1f MB)%n",
+				countRetainedLevels(), disposedLevels.size(), countPooledActorsInUse(), toMegabytes(usedHeapBytes),
+				toMegabytes(baselineHeapBytes), toMegabytes(usedHeapBytes - baselineHeapBytes));
+	}
+
+	/**
+	 * Counts the disposed levels that have not been garbage collected.
+	 */
+	private int countRetainedLevels() {
+		int retained = 0;
+		for (WeakReference<LevelParent> level : disposedLevels) {
+			if (level.get() != null) {
+				retained++;
+			}
+		}
+		return retained;
+	}
+
+	/**
+	 * Counts the actors handed out by the shared pools and never returned.
+	 */
+	private static int countPooledActorsInUse() {
+		int inUse = 0;
+		for (ActorPool<?> pool : ActorPools.getAll()) {
+			inUse += pool.getInUseCount();
+		}
+		return inUse;
+	}
+
+	/**
+	 * Requests garbage collections until one has cleared a weakly reachable sentinel object.
+	 */
+	private static void collectGarbage() {
+		WeakReference<Object> sentinel = new WeakReference<>(new Object());
+		for (int i = 0; i < MAX_GC_ATTEMPTS && sentinel.get() != null; i++) {
+			System.gc();
+		}
+		System.gc();
+	}
+
+	/**
+	 * Converts a number of bytes to megabytes.
+	 */
+	private static double toMegabytes(long bytes) {
+		return bytes / (1024.0 * 1024.0);
+	}
+
+	/**
+	 * Simulates the levels of the {@link LevelRegistry} headlessly from the first level through its successors,
+	 * disposing each in turn as the game does on a transition, and checks that the heap returns to the baseline
+	 * measured after the first run through. Exits with status 1 if the check fails.
+	 *
+	 * @param args optionally, the number of runs through the levels
+	 */
+	public static void main(String[] args) {
+		int cycles = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CYCLES;
+		LevelLeakCheck check = new LevelLeakCheck();
+		for (int cycle = 0; cycle < cycles; cycle++) {
+			for (LevelId id = LevelRegistry.getFirstLevel(); id != null; id = LevelRegistry.getSuccessor(id)) {
+				runAndDispose(check, LevelRegistry.create(id, SCREEN_HEIGHT, SCREEN_WIDTH));
+			}
+			if (cycle == 0) {
+				check.measureHeap();
+			}
+		}
+		System.out.print(check.report());
+		if (!check.passes()) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Simulates a level with the sweeping bot, then disposes and tracks it.
+	 */
+	private static void runAndDispose(LevelLeakCheck check, LevelParent level) {
+		new HeadlessRunner(level).run(TICKS_PER_LEVEL, HeadlessRunner::sweepAndFire);
+		level.dispose();
+		check.track(level);
+	}
+}
@@ -1,5 +1,7 @@
 package com.example.demo;
 
+import java.util.SplittableRandom;
+
 /**
  * The LevelOne class represents the first level of the game. It extends {@link LevelParent} and defines
  * the specific behavior and conditions for the level, including enemy spawning, player health, and level transition.
@@ -9,9 +11,6 @@ public class LevelOne extends LevelParent {
 	/** The background image file for the level. */
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 
-	/** The class name for the next level to be loaded. */
-	private static final String NEXT_LEVEL = "com.example.demo.LevelTwo";
-
 	/** The total number of enemies in the level. */
 	private static final int TOTAL_ENEMIES = 5;
 
@@ -35,6 +34,25 @@ public class LevelOne extends LevelParent {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
 	}
 
+	/**
+	 * Preloads the enemy plane and enemy projectile images in addition to the player's images.
+	 */
+	@Override
+	protected void preloadSprites() {
+		super.preloadSprites();
+		EnemyPlane.preload();
+		ProjectileType.ENEMY.preload();
+	}
+
+	/**
+	 * Reserves the enemy planes.
+	 */
+	@Override
+	protected void reservePools() {
+		super.reservePools();
+		reservePool(ActorPools.ENEMY_PLANES, TOTAL_ENEMIES);
+	}
+
 	/**
 	 * Checks if the game is over based on the player's health or kill count. If the player is destroyed,
 	 * the game ends. If the player reaches the required kill count, the next level is triggered.
@@ -44,7 +62,7 @@ public class LevelOne extends LevelParent {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (userHasReachedKillTarget()) {
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
 		}
 	}
 
@@ -53,19 +71,21 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		addFriendlyUnit(getUser());
 	}
 
 	/**
 	 * Spawns enemy units for this level, adding them to the game scene based on a defined probability.
+	 * Spawning draws from the level's {@link RandomStream#SPAWN} stream.
 	 */
 	@Override
 	protected void spawnEnemyUnits() {
+		SplittableRandom random = getRandomSource().stream(RandomStream.SPAWN);
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+			if (random.nextDouble() < ENEMY_SPAWN_PROBABILITY) {
+				double newEnemyInitialYPosition = random.nextDouble() * getEnemyMaximumYPosition();
+				ActiveActorDestructible newEnemy = EnemyPlane.obtain(getScreenWidth(), newEnemyInitialYPosition);
 				addEnemyUnit(newEnemy);
 			}
 		}
@@ -78,7 +98,7 @@ public class LevelOne extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+		return new LevelView(getSceneLayers(), PLAYER_INITIAL_HEALTH);
 	}
 
 	/**
@@ -1,49 +1,126 @@
 package com.example.demo;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
 
-import javafx.animation.*;
+import javafx.application.Platform;
 import javafx.event.EventHandler;
-import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
 import javafx.scene.input.*;
-import javafx.util.Duration;
 
 /**
  * The LevelParent class serves as the base class for creating different levels in the game.
  * It manages game mechanics such as player and enemy interactions, projectile handling, and level progression.
+ * The game state is plain Java and can be advanced headlessly with {@link #step()}; the JavaFX scene is only
+ * built by {@link #initializeScene()}, after which an {@link ActorRenderer} draws the {@link FrameSnapshot}s the
+ * level publishes through a {@link FrameExchange}. The player's input reaches the ticks through an
+ * {@link InputQueue}, so the ticks may run on a thread of their own, see {@link GameLoopMode#THREADED}.
+ * Planes are objects in per-category lists, while the projectiles of each side, which can number in the tens of
+ * thousands, are rows of a {@link ProjectileStore}.
+ * A level moves through the {@link LevelState} lifecycle and must be {@link #dispose() disposed} once it is
+ * replaced, which stops its game loop and releases everything it holds.
+ * What happens during play is published on the level's {@link GameEventBus}, from which the heads-up display
+ * and any other {@link GameEventListener} read without holding up the tick.
  */
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent {
 
 	/** The adjustment to screen height for the level's display area. */
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
 
-	/** The delay between each game loop iteration in milliseconds. */
-	private static final int MILLISECOND_DELAY = 50;
+	/** The default width and height of a collision broadphase cell. */
+	private static final double DEFAULT_COLLISION_CELL_SIZE = 128;
+
+	/** How far outside the screen a projectile may travel before it is retired. */
+	private static final double PROJECTILE_CULLING_MARGIN = 100;
+
+	/** The number of ticks a projectile may live before it is retired. */
+	private static final int PROJECTILE_MAX_AGE_IN_TICKS = 400;
+
+	/** The phases of a tick, in the order they run. */
+	private static final TickPhase[] TICK_PHASES = TickPhase.values();
+
+	/** The multiplier mixing each value into the state hash, the 64-bit golden ratio. */
+	private static final long STATE_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
 
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
-	private final Group root;
-	private final Timeline timeline;
+	private final String backgroundImageName;
 	private final UserPlane user;
-	private final Scene scene;
-	private final ImageView background;
+
+	private SceneLayers sceneLayers;
+	private Scene scene;
+	private ImageView background;
+	private GameLoop gameLoop;
+	private SimulationSpeed simulationSpeed;
+	private LevelState state;
+	private ActorRenderer actorRenderer;
 
 	private final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
-	private final List<ActiveActorDestructible> userProjectiles;
-	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final ProjectileStore userProjectiles;
+	private final ProjectileStore enemyProjectiles;
+
+	private final CollisionGrid collisionGrid;
+	private final ActorBounds collisionBounds;
+	private final ActorBounds otherCollisionBounds;
+	private final ContactBuffer contacts;
+	private final boolean pixelCollisions;
+	private final SimulationWorkers workers;
+
+	/** The grid query and contact buffer of each detection chunk; chunk 0 fills {@link #contacts} itself. */
+	private final CollisionGrid.Query[] chunkQueries;
+	private final ContactBuffer[] chunkContacts;
+
+	/** The chunk tasks of the bulk simulation work, created once so that serial ticks allocate nothing. */
+	private final SimulationWorkers.ChunkTask userProjectileUpdate;
+	private final SimulationWorkers.ChunkTask enemyProjectileUpdate;
+	private final SimulationWorkers.ChunkTask userProjectileCapture;
+	private final SimulationWorkers.ChunkTask enemyProjectileCapture;
+	private final SimulationWorkers.ChunkTask contactDetection;
+
+	/** Carries the player's input from the key handlers to the start of the next tick. */
+	private final InputQueue inputQueue;
+	private final InputQueue.Handler inputHandler;
+
+	/** The controls whose keys are held down, to tell auto-repeated presses apart. Only touched by the key handlers. */
+	private final Set<PlayerInput> heldInputs;
+
+	/** Carries the captured ticks from the simulation to the renderer. */
+	private final FrameExchange frames;
+
+	/** The tick count of the last frame published. Only touched by the thread running the ticks. */
+	private long publishedTick;
 
-	private int currentNumberOfEnemies;
+	private final ActorLifetime projectileLifetime;
+	private final TickProfiler profiler;
+	private final RandomSource randomSource;
+	private final List<Runnable> poolReservations;
+	private final GameEventBus eventBus;
+	private final List<GameEventBus.Subscription> subscriptions;
+	private final List<LevelTransitionListener> transitionListeners;
+
+	/** The transition made by the last tick, until it is dispatched. Set by the thread running the ticks. */
+	private volatile LevelTransition pendingTransition;
+	private LevelId levelId;
+	private boolean assetsPreloaded;
+	private ReplayWriter replayWriter;
+
+	private int enemiesRemovedThisTick;
+	private int reportedPlayerHealth;
 	private LevelView levelView;
+	private boolean hasEnded;
+	private long tickCount;
 
 	/**
-	 * Constructs a LevelParent instance, initializing game elements including the scene, timeline, player,
-	 * and lists for friendly units, enemy units, and projectiles.
+	 * Constructs a LevelParent instance, initializing game elements including the player
+	 * and lists for friendly units, enemy units, and projectiles. The level draws its random numbers from
+	 * the seed in the {@link GameSettings}, or from a new seed if none is set, and takes from them whether its
+	 * collisions are pixel-accurate and how many threads its bulk simulation work may use. No JavaFX objects are
+	 * created until {@link #initializeScene()} is called.
 	 *
 	 * @param backgroundImageName the background image file for the level
 	 * @param screenHeight the height of the screen
@@ -51,27 +128,127 @@ public abstract class LevelParent extends Observable {
 	 * @param playerInitialHealth the initial health of the player
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+		this.backgroundImageName = backgroundImageName;
+		this.actorRenderer = ActorRenderer.NONE;
 		this.user = new UserPlane(playerInitialHealth);
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
-		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
-
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.userProjectiles = new ProjectileStore();
+		this.enemyProjectiles = new ProjectileStore();
+		this.collisionGrid = new CollisionGrid(DEFAULT_COLLISION_CELL_SIZE);
+		this.collisionBounds = new ActorBounds();
+		this.otherCollisionBounds = new ActorBounds();
+		this.contacts = new ContactBuffer();
+		this.pixelCollisions = GameSettings.isPixelCollisionsEnabled();
+		this.workers = GameSettings.getParallelism() > 1
+				? new SimulationWorkers(GameSettings.getParallelism(), GameSettings.getParallelChunkSize())
+				: SimulationWorkers.SERIAL;
+		this.chunkQueries = new CollisionGrid.Query[workers.getParallelism()];
+		this.chunkContacts = new ContactBuffer[workers.getParallelism()];
+		this.chunkQueries[0] = collisionGrid.newQuery();
+		this.chunkContacts[0] = contacts;
+		for (int chunk = 1; chunk < chunkQueries.length; chunk++) {
+			chunkQueries[chunk] = collisionGrid.newQuery();
+			chunkContacts[chunk] = new ContactBuffer();
+		}
+		this.userProjectileUpdate = (chunk, from, to) -> updateProjectiles(userProjectiles, from, to);
+		this.enemyProjectileUpdate = (chunk, from, to) -> updateProjectiles(enemyProjectiles, from, to);
+		this.userProjectileCapture = (chunk, from, to) -> otherCollisionBounds.capture(userProjectiles, from, to);
+		this.enemyProjectileCapture = (chunk, from, to) -> otherCollisionBounds.capture(enemyProjectiles, from, to);
+		this.contactDetection = this::detectContactsInChunk;
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
-		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
-		friendlyUnits.add(user);
+		this.projectileLifetime = new ActorLifetime(screenWidth, screenHeight, PROJECTILE_CULLING_MARGIN,
+				PROJECTILE_MAX_AGE_IN_TICKS);
+		this.profiler = GameSettings.isProfilingEnabled() ? new TickProfiler() : null;
+		Long seed = GameSettings.getSeed();
+		this.randomSource = new RandomSource(seed != null ? seed : RandomSource.newSeed());
+		this.simulationSpeed = GameSettings.getSimulationSpeed();
+		this.state = LevelState.CREATED;
+		this.poolReservations = new ArrayList<>();
+		this.eventBus = new GameEventBus();
+		this.subscriptions = new ArrayList<>();
+		this.transitionListeners = new ArrayList<>();
+		this.reportedPlayerHealth = playerInitialHealth;
+		this.inputQueue = new InputQueue();
+		this.inputHandler = this::handleInput;
+		this.heldInputs = EnumSet.noneOf(PlayerInput.class);
+		this.frames = new FrameExchange();
+		this.publishedTick = -1;
+		initializeFriendlyUnits();
+	}
+
+	/**
+	 * Returns the id the level was created under by the {@link LevelRegistry}.
+	 *
+	 * @return the level's id, or null if the level was not created through the registry
+	 */
+	public LevelId getLevelId() {
+		return levelId;
 	}
 
 	/**
-	 * Initializes the friendly units for the level. This method must be implemented by subclasses.
+	 * Records the id the level was created under. Called by {@link LevelRegistry#create(LevelId, double, double)}.
+	 *
+	 * @param levelId the level's id
+	 */
+	void setLevelId(LevelId levelId) {
+		this.levelId = levelId;
+	}
+
+	/**
+	 * Prepares everything the level needs before its scene is built: decodes the background and level view
+	 * images, resolves the actor sprites and creates the pooled actors reserved by {@link #reservePools()}.
+	 * Touches no scene and no shared pool, so it can run on a background thread while another level is played;
+	 * otherwise {@link #initializeScene()} calls it. Calling it again has no effect.
+	 */
+	public void preloadAssets() {
+		if (assetsPreloaded) {
+			return;
+		}
+		ImageCache.preload(backgroundImageName, screenWidth, screenHeight);
+		LevelView.preloadImages();
+		preloadSprites();
+		reservePools();
+		assetsPreloaded = true;
+	}
+
+	/**
+	 * Resolves the sprites used by the level's actors in the {@link SpriteAtlas} before the level starts, which
+	 * loads the atlas the first time.
+	 * Subclasses spawning additional kinds of actors should extend this method.
+	 */
+	protected void preloadSprites() {
+		UserPlane.preload();
+		ProjectileType.USER.preload();
+	}
+
+	/**
+	 * Reserves the pooled actors the level is expected to have in play at once, with
+	 * {@link #reservePool(ActorPool, int)}. Projectiles are not pooled; they live in the level's
+	 * {@link ProjectileStore}s. The base level reserves nothing; subclasses spawning pooled actors should
+	 * override this method.
+	 */
+	protected void reservePools() {
+	}
+
+	/**
+	 * Creates actors for a pool, to be handed to it when the scene is initialized so that the pool holds at
+	 * least that many free actors when the level starts.
+	 *
+	 * @param pool the pool
+	 * @param count the number of free actors the pool should hold
+	 * @param <T> the type of actor held by the pool
+	 */
+	protected final <T extends ActiveActorDestructible> void reservePool(ActorPool<T> pool, int count) {
+		List<T> spares = pool.createSpares(count);
+		poolReservations.add(() -> pool.prewarm(spares));
+	}
+
+	/**
+	 * Initializes the friendly units for the level, typically by adding the user plane with
+	 * {@link #addFriendlyUnit(ActiveActorDestructible)}. This method must be implemented by subclasses.
 	 */
 	protected abstract void initializeFriendlyUnits();
 
@@ -96,60 +273,655 @@ public abstract class LevelParent extends Observable {
 
 	/**
 	 * Initializes the scene with the background image, friendly units, and other visual elements.
+	 * The scene is built from {@link SceneLayers}, and the actors already in play are handed to the renderer
+	 * selected by {@link GameSettings#getRendererMode()}.
 	 *
 	 * @return the initialized Scene object
+	 * @throws IllegalStateException if the scene has already been initialized or the level has been disposed
 	 */
 	public Scene initializeScene() {
+		requireState(LevelState.CREATED, "initialize the scene");
+		preloadAssets();
+		poolReservations.forEach(Runnable::run);
+		poolReservations.clear();
+		sceneLayers = new SceneLayers();
+		scene = new Scene(sceneLayers.getRoot(), screenWidth, screenHeight);
+		background = new ImageView(ImageCache.getImage(backgroundImageName, screenWidth, screenHeight));
+		levelView = instantiateLevelView();
+		addGameEventListener(levelView);
 		initializeBackground();
-		initializeFriendlyUnits();
+		setActorRenderer(createActorRenderer());
 		levelView.showHeartDisplay();
+		state = LevelState.INITIALIZED;
 		return scene;
 	}
 
 	/**
-	 * Starts the game by beginning the game loop (timeline).
+	 * Starts the game by beginning the game loop, at the simulation speed set in the {@link GameSettings}.
+	 *
+	 * @throws IllegalStateException if the scene has not been initialized or the game has already been started
 	 */
 	public void startGame() {
+		requireState(LevelState.INITIALIZED, "start the game");
+		Path recordingDirectory = GameSettings.getRecordingDirectory();
+		if (recordingDirectory != null) {
+			try {
+				startRecording(recordingDirectory);
+			} catch (IOException e) {
+				System.err.println("Could not start recording the replay: " + e);
+			}
+		}
+		gameLoop = createGameLoop();
+		gameLoop.setSpeed(simulationSpeed);
 		background.requestFocus();
-		timeline.play();
+		state = LevelState.RUNNING;
+		gameLoop.start();
+	}
+
+	/**
+	 * Advances the game by one tick without a game loop, then delivers the tick's events to the listeners.
+	 * Used to run levels headlessly.
+	 *
+	 * @throws IllegalStateException if the level has been disposed
+	 */
+	public void step() {
+		if (state == LevelState.DISPOSED) {
+			throw new IllegalStateException("Cannot step a disposed level");
+		}
+		updateScene();
+		dispatchGameEvents();
+	}
+
+	/**
+	 * Returns the bus the level publishes its events on.
+	 *
+	 * @return the event bus
+	 */
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Subscribes a listener to the level's events. The listener is called from {@link #dispatchGameEvents()},
+	 * between ticks, with the events published since the previous dispatch; it is dropped when the level is
+	 * disposed. Readers on other threads should poll their own subscription from {@link #getEventBus()} instead.
+	 *
+	 * @param listener the listener
+	 * @return the listener's subscription
+	 */
+	public GameEventBus.Subscription addGameEventListener(GameEventListener listener) {
+		GameEventBus.Subscription subscription = eventBus.subscribe(listener);
+		subscriptions.add(subscription);
+		return subscription;
+	}
+
+	/**
+	 * Adds a listener told of the transition to the next level once the level has been completed. Like the
+	 * event listeners, it is called from {@link #dispatchGameEvents()} and dropped when the level is disposed.
+	 *
+	 * @param listener the listener
+	 */
+	public void addLevelTransitionListener(LevelTransitionListener listener) {
+		transitionListeners.add(listener);
 	}
 
 	/**
-	 * Moves the game to the next level by notifying observers with the next level's class name.
+	 * Delivers the events published since the previous dispatch to every listener added with
+	 * {@link #addGameEventListener(GameEventListener)}, and then the level's transition, if it has just been
+	 * completed, to every transition listener. Runs before each frame is drawn, after the last tick of the level,
+	 * and after each {@link #step()}.
+	 */
+	public void dispatchGameEvents() {
+		for (int i = 0; i < subscriptions.size(); i++) {
+			subscriptions.get(i).poll();
+		}
+		LevelTransition transition = pendingTransition;
+		if (transition != null) {
+			pendingTransition = null;
+			for (int i = 0; i < transitionListeners.size(); i++) {
+				transitionListeners.get(i).onLevelTransition(transition);
+			}
+		}
+	}
+
+	/**
+	 * Sets how fast the game loop simulates the level relative to real time. Faster speeds draw only some of
+	 * the frames; the ticks themselves, and so replays, are the same at every speed.
 	 *
-	 * @param levelName the class name of the next level
+	 * @param speed the simulation speed
 	 */
-	public void goToNextLevel(String levelName) {
-		setChanged();
-		notifyObservers(levelName);
+	public void setSimulationSpeed(SimulationSpeed speed) {
+		simulationSpeed = speed;
+		if (gameLoop != null) {
+			gameLoop.setSpeed(speed);
+		}
 	}
 
 	/**
-	 * Updates the scene during each iteration of the game loop, handling the spawning of enemies,
-	 * movement of actors, collision detection, and removal of destroyed actors.
+	 * Returns how fast the game loop simulates the level relative to real time.
+	 *
+	 * @return the simulation speed
+	 */
+	public SimulationSpeed getSimulationSpeed() {
+		return simulationSpeed;
+	}
+
+	/**
+	 * Pauses the running game loop. Player input is still applied, and takes effect on the next tick.
+	 * Does nothing unless the game is running.
+	 */
+	public void pause() {
+		if (state == LevelState.RUNNING) {
+			state = LevelState.PAUSED;
+			gameLoop.stop();
+			if (hasEnded) {
+				dispatchGameEvents();
+			}
+		}
+	}
+
+	/**
+	 * Resumes the game loop after {@link #pause()}; the loop stays stopped if the level has ended meanwhile.
+	 * Does nothing unless the game is paused.
+	 */
+	public void resume() {
+		if (state == LevelState.PAUSED) {
+			state = LevelState.RUNNING;
+			if (!hasEnded) {
+				gameLoop.start();
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the game loop is paused.
+	 *
+	 * @return true if paused
+	 */
+	public boolean isPaused() {
+		return state == LevelState.PAUSED;
+	}
+
+	/**
+	 * Returns the stage of its lifecycle the level is in.
+	 *
+	 * @return the level state
+	 */
+	public LevelState getState() {
+		return state;
+	}
+
+	/**
+	 * Tears the level down: stops the game loop, abandons any unfinished replay, detaches the key handlers and
+	 * event listeners, returns pooled actors to their pools and drops the actor lists and scene. The scene should stay
+	 * on screen for one more frame, so that the toolkit can free the bitmaps of the cached layers. Calling it
+	 * again has no effect.
+	 */
+	public void dispose() {
+		if (state == LevelState.DISPOSED) {
+			return;
+		}
+		state = LevelState.DISPOSED;
+		hasEnded = true;
+		if (gameLoop != null) {
+			gameLoop.stop();
+			gameLoop = null;
+		}
+		if (replayWriter != null) {
+			try {
+				replayWriter.close();
+			} catch (IOException e) {
+				System.err.println("Could not close the replay: " + e);
+			}
+			replayWriter = null;
+		}
+		subscriptions.clear();
+		transitionListeners.clear();
+		if (background != null) {
+			background.setOnKeyPressed(null);
+			background.setOnKeyReleased(null);
+		}
+		releaseActors(friendlyUnits);
+		releaseActors(enemyUnits);
+		userProjectiles.clear();
+		enemyProjectiles.clear();
+		actorRenderer = ActorRenderer.NONE;
+		if (sceneLayers != null) {
+			sceneLayers.releaseCaches();
+		}
+		levelView = null;
+		background = null;
+		sceneLayers = null;
+		scene = null;
+	}
+
+	/**
+	 * Returns every pooled actor in the list to its pool and empties the list.
+	 */
+	private static void releaseActors(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).recycle();
+		}
+		actors.clear();
+	}
+
+	/**
+	 * Checks that the level is in the state an operation requires.
+	 *
+	 * @throws IllegalStateException if the level is in any other state
+	 */
+	private void requireState(LevelState required, String operation) {
+		if (state != required) {
+			throw new IllegalStateException("Cannot " + operation + " in state " + state + ", expected " + required);
+		}
+	}
+	/**
+	 * Runs a single tick while the game is paused and draws the result.
+	 *
+	 * @throws IllegalStateException if the game is not paused
+	 */
+	public void stepPaused() {
+		if (state != LevelState.PAUSED) {
+			throw new IllegalStateException("Single-stepping requires the game to be paused");
+		}
+		if (!hasEnded) {
+			updateScene();
+			renderActors(1);
+		}
+	}
+
+	/**
+	 * Starts recording the player's input to a replay file named after the level and its seed. The recording
+	 * is finished with the level's final state when the level ends.
+	 *
+	 * @param directory the directory to write the replay file to
+	 * @return the replay file
+	 * @throws IOException if the replay file cannot be created
+	 * @throws IllegalStateException if the level was not created through the {@link LevelRegistry}
+	 */
+	public Path startRecording(Path directory) throws IOException {
+		if (levelId == null) {
+			throw new IllegalStateException("Only registered levels can be recorded");
+		}
+		Path file = directory.resolve(String.format("%s-%016x.replay", getClass().getSimpleName(),
+				randomSource.getSeed()));
+		replayWriter = new ReplayWriter(file, levelId, randomSource.getSeed(), screenHeight, screenWidth,
+				GameSettings.getTicksPerSecond(), pixelCollisions);
+		return file;
+	}
+
+	/**
+	 * Applies a press or release of one of the player's controls, recording it with the index of the tick it
+	 * applies to if a replay is being recorded. Must be called between ticks, on the thread running them; key
+	 * presses are queued and applied at the start of the next tick.
+	 *
+	 * @param input the control
+	 * @param pressed true if the control was pressed, false if it was released
+	 */
+	public void handleInput(PlayerInput input, boolean pressed) {
+		if (replayWriter != null) {
+			try {
+				replayWriter.writeInput(tickCount, input, pressed);
+			} catch (IOException e) {
+				stopRecording(e);
+			}
+		}
+		if (pressed) {
+			if (input == PlayerInput.UP) user.moveUp();
+			if (input == PlayerInput.DOWN) user.moveDown();
+			if (input == PlayerInput.FIRE) fireProjectile();
+		} else if (input == PlayerInput.UP || input == PlayerInput.DOWN) {
+			user.stop();
+		}
+	}
+
+	/**
+	 * Checks whether the level has ended, because it was won, lost, or handed over to the next level.
+	 *
+	 * @return true if the level has ended, false otherwise
+	 */
+	public boolean hasEnded() {
+		return hasEnded;
+	}
+
+	/**
+	 * Ends the level and moves the game to the next level by publishing a {@link GameEventType#LEVEL_COMPLETED}
+	 * event and handing the transition listeners a {@link LevelTransition} to the level's successor in the
+	 * {@link LevelRegistry}. The listener is expected to dispose this level once the current tick has finished.
+	 *
+	 * @throws IllegalStateException if the registry gives the level no successor
+	 */
+	public void goToNextLevel() {
+		LevelId nextLevel = levelId != null ? LevelRegistry.getSuccessor(levelId) : null;
+		if (nextLevel == null) {
+			throw new IllegalStateException(getClass().getSimpleName() + " has no successor");
+		}
+		endLevel();
+		eventBus.publish(GameEventType.LEVEL_COMPLETED, 0);
+		pendingTransition = new LevelTransition(levelId, nextLevel);
+	}
+
+	/**
+	 * Updates the scene during each iteration of the game loop, applying the input queued since the last tick
+	 * and then handling the spawning of enemies, movement of actors, collision detection, and removal of
+	 * destroyed actors. The profile is reported after the tick that ends the level, once that tick is recorded.
 	 */
 	private void updateScene() {
-		spawnEnemyUnits();
-		updateActors();
-		generateEnemyFire();
-		updateNumberOfEnemies();
-		handleEnemyPenetration();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
-		removeAllDestroyedActors();
-		updateKillCount();
-		updateLevelView();
-		checkIfGameOver();
+		boolean endedBefore = hasEnded;
+		inputQueue.drain(inputHandler);
+		if (profiler == null) {
+			for (TickPhase phase : TICK_PHASES) {
+				runPhase(phase);
+			}
+		} else {
+			updateSceneProfiled();
+		}
+		tickCount++;
+		eventBus.setTick(tickCount);
+		if (hasEnded && !endedBefore) {
+			reportProfile();
+		}
+		if (hasEnded && replayWriter != null) {
+			finishRecording();
+		}
+	}
+
+	/**
+	 * Appends the level's final tick and state hash to the replay being recorded and closes it.
+	 */
+	private void finishRecording() {
+		try {
+			replayWriter.finish(tickCount, computeStateHash());
+			replayWriter = null;
+		} catch (IOException e) {
+			stopRecording(e);
+		}
+	}
+
+	/**
+	 * Abandons the replay being recorded after a write failed, leaving the events written so far.
+	 */
+	private void stopRecording(IOException cause) {
+		System.err.println("Stopped recording the replay: " + cause);
+		try {
+			replayWriter.close();
+		} catch (IOException e) {
+			cause.addSuppressed(e);
+		}
+		replayWriter = null;
 	}
 
 	/**
-	 * Initializes the game loop's timeline and sets up the periodic update cycle.
+	 * Computes a hash of the simulated state: the tick count, the player's health and kills, and the position,
+	 * destruction and health of every actor in play. Runs with the same seed and input end in the same hash.
+	 *
+	 * @return the state hash
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	public long computeStateHash() {
+		long hash = mixHash(0, tickCount);
+		hash = mixHash(hash, user.getHealth());
+		hash = mixHash(hash, user.getNumberOfKills());
+		hash = hashActors(hash, friendlyUnits);
+		hash = hashActors(hash, enemyUnits);
+		hash = hashProjectiles(hash, userProjectiles);
+		return hashProjectiles(hash, enemyProjectiles);
+	}
+
+	/**
+	 * Mixes the state of every projectile in a store into the state hash, exactly as {@link #hashActors} would
+	 * for the same projectiles held as actors.
+	 */
+	private static long hashProjectiles(long hash, ProjectileStore projectiles) {
+		hash = mixHash(hash, projectiles.size());
+		for (int i = 0; i < projectiles.size(); i++) {
+			hash = mixHash(hash, Double.doubleToLongBits(projectiles.getMinX(i)));
+			hash = mixHash(hash, Double.doubleToLongBits(projectiles.getMinY(i)));
+			hash = mixHash(hash, projectiles.isDestroyed(i) ? 1 : 0);
+		}
+		return hash;
+	}
+
+	/**
+	 * Mixes the state of every actor in a list into the state hash.
+	 */
+	private static long hashActors(long hash, List<ActiveActorDestructible> actors) {
+		hash = mixHash(hash, actors.size());
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			hash = mixHash(hash, Double.doubleToLongBits(actor.getMinX()));
+			hash = mixHash(hash, Double.doubleToLongBits(actor.getMinY()));
+			hash = mixHash(hash, actor.isDestroyed() ? 1 : 0);
+			if (actor instanceof FighterPlane plane) {
+				hash = mixHash(hash, plane.getHealth());
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Mixes one value into the state hash.
+	 */
+	private static long mixHash(long hash, long value) {
+		long mixed = (hash ^ value) * STATE_HASH_MULTIPLIER;
+		return mixed ^ (mixed >>> 32);
+	}
+
+	/**
+	 * Returns the number of ticks the level has run.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Runs every phase of the tick while timing each one, then emits a {@link TickEvent} with the actor counts.
+	 */
+	private void updateSceneProfiled() {
+		TickEvent event = new TickEvent();
+		event.begin();
+		long tickStart = System.nanoTime();
+		long phaseStart = tickStart;
+		for (TickPhase phase : TICK_PHASES) {
+			runPhase(phase);
+			long phaseEnd = System.nanoTime();
+			profiler.recordPhase(phase, phaseEnd - phaseStart);
+			phaseStart = phaseEnd;
+		}
+		profiler.recordTick(phaseStart - tickStart);
+		if (event.shouldCommit()) {
+			event.level = getClass().getSimpleName();
+			event.tick = tickCount;
+			event.friendlyUnits = friendlyUnits.size();
+			event.enemyUnits = enemyUnits.size();
+			event.userProjectiles = userProjectiles.size();
+			event.enemyProjectiles = enemyProjectiles.size();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Prints the tick profile of the level, if profiling is enabled, along with the image cache and pool statistics.
+	 */
+	private void reportProfile() {
+		if (profiler != null) {
+			System.out.print(profiler.report(getClass().getSimpleName() + " after " + tickCount + " ticks"));
+			System.out.println(ImageCache.report());
+			System.out.println(SpriteAtlas.report());
+			System.out.print(ActorPools.report());
+			System.out.printf("Input queue: %d input(s) dropped while full%n", inputQueue.getRejectedCount());
+			if (sceneLayers != null) {
+				// The layers belong to the JavaFX application thread, which the ticks may not run on.
+				SceneLayers layers = sceneLayers;
+				if (Platform.isFxApplicationThread()) {
+					System.out.print(layers.report());
+				} else {
+					Platform.runLater(() -> System.out.print(layers.report()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the tick profiler of the level.
+	 *
+	 * @return the profiler, or null if profiling was disabled when the level was created
+	 */
+	public TickProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Runs a single phase of the tick. A full tick runs every {@link TickPhase} in declaration order.
+	 *
+	 * @param phase the phase to run
+	 */
+	public void runPhase(TickPhase phase) {
+		switch (phase) {
+			case SPAWN_ENEMY_UNITS:
+				savePreviousPositions();
+				spawnEnemyUnits();
+				break;
+			case UPDATE_ACTORS:
+				updateActors();
+				break;
+			case GENERATE_ENEMY_FIRE:
+				generateEnemyFire();
+				break;
+			case HANDLE_COLLISIONS:
+				handleEnemyPenetration();
+				handleUserProjectileCollisions();
+				handleEnemyProjectileCollisions();
+				handlePlaneCollisions();
+				break;
+			case REMOVE_DESTROYED_ACTORS:
+				removeAllDestroyedActors();
+				break;
+			case UPDATE_KILL_COUNT:
+				updateKillCount();
+				break;
+			case UPDATE_LEVEL_VIEW:
+				publishPlayerHealth();
+				break;
+			case CHECK_IF_GAME_OVER:
+				checkIfGameOver();
+				break;
+		}
+	}
+
+	/**
+	 * Creates the game loop driver selected in the {@link GameSettings}, running {@link #runLoopTick()} once per tick.
+	 *
+	 * @return the game loop for this level
+	 */
+	private GameLoop createGameLoop() {
+		double ticksPerSecond = GameSettings.getTicksPerSecond();
+		if (GameSettings.getGameLoopMode() == GameLoopMode.TIMELINE) {
+			return new TimelineGameLoop(ticksPerSecond, this::runLoopTick, this::renderActors);
+		}
+		if (GameSettings.getGameLoopMode() == GameLoopMode.THREADED) {
+			return new ThreadedGameLoop(ticksPerSecond, GameSettings.getMaxCatchUpTicks(), this::updateScene,
+					this::publishFrame, this::renderLatestFrame);
+		}
+		return new FixedStepGameLoop(ticksPerSecond, GameSettings.getMaxCatchUpTicks(), this::runLoopTick,
+				this::renderActors);
+	}
+
+	/**
+	 * Runs one tick for the game loop. The loop stops drawing once the level ends, so the events of the final
+	 * tick are dispatched here instead.
+	 */
+	private void runLoopTick() {
+		updateScene();
+		if (hasEnded) {
+			dispatchGameEvents();
+		}
+	}
+
+	/**
+	 * Records the position of every actor at the start of the tick, for render interpolation.
+	 */
+	private void savePreviousPositions() {
+		friendlyUnits.forEach(ActiveActor::savePreviousPosition);
+		enemyUnits.forEach(ActiveActor::savePreviousPosition);
+		userProjectiles.savePreviousPositions();
+		enemyProjectiles.savePreviousPositions();
+	}
+
+	/**
+	 * Delivers the events published since the previous frame, then draws every actor between its previous and
+	 * current simulated position. Used by the game loops that run the ticks on the JavaFX application thread.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last tick
+	 */
+	private void renderActors(double alpha) {
+		dispatchGameEvents();
+		drawCurrentFrame(alpha);
+	}
+
+	/**
+	 * Publishes the current tick, unless it already has been, and draws it. Only called while no other thread
+	 * runs the ticks.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last tick
+	 */
+	private void drawCurrentFrame(double alpha) {
+		if (publishedTick != tickCount) {
+			publishFrame(System.nanoTime(), 0);
+		}
+		actorRenderer.render(frames.getLatestFrame(), alpha);
+	}
+
+	/**
+	 * Captures the position of every actor and projectile in play into a snapshot and publishes it for the
+	 * renderer. Called by the thread running the ticks.
+	 *
+	 * @param dueNanos the {@link System#nanoTime()} at which the last tick was due
+	 * @param intervalNanos the real time between two ticks, or 0 if the ticks are not paced in real time
+	 */
+	private void publishFrame(long dueNanos, long intervalNanos) {
+		FrameSnapshot frame = frames.getBackFrame();
+		frame.clear(tickCount, dueNanos, intervalNanos);
+		frame.addActors(friendlyUnits, SceneLayer.FRIENDLIES);
+		frame.addActors(enemyUnits, SceneLayer.ENEMIES);
+		frame.addProjectiles(userProjectiles, SceneLayer.USER_PROJECTILES);
+		frame.addProjectiles(enemyProjectiles, SceneLayer.ENEMY_PROJECTILES);
+		frames.publish();
+		publishedTick = tickCount;
+	}
+
+	/**
+	 * Delivers the events published since the previous pulse, then draws the latest frame published by the
+	 * simulation thread, interpolated to the current time. Used by the {@link ThreadedGameLoop}.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 */
+	private void renderLatestFrame(long nowNanos) {
+		dispatchGameEvents();
+		FrameSnapshot frame = frames.getLatestFrame();
+		actorRenderer.render(frame, frame.alphaAt(nowNanos));
+	}
+
+	/**
+	 * Creates the renderer selected in the game settings, drawing into the scene layers.
+	 */
+	private ActorRenderer createActorRenderer() {
+		if (GameSettings.getRendererMode() == RendererMode.CANVAS) {
+			return new CanvasActorRenderer(sceneLayers, screenWidth, screenHeight);
+		}
+		return new NodeActorRenderer(sceneLayers);
+	}
+
+	/**
+	 * Replaces the renderer drawing the actors and draws the actors currently in play with it. Must not be called
+	 * while another thread runs the ticks.
+	 *
+	 * @param renderer the new renderer
+	 */
+	protected void setActorRenderer(ActorRenderer renderer) {
+		actorRenderer = renderer;
+		drawCurrentFrame(1);
 	}
 
 	/**
@@ -161,75 +933,155 @@ public abstract class LevelParent extends Observable {
 		background.setFitWidth(screenWidth);
 		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP) user.moveUp();
-				if (kc == KeyCode.DOWN) user.moveDown();
-				if (kc == KeyCode.SPACE) fireProjectile();
+				PlayerInput input = toPlayerInput(e.getCode());
+				if (input != null) queueInput(input, true);
+				else if (GameSettings.isDeveloperKeysEnabled()) handleDeveloperKey(e.getCode());
 			}
 		});
 		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
 			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+				PlayerInput input = toPlayerInput(e.getCode());
+				if (input != null) queueInput(input, false);
 			}
 		});
-		root.getChildren().add(background);
+		sceneLayers.add(SceneLayer.BACKGROUND, background);
 	}
 
 	/**
-	 * Fires a projectile from the player's plane.
+	 * Queues a press or release of one of the player's controls, to be applied by {@link #handleInput} at the
+	 * start of the next tick on whichever thread runs the ticks. Called on the JavaFX application thread.
+	 * Auto-repeated presses of a held key are dropped, except those of the fire key while the level runs, each of
+	 * which fires a shot, so that nothing piles up in the queue while the level is paused. Inputs rejected by a
+	 * full queue are counted by the queue and shown in the profiling report.
 	 */
-	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
-		userProjectiles.add(projectile);
+	private void queueInput(PlayerInput input, boolean pressed) {
+		if (!pressed) {
+			heldInputs.remove(input);
+		} else if (!heldInputs.add(input) && (input != PlayerInput.FIRE || isPaused())) {
+			return;
+		}
+		if (!inputQueue.offer(input, pressed) && pressed) {
+			// Let the next auto-repeated press try again.
+			heldInputs.remove(input);
+		}
 	}
 
 	/**
-	 * Generates enemy fire (projectiles) by iterating over all enemy units.
+	 * Applies a developer hotkey: F5 cycles the simulation speed, F6 pauses or resumes the game and F7
+	 * runs a single tick while paused.
+	 *
+	 * @param keyCode the key
 	 */
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+	private void handleDeveloperKey(KeyCode keyCode) {
+		switch (keyCode) {
+			case F5:
+				setSimulationSpeed(simulationSpeed.next());
+				System.out.println("Simulation speed: " + simulationSpeed);
+				break;
+			case F6:
+				if (isPaused()) resume();
+				else pause();
+				break;
+			case F7:
+				if (isPaused()) stepPaused();
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Maps a key to the player control it operates.
+	 *
+	 * @param keyCode the key
+	 * @return the player control, or null if the key is not bound
+	 */
+	private static PlayerInput toPlayerInput(KeyCode keyCode) {
+		switch (keyCode) {
+			case UP: return PlayerInput.UP;
+			case DOWN: return PlayerInput.DOWN;
+			case SPACE: return PlayerInput.FIRE;
+			default: return null;
+		}
+	}
+
+	/**
+	 * Fires a projectile from the player's plane.
+	 */
+	private void fireProjectile() {
+		if (user.fireProjectile(userProjectiles)) {
+			eventBus.publish(GameEventType.PROJECTILE_FIRED, GameEventType.FIRED_BY_PLAYER);
+		}
 	}
 
 	/**
-	 * Spawns an enemy projectile and adds it to the root and projectile list if it exists.
+	 * Generates enemy fire (projectiles) by letting every enemy unit fire into the enemy projectile store.
 	 */
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
-		if (projectile != null) {
-			root.getChildren().add(projectile);
-			enemyProjectiles.add(projectile);
+	private void generateEnemyFire() {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			if (((FighterPlane) enemyUnits.get(i)).fireProjectile(enemyProjectiles)) {
+				eventBus.publish(GameEventType.PROJECTILE_FIRED, GameEventType.FIRED_BY_ENEMY);
+			}
 		}
 	}
 
 	/**
-	 * Updates the position and state of all actors in the game (friendly units, enemy units, projectiles).
+	 * Updates the position and state of all actors in the game (friendly units, enemy units, projectiles),
+	 * then retires projectiles that have left the screen or outlived their maximum age. Projectiles are moved
+	 * in one pass over each store's arrays.
 	 */
 	private void updateActors() {
 		friendlyUnits.forEach(plane -> plane.updateActor());
 		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+		workers.forEachChunk(userProjectiles.size(), userProjectileUpdate);
+		workers.forEachChunk(enemyProjectiles.size(), enemyProjectileUpdate);
+	}
+
+	/**
+	 * Moves the projectiles of a range of indices of a store and retires those that have expired.
+	 */
+	private void updateProjectiles(ProjectileStore projectiles, int from, int to) {
+		projectiles.advance(from, to);
+		projectileLifetime.retireExpired(projectiles, from, to);
 	}
 
 	/**
-	 * Removes all destroyed actors from the scene and their respective lists.
+	 * Removes all destroyed actors from their respective lists, including projectiles
+	 * retired by the projectile lifetime.
 	 */
 	private void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
+		removeDestroyedActors(friendlyUnits, SceneLayer.FRIENDLIES);
+		removeDestroyedActors(enemyUnits, SceneLayer.ENEMIES);
+		userProjectiles.removeDestroyed();
+		enemyProjectiles.removeDestroyed();
 	}
 
 	/**
-	 * Removes destroyed actors from the specified list and the scene.
+	 * Removes destroyed actors from the specified list, returning pooled actors to their pools,
+	 * and counts the enemies removed for {@link #updateKillCount()}.
+	 * The list is compacted in place in a single pass that keeps the surviving actors in order, so nothing is
+	 * allocated and each actor is visited once.
 	 */
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	private void removeDestroyedActors(List<ActiveActorDestructible> actors, SceneLayer layer) {
+		int size = actors.size();
+		int survivors = 0;
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				actor.recycle();
+				if (layer == SceneLayer.ENEMIES) {
+					enemiesRemovedThisTick++;
+				}
+			} else {
+				if (survivors != i) {
+					actors.set(survivors, actor);
+				}
+				survivors++;
+			}
+		}
+		for (int i = size - 1; i >= survivors; i--) {
+			actors.remove(i);
+		}
 	}
 
 	/**
@@ -254,20 +1106,97 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * General collision handler that damages actors if they intersect.
+	 * General collision handler that damages both actors of every pair that meets during the tick. The
+	 * contacts are first detected, then resolved.
 	 */
 	private void handleCollisions(List<ActiveActorDestructible> actors1,
 								  List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
+		if (actors1.isEmpty() || actors2.isEmpty()) {
+			return;
+		}
+		otherCollisionBounds.capture(actors1);
+		detectContacts(actors2);
+		for (int k = 0; k < contacts.size(); k++) {
+			actors2.get(contacts.getFirst(k)).takeDamage();
+			actors1.get(contacts.getSecond(k)).takeDamage();
+		}
+	}
+
+	/**
+	 * Collision handler between the projectiles of a store and a list of actors. The contacts are first
+	 * detected, then resolved so that each projectile deals its damage once: to the actor it meets first, or to
+	 * the one that comes first in the list if it meets several at the same time. The projectile is destroyed by
+	 * the hit. Projectiles already destroyed earlier in the tick deal no damage.
+	 */
+	private void handleCollisions(ProjectileStore projectiles, List<ActiveActorDestructible> actors) {
+		if (projectiles.isEmpty() || actors.isEmpty()) {
+			return;
+		}
+		otherCollisionBounds.prepare(projectiles.size());
+		workers.forEachChunk(projectiles.size(),
+				projectiles == userProjectiles ? userProjectileCapture : enemyProjectileCapture);
+		detectContacts(actors);
+		for (int k = 0; k < contacts.size(); k++) {
+			int projectile = contacts.getSecond(k);
+			if (!projectiles.isDestroyed(projectile)) {
+				projectiles.destroy(projectile);
+				actors.get(contacts.getFirst(k)).takeDamage();
+			}
+		}
+	}
+
+	/**
+	 * Detection phase of a collision pass: fills {@link #contacts} with every pair of an actor of the list and a
+	 * box captured in {@link #otherCollisionBounds} whose paths meet during the tick, ordered by time of impact
+	 * and then by the indices of the pair. The captured boxes are inserted into the collision grid and each actor
+	 * is only tested against the boxes whose paths share a grid cell with its own. Nothing is damaged here, so
+	 * the contacts do not depend on the order the pairs are tested in. With pixel-accurate collisions, the masks
+	 * of a pair must overlap, not just the hitboxes.
+	 * <p>
+	 * Large passes split the actors into chunks tested in parallel, each into its own buffer; the buffers are
+	 * appended in chunk order, which gives the same contacts in the same order as a serial pass.
+	 */
+	private void detectContacts(List<ActiveActorDestructible> actors) {
+		collisionBounds.capture(actors);
+		collisionGrid.build(otherCollisionBounds);
+		int chunks = workers.chunkCount(otherCollisionBounds.size() + actors.size());
+		workers.forEachChunk(actors.size(), chunks, contactDetection);
+		for (int chunk = 1; chunk < Math.min(chunks, actors.size()); chunk++) {
+			contacts.addAll(chunkContacts[chunk]);
+		}
+		contacts.sortByTime();
+	}
+
+	/**
+	 * Tests the actors of a range of indices of the current collision pass, collecting their contacts in the
+	 * chunk's buffer.
+	 */
+	private void detectContactsInChunk(int chunk, int from, int to) {
+		CollisionGrid.Query query = chunkQueries[chunk];
+		ContactBuffer found = chunkContacts[chunk];
+		found.clear();
+		for (int i = from; i < to; i++) {
+			int candidateCount = query.run(collisionBounds, i);
+			int[] candidates = query.getCandidates();
+			for (int c = 0; c < candidateCount; c++) {
+				int j = candidates[c];
+				double time = collisionBounds.timeOfImpact(i, otherCollisionBounds, j, pixelCollisions);
+				if (time != ActorBounds.NO_IMPACT) {
+					found.add(i, j, time);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Changes the width and height of the cells used by the collision broadphase.
+	 *
+	 * @param cellSize the new cell size
+	 */
+	protected void setCollisionCellSize(double cellSize) {
+		collisionGrid.setCellSize(cellSize);
+	}
+
 	/**
 	 * Checks if any enemy units have penetrated the defenses and damages the player accordingly.
 	 */
@@ -281,19 +1210,27 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Updates the level view by removing hearts based on the player's health.
+	 * Publishes a {@link GameEventType#PLAYER_HIT} event if the player lost health during the tick, from which
+	 * the level view updates the heart display.
 	 */
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+	private void publishPlayerHealth() {
+		int health = user.getHealth();
+		if (health < reportedPlayerHealth) {
+			eventBus.publish(GameEventType.PLAYER_HIT, health);
+		}
+		reportedPlayerHealth = health;
 	}
 
 	/**
-	 * Updates the player's kill count based on the number of destroyed enemies.
+	 * Credits the player with a kill for every enemy removed from play during the tick, publishing a
+	 * {@link GameEventType#ENEMY_DESTROYED} event for each.
 	 */
 	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
+		for (int i = 0; i < enemiesRemovedThisTick; i++) {
 			user.incrementKillCount();
+			eventBus.publish(GameEventType.ENEMY_DESTROYED, user.getNumberOfKills());
 		}
+		enemiesRemovedThisTick = 0;
 	}
 
 	/**
@@ -304,19 +1241,31 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Stops the game and displays the win screen.
+	 * Stops the game and publishes a {@link GameEventType#LEVEL_WON} event, on which the level view displays
+	 * the win screen.
 	 */
 	protected void winGame() {
-		timeline.stop();
-		levelView.showWinImage();
+		endLevel();
+		eventBus.publish(GameEventType.LEVEL_WON, 0);
 	}
 
 	/**
-	 * Stops the game and displays the game over screen.
+	 * Stops the game and publishes a {@link GameEventType#LEVEL_LOST} event, on which the level view displays
+	 * the game over screen.
 	 */
 	protected void loseGame() {
-		timeline.stop();
-		levelView.showGameOverImage();
+		endLevel();
+		eventBus.publish(GameEventType.LEVEL_LOST, 0);
+	}
+
+	/**
+	 * Marks the level as ended and stops the game loop, if one is running.
+	 */
+	private void endLevel() {
+		hasEnded = true;
+		if (gameLoop != null) {
+			gameLoop.stop();
+		}
 	}
 
 	/**
@@ -329,12 +1278,21 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Returns the root group for the scene.
+	 * Returns the random numbers of the level.
 	 *
-	 * @return the root group
+	 * @return the level's random source
 	 */
-	protected Group getRoot() {
-		return root;
+	public RandomSource getRandomSource() {
+		return randomSource;
+	}
+
+	/**
+	 * Returns the layers of the scene, to which level views add their images.
+	 *
+	 * @return the scene layers, or null before {@link #initializeScene()} is called
+	 */
+	protected SceneLayers getSceneLayers() {
+		return sceneLayers;
 	}
 
 	/**
@@ -347,13 +1305,82 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Adds an enemy unit to the level and the root scene.
+	 * Adds a friendly unit to the level. It is drawn from the next frame on.
+	 *
+	 * @param unit the friendly unit to add
+	 */
+	protected void addFriendlyUnit(ActiveActorDestructible unit) {
+		friendlyUnits.add(unit);
+	}
+
+	/**
+	 * Adds an enemy unit to the level; it is drawn from the next frame on. Enemy planes draw from the level's
+	 * random source and publish on its event bus.
 	 *
 	 * @param enemy the enemy unit to add
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		if (enemy instanceof FighterPlane plane) {
+			plane.setRandomSource(randomSource);
+			plane.setEventBus(eventBus);
+		}
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+	}
+
+	/**
+	 * Returns the projectiles fired by the player. Projectiles spawned into the store are drawn from the next
+	 * frame on.
+	 *
+	 * @return the user projectile store
+	 */
+	protected ProjectileStore getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Returns the projectiles fired by enemies. Projectiles spawned into the store are drawn from the next
+	 * frame on.
+	 *
+	 * @return the enemy projectile store
+	 */
+	protected ProjectileStore getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Returns the number of friendly units currently active in the level.
+	 *
+	 * @return the number of friendly units
+	 */
+	public int getFriendlyUnitCount() {
+		return friendlyUnits.size();
+	}
+
+	/**
+	 * Returns the number of enemy units currently active in the level.
+	 *
+	 * @return the number of enemy units
+	 */
+	public int getEnemyUnitCount() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Returns the number of projectiles fired by the player that are currently active in the level.
+	 *
+	 * @return the number of user projectiles
+	 */
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * Returns the number of projectiles fired by enemies that are currently active in the level.
+	 *
+	 * @return the number of enemy projectiles
+	 */
+	public int getEnemyProjectileCount() {
+		return enemyProjectiles.size();
 	}
 
 	/**
@@ -383,11 +1410,4 @@ public abstract class LevelParent extends Observable {
 		return user.isDestroyed();
 	}
 
-	/**
-	 * Updates the number of enemies in the level.
-	 */
-	private void updateNumberOfEnemies() {
-		currentNumberOfEnemies = enemyUnits.size();
-	}
-
 }
@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The LevelPreloader class prepares the next level on a background thread while the current one is being
+ * played: it constructs the level and calls {@link LevelParent#preloadAssets()}, which decodes the level's
+ * images and creates the pooled actors it will need. At the transition the prepared level is taken on the
+ * JavaFX thread, which is left with building the scene.
+ */
+public class LevelPreloader {
+
+	/** The height of the screen levels are constructed for. */
+	private final double screenHeight;
+
+	/** The width of the screen levels are constructed for. */
+	private final double screenWidth;
+
+	/** The thread levels are prepared on. */
+	private final ExecutorService executor;
+
+	/** The id of the level being prepared, or null if none is. */
+	private LevelId pendingId;
+
+	/** The level being prepared, or null if none is. */
+	private Future<LevelParent> pendingLevel;
+
+	/**
+	 * Constructs a LevelPreloader with its own daemon thread.
+	 *
+	 * @param screenHeight the height of the screen levels are constructed for
+	 * @param screenWidth the width of the screen levels are constructed for
+	 */
+	public LevelPreloader(double screenHeight, double screenWidth) {
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.executor = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "level-preloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts preparing a level in the background, replacing any level still being prepared.
+	 *
+	 * @param id the level's id
+	 */
+	public void preload(LevelId id) {
+		if (pendingLevel != null) {
+			pendingLevel.cancel(false);
+		}
+		pendingId = id;
+		pendingLevel = executor.submit(() -> {
+			LevelParent level = LevelRegistry.create(id, screenHeight, screenWidth);
+			level.preloadAssets();
+			return level;
+		});
+	}
+
+	/**
+	 * Checks whether {@link #take(LevelId)} would return without waiting: either the given level has finished
+	 * being prepared, or it is not the level being prepared.
+	 *
+	 * @param id the id of the level wanted
+	 * @return true unless the given level is still being prepared
+	 */
+	public boolean isReady(LevelId id) {
+		return pendingLevel == null || id != pendingId || pendingLevel.isDone();
+	}
+
+	/**
+	 * Takes the prepared level, waiting for the preparation to finish if it is still running. Callers on the
+	 * JavaFX thread should check {@link #isReady(LevelId)} first, so as not to hold up a frame.
+	 *
+	 * @param id the id of the level wanted
+	 * @return the prepared level, or null if a different level was being prepared or the preparation failed
+	 */
+	public LevelParent take(LevelId id) {
+		if (pendingLevel == null || id != pendingId) {
+			return null;
+		}
+		Future<LevelParent> level = pendingLevel;
+		pendingLevel = null;
+		pendingId = null;
+		try {
+			return level.get();
+		} catch (ExecutionException e) {
+			System.err.println("Could not preload " + id + ": " + e.getCause());
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+}
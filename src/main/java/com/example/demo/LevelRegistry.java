@@ -0,0 +1,115 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The LevelRegistry class maps every {@link LevelId} to the factory creating the level and to the level that
+ * follows it, and records the level the game starts with. Levels are created through {@link #create(LevelId,
+ * double, double)}, both by the game and by headless runs, so that every level knows its own id.
+ */
+public final class LevelRegistry {
+
+	/** The level the game starts with. */
+	private static final LevelId FIRST_LEVEL = LevelId.LEVEL_ONE;
+
+	/** The factory creating each level. */
+	private static final Map<LevelId, LevelFactory> FACTORIES = new EnumMap<>(LevelId.class);
+
+	/** The level that follows each level, absent for levels that end the game. */
+	private static final Map<LevelId, LevelId> SUCCESSORS = new EnumMap<>(LevelId.class);
+
+	static {
+		register(LevelId.LEVEL_ONE, LevelOne::new, LevelId.LEVEL_TWO);
+		register(LevelId.LEVEL_TWO, LevelTwo::new, null);
+		register(LevelId.LEVEL_THREE, LevelThree::new, null);
+		register(LevelId.LEVEL_FOUR, LevelFour::new, null);
+	}
+
+	/**
+	 * Prevents instantiation; the registry is accessed through the static methods.
+	 */
+	private LevelRegistry() {
+	}
+
+	/**
+	 * Registers a level.
+	 *
+	 * @param id the level's id
+	 * @param factory creates the level
+	 * @param successor the level that follows it, or null if the game ends after it
+	 */
+	private static void register(LevelId id, LevelFactory factory, LevelId successor) {
+		FACTORIES.put(id, factory);
+		if (successor != null) {
+			SUCCESSORS.put(id, successor);
+		}
+	}
+
+	/**
+	 * Checks that every level has a factory and that following the successors from any level ends the game
+	 * rather than looping.
+	 *
+	 * @throws IllegalStateException describing every problem found
+	 */
+	public static void validate() {
+		List<String> problems = new ArrayList<>();
+		for (LevelId id : LevelId.values()) {
+			if (!FACTORIES.containsKey(id)) {
+				problems.add(id + " has no factory");
+			}
+			Set<LevelId> visited = EnumSet.of(id);
+			for (LevelId next = SUCCESSORS.get(id); next != null; next = SUCCESSORS.get(next)) {
+				if (!visited.add(next)) {
+					problems.add(id + " leads to a cycle through " + next);
+					break;
+				}
+			}
+		}
+		if (!problems.isEmpty()) {
+			throw new IllegalStateException("Invalid level registry: " + String.join(", ", problems));
+		}
+	}
+
+	/**
+	 * Creates a level with its registered factory.
+	 *
+	 * @param id the level's id
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth the width of the screen
+	 * @return the new level, not yet given a scene
+	 * @throws IllegalArgumentException if the level has no factory
+	 */
+	public static LevelParent create(LevelId id, double screenHeight, double screenWidth) {
+		LevelFactory factory = FACTORIES.get(id);
+		if (factory == null) {
+			throw new IllegalArgumentException(id + " has no factory");
+		}
+		LevelParent level = factory.create(screenHeight, screenWidth);
+		level.setLevelId(id);
+		return level;
+	}
+
+	/**
+	 * Returns the level the game starts with.
+	 *
+	 * @return the first level's id
+	 */
+	public static LevelId getFirstLevel() {
+		return FIRST_LEVEL;
+	}
+
+	/**
+	 * Returns the level that follows a level.
+	 *
+	 * @param id the level's id
+	 * @return the successor's id, or null if the game ends after the level
+	 */
+	public static LevelId getSuccessor(LevelId id) {
+		return SUCCESSORS.get(id);
+	}
+}
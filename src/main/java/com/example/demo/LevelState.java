@@ -0,0 +1,24 @@
+package com.example.demo;
+
+/**
+ * The LevelState enum lists the stages of a level's lifecycle. A level is created, initialized with a scene,
+ * started, optionally paused and resumed, and finally disposed; levels run headlessly stay created until they are
+ * disposed.
+ */
+public enum LevelState {
+
+	/** Constructed, without a scene; the level can only be advanced headlessly. */
+	CREATED,
+
+	/** The scene has been built, but the game loop has not been started. */
+	INITIALIZED,
+
+	/** The game loop is running, or has stopped because the level ended. */
+	RUNNING,
+
+	/** The game loop is paused and the level can be single-stepped. */
+	PAUSED,
+
+	/** The level has been torn down and must not be used again. */
+	DISPOSED
+}
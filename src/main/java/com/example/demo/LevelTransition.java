@@ -0,0 +1,43 @@
+package com.example.demo;
+
+/**
+ * The LevelTransition class is the event a level sends its {@link LevelTransitionListener}s when the player has
+ * completed it and the game should move on to the next level.
+ */
+public final class LevelTransition {
+
+	/** The level that was completed. */
+	private final LevelId completedLevel;
+
+	/** The level to move on to. */
+	private final LevelId nextLevel;
+
+	/**
+	 * Constructs a LevelTransition.
+	 *
+	 * @param completedLevel the level that was completed
+	 * @param nextLevel the level to move on to
+	 */
+	public LevelTransition(LevelId completedLevel, LevelId nextLevel) {
+		this.completedLevel = completedLevel;
+		this.nextLevel = nextLevel;
+	}
+
+	/**
+	 * Returns the level that was completed.
+	 *
+	 * @return the completed level
+	 */
+	public LevelId getCompletedLevel() {
+		return completedLevel;
+	}
+
+	/**
+	 * Returns the level to move on to.
+	 *
+	 * @return the next level
+	 */
+	public LevelId getNextLevel() {
+		return nextLevel;
+	}
+}
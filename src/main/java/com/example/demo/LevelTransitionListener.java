@@ -0,0 +1,15 @@
+package com.example.demo;
+
+/**
+ * Receives the {@link LevelTransition} of a level once the player has completed it.
+ */
+@FunctionalInterface
+public interface LevelTransitionListener {
+
+	/**
+	 * Called once, between ticks, after the level has been completed.
+	 *
+	 * @param transition the completed level and the level to move on to
+	 */
+	void onLevelTransition(LevelTransition transition);
+}
@@ -27,7 +27,17 @@ public class LevelTwo extends LevelParent {
 	 */
 	public LevelTwo(double screenHeight, double screenWidth) {
 		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		boss = new Boss();
+		boss = new Boss(getRandomSource());
+	}
+
+	/**
+	 * Preloads the boss and boss projectile images in addition to the player's images.
+	 */
+	@Override
+	protected void preloadSprites() {
+		super.preloadSprites();
+		Boss.preload();
+		ProjectileType.BOSS.preload();
 	}
 
 	/**
@@ -35,7 +45,7 @@ public class LevelTwo extends LevelParent {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		addFriendlyUnit(getUser());
 	}
 
 	/**
@@ -69,7 +79,7 @@ public class LevelTwo extends LevelParent {
 	 */
 	@Override
 	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH);
+		levelView = new LevelViewLevelTwo(getSceneLayers(), PLAYER_INITIAL_HEALTH);
 		return levelView;
 	}
 
@@ -1,12 +1,13 @@
 package com.example.demo;
 
-import javafx.scene.Group;
-
 /**
  * The LevelView class is responsible for managing and displaying the graphical elements of the game
  * related to a specific level, such as the heart display, win image, and game over image.
+ * The heart display is shown on the {@link SceneLayer#HUD} layer and the end-of-level images on the
+ * {@link SceneLayer#OVERLAY} layer. As the heads-up display, it listens to the level's {@link GameEventBus}
+ * and updates itself from the events of the game.
  */
-public class LevelView {
+public class LevelView implements GameEventListener {
 
 	/** The x position for the heart display on the screen. */
 	private static final double HEART_DISPLAY_X_POSITION = 5;
@@ -26,8 +27,8 @@ public class LevelView {
 	/** The y position for the loss (game over) screen image. */
 	private static final int LOSS_SCREEN_Y_POSISITION = -375;
 
-	/** The root group of the scene, which holds all the graphical elements. */
-	private final Group root;
+	/** The layers of the scene, which hold all the graphical elements. */
+	private final SceneLayers layers;
 
 	/** The win image to display when the user wins the game. */
 	private final WinImage winImage;
@@ -41,28 +42,66 @@ public class LevelView {
 	/**
 	 * Constructs the LevelView instance, initializing the necessary display elements for the level.
 	 *
-	 * @param root the root group to which UI elements will be added
+	 * @param layers the scene layers to which UI elements will be added
 	 * @param heartsToDisplay the initial number of hearts (player health) to display
 	 */
-	public LevelView(Group root, int heartsToDisplay) {
-		this.root = root;
+	public LevelView(SceneLayers layers, int heartsToDisplay) {
+		this.layers = layers;
 		this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
 		this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
 		this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSISITION);
 	}
 
+	/**
+	 * Decodes the images shared by every level view into the {@link ImageCache} ahead of time. Safe to call
+	 * from any thread.
+	 */
+	public static void preloadImages() {
+		WinImage.preload();
+		GameOverImage.preload();
+	}
+
+	/**
+	 * Updates the display from an event of the game: removes hearts when the player is hit, shows or hides the
+	 * shield when it is toggled, and shows the win or game over image when the level ends.
+	 *
+	 * @param type the type of the event
+	 * @param tick the index of the tick the event belongs to
+	 * @param value the value of the event
+	 */
+	@Override
+	public void onGameEvent(GameEventType type, long tick, int value) {
+		switch (type) {
+			case PLAYER_HIT:
+				removeHearts(value);
+				break;
+			case SHIELD_TOGGLED:
+				if (value != 0) showShield();
+				else hideShield();
+				break;
+			case LEVEL_WON:
+				showWinImage();
+				break;
+			case LEVEL_LOST:
+				showGameOverImage();
+				break;
+			default:
+				break;
+		}
+	}
+
 	/**
 	 * Displays the heart display on the screen, showing the player's current health.
 	 */
 	public void showHeartDisplay() {
-		root.getChildren().add(heartDisplay.getContainer());
+		layers.add(SceneLayer.HUD, heartDisplay.getContainer());
 	}
 
 	/**
 	 * Displays the win image on the screen when the player wins the level.
 	 */
 	public void showWinImage() {
-		root.getChildren().add(winImage);
+		layers.add(SceneLayer.OVERLAY, winImage);
 		winImage.showWinImage();
 	}
 
@@ -70,7 +109,19 @@ public class LevelView {
 	 * Displays the game over image on the screen when the player loses the level.
 	 */
 	public void showGameOverImage() {
-		root.getChildren().add(gameOverImage);
+		layers.add(SceneLayer.OVERLAY, gameOverImage);
+	}
+
+	/**
+	 * Displays the shield image. Does nothing in level views without one.
+	 */
+	public void showShield() {
+	}
+
+	/**
+	 * Hides the shield image. Does nothing in level views without one.
+	 */
+	public void hideShield() {
 	}
 
 	/**
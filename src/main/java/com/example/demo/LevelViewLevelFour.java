@@ -1,14 +1,12 @@
 package com.example.demo;
 
-import javafx.scene.Group;
-
 /**
  * Represents the view for Level 4 of the game.
  * This view includes more complex graphical elements like moving obstacles and environmental hazards.
  */
 public class LevelViewLevelFour extends LevelView {
 
-    private final Group root;
+    private final SceneLayers layers;
     private final ShieldImage shieldImage;
     private final MovingObstacle movingObstacle;
 
@@ -16,20 +14,22 @@ public class LevelViewLevelFour extends LevelView {
      * Constructor for LevelViewLevelFour.
      * Initializes the graphical elements for Level 4, such as the shield and moving obstacles.
      *
-     * @param root          The root group where UI elements are added.
+     * @param layers        The scene layers where UI elements are added.
      * @param heartsToDisplay The number of hearts to display for the player.
      */
-    public LevelViewLevelFour(Group root, int heartsToDisplay) {
-        super(root, heartsToDisplay);
-        this.root = root;
+    public LevelViewLevelFour(SceneLayers layers, int heartsToDisplay) {
+        super(layers, heartsToDisplay);
+        this.layers = layers;
         this.shieldImage = new ShieldImage(1150, 500);
         this.movingObstacle = new MovingObstacle(600, 400);
-        root.getChildren().addAll(shieldImage, movingObstacle);
+        layers.add(SceneLayer.HUD, shieldImage);
+        layers.add(SceneLayer.HUD, movingObstacle);
     }
 
     /**
      * Shows the shield on the screen.
      */
+    @Override
     public void showShield() {
         shieldImage.showShield();
     }
@@ -37,6 +37,7 @@ public class LevelViewLevelFour extends LevelView {
     /**
      * Hides the shield from the screen.
      */
+    @Override
     public void hideShield() {
         shieldImage.hideShield();
     }
@@ -1,33 +1,32 @@
 package com.example.demo;
 
-import javafx.scene.Group;
-
 /**
  * Represents the view for Level 3 of the game.
  * This view includes a boss and some additional visual elements specific to Level 3.
  */
 public class LevelViewLevelThree extends LevelView {
 
-    private final Group root;
+    private final SceneLayers layers;
     private final ShieldImage shieldImage;
 
     /**
      * Constructor for LevelViewLevelThree.
      * Initializes the level's graphical elements, including the shield.
      *
-     * @param root          The root group where UI elements are added.
+     * @param layers        The scene layers where UI elements are added.
      * @param heartsToDisplay The number of hearts to display for the player.
      */
-    public LevelViewLevelThree(Group root, int heartsToDisplay) {
-        super(root, heartsToDisplay);
-        this.root = root;
+    public LevelViewLevelThree(SceneLayers layers, int heartsToDisplay) {
+        super(layers, heartsToDisplay);
+        this.layers = layers;
         this.shieldImage = new ShieldImage(1150, 500);
-        root.getChildren().add(shieldImage);
+        layers.add(SceneLayer.HUD, shieldImage);
     }
 
     /**
      * Shows the shield on the screen.
      */
+    @Override
     public void showShield() {
         shieldImage.showShield();
     }
@@ -35,6 +34,7 @@ public class LevelViewLevelThree extends LevelView {
     /**
      * Hides the shield from the screen.
      */
+    @Override
     public void hideShield() {
         shieldImage.hideShield();
     }
@@ -1,7 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.Group;
-
 /**
  * The LevelViewLevelTwo class is an extension of the LevelView class, specifically designed for Level Two.
  * It manages additional graphical elements specific to this level, such as a shield image.
@@ -14,8 +12,8 @@ public class LevelViewLevelTwo extends LevelView {
 	/** The y position for the shield image on the screen. */
 	private static final int SHIELD_Y_POSITION = 500;
 
-	/** The root group of the scene, which holds all graphical elements for this level. */
-	private final Group root;
+	/** The layers of the scene, which hold all graphical elements for this level. */
+	private final SceneLayers layers;
 
 	/** The shield image to be displayed during the game. */
 	private final ShieldImage shieldImage;
@@ -24,26 +22,27 @@ public class LevelViewLevelTwo extends LevelView {
 	 * Constructs the LevelViewLevelTwo instance, initializing the necessary display elements for this level.
 	 * This includes the heart display (from the superclass) and a shield image.
 	 *
-	 * @param root the root group to which UI elements will be added
+	 * @param layers the scene layers to which UI elements will be added
 	 * @param heartsToDisplay the initial number of hearts (player health) to display
 	 */
-	public LevelViewLevelTwo(Group root, int heartsToDisplay) {
-		super(root, heartsToDisplay);
-		this.root = root;
+	public LevelViewLevelTwo(SceneLayers layers, int heartsToDisplay) {
+		super(layers, heartsToDisplay);
+		this.layers = layers;
 		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
 		addImagesToRoot();
 	}
 
 	/**
-	 * Adds all relevant images (like the shield) to the root of the scene.
+	 * Adds all relevant images (like the shield) to the HUD layer of the scene.
 	 */
 	private void addImagesToRoot() {
-		root.getChildren().addAll(shieldImage);
+		layers.add(SceneLayer.HUD, shieldImage);
 	}
 
 	/**
 	 * Displays the shield image on the screen.
 	 */
+	@Override
 	public void showShield() {
 		shieldImage.showShield();
 	}
@@ -51,6 +50,7 @@ public class LevelViewLevelTwo extends LevelView {
 	/**
 	 * Hides the shield image from the screen.
 	 */
+	@Override
 	public void hideShield() {
 		shieldImage.hideShield();
 	}
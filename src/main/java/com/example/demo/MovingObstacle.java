@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -19,7 +18,7 @@ public class MovingObstacle extends ImageView {
      * @param yPosition The initial Y position of the obstacle.
      */
     public MovingObstacle(double xPosition, double yPosition) {
-        this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        this.setImage(ImageCache.getImage(IMAGE_NAME, OBSTACLE_SIZE, OBSTACLE_SIZE));
         this.setFitWidth(OBSTACLE_SIZE);
         this.setFitHeight(OBSTACLE_SIZE);
         this.setLayoutX(xPosition);
@@ -0,0 +1,209 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * The NodeActorRenderer class draws each actor as its own {@link ActorView} node inside the layer of the actor's
+ * category. Views are kept per actor, so pooled actors reuse their node each time they re-enter play. An actor's
+ * view is added to its layer in the first frame the actor appears in; the views of the actors that have vanished
+ * from a frame are removed from each layer in a single children-list mutation.
+ * Projectiles are drawn by a pool of plain image views per store captured in the frames: each frame, the first
+ * views are synced to the projectiles in store order and the views left over are hidden, so no node is created or
+ * removed while the number of projectiles stays below its peak.
+ */
+public class NodeActorRenderer implements ActorRenderer {
+
+	/**
+	 * The view of one actor and where it is shown.
+	 */
+	private static final class ActorSlot {
+
+		/** The actor's view. */
+		private final ActorView view;
+
+		/** The layer the view has been added to, or null if it is not shown. */
+		private SceneLayer layer;
+
+		/** The number of the last frame the actor appeared in. */
+		private long lastFrame;
+
+		/**
+		 * Constructs a slot for a view that is not shown yet.
+		 *
+		 * @param view the actor's view
+		 */
+		private ActorSlot(ActorView view) {
+			this.view = view;
+		}
+	}
+
+	/**
+	 * The image views drawing the projectiles of one store.
+	 */
+	private static final class ProjectileViews {
+
+		/** The layer the views are added to. */
+		private final SceneLayer layer;
+
+		/** The views, the first of which draw the projectiles in store order. */
+		private final List<ImageView> views = new ArrayList<>();
+
+		/** The projectile type each view is currently showing the sprite of. */
+		private final List<ProjectileType> viewTypes = new ArrayList<>();
+
+		/** The number of views shown at the last frame. */
+		private int shownCount;
+
+		/**
+		 * Constructs an empty set of views for a store.
+		 *
+		 * @param layer the layer the views are added to
+		 */
+		private ProjectileViews(SceneLayer layer) {
+			this.layer = layer;
+		}
+	}
+
+	/** The layers the actor views are added to. */
+	private final SceneLayers layers;
+
+	/** The slot created for each actor that has been drawn. */
+	private final Map<ActiveActor, ActorSlot> slots;
+
+	/** The slots of the actors whose views are shown. */
+	private final List<ActorSlot> shownSlots;
+
+	/** The views of the actors that vanished from the current frame, per layer. */
+	private final Map<SceneLayer, Set<ActorView>> pendingRemovals;
+
+	/** The views of each projectile store, in the order the frames capture the stores. */
+	private final List<ProjectileViews> projectileViews;
+
+	/** The number of frames drawn so far. */
+	private long frameNumber;
+
+	/**
+	 * Constructs a NodeActorRenderer drawing into the given layers.
+	 *
+	 * @param layers the layers the actor views are added to
+	 */
+	public NodeActorRenderer(SceneLayers layers) {
+		this.layers = layers;
+		this.slots = new IdentityHashMap<>();
+		this.shownSlots = new ArrayList<>();
+		this.pendingRemovals = new EnumMap<>(SceneLayer.class);
+		this.projectileViews = new ArrayList<>();
+		for (SceneLayer layer : SceneLayer.values()) {
+			pendingRemovals.put(layer, Collections.newSetFromMap(new IdentityHashMap<>()));
+		}
+	}
+
+	/**
+	 * Moves the view of every actor of the frame to its interpolated position, adding the views of the actors
+	 * new to the frame and removing those of the actors gone from it, and syncs the projectile views.
+	 *
+	 * @param frame the snapshot to draw
+	 * @param alpha the fraction of a tick elapsed since the captured tick
+	 */
+	@Override
+	public void render(FrameSnapshot frame, double alpha) {
+		frameNumber++;
+		for (int i = 0; i < frame.getActorCount(); i++) {
+			ActiveActorDestructible actor = frame.getActor(i);
+			ActorSlot slot = slots.get(actor);
+			if (slot == null) {
+				slot = new ActorSlot(new ActorView(actor));
+				slots.put(actor, slot);
+			}
+			if (slot.layer == null) {
+				slot.layer = frame.getActorLayer(i);
+				layers.add(slot.layer, slot.view);
+				shownSlots.add(slot);
+			}
+			slot.lastFrame = frameNumber;
+			slot.view.moveTo(frame.interpolateActorX(i, alpha), frame.interpolateActorY(i, alpha));
+		}
+		removeVanishedViews();
+		for (int i = 0; i < frame.getProjectileLayerCount(); i++) {
+			FrameSnapshot.ProjectileLayer projectiles = frame.getProjectileLayer(i);
+			if (projectileViews.size() == i) {
+				projectileViews.add(new ProjectileViews(projectiles.getLayer()));
+			}
+			syncProjectileViews(projectileViews.get(i), projectiles, alpha);
+		}
+	}
+
+	/**
+	 * Compacts the list of shown slots in place, dropping the slots of the actors missing from the current frame,
+	 * and removes their views from each layer in one mutation.
+	 */
+	private void removeVanishedViews() {
+		int size = shownSlots.size();
+		int survivors = 0;
+		for (int i = 0; i < size; i++) {
+			ActorSlot slot = shownSlots.get(i);
+			if (slot.lastFrame == frameNumber) {
+				shownSlots.set(survivors++, slot);
+			} else {
+				pendingRemovals.get(slot.layer).add(slot.view);
+				slot.layer = null;
+			}
+		}
+		if (survivors == size) {
+			return;
+		}
+		for (int i = size - 1; i >= survivors; i--) {
+			shownSlots.remove(i);
+		}
+		for (Map.Entry<SceneLayer, Set<ActorView>> entry : pendingRemovals.entrySet()) {
+			Set<ActorView> pending = entry.getValue();
+			if (!pending.isEmpty()) {
+				layers.removeAll(entry.getKey(), pending);
+				pending.clear();
+			}
+		}
+	}
+
+	/**
+	 * Moves the first views of a store to its projectiles' interpolated positions, creating views if there are
+	 * more projectiles than ever before, and hides the views no longer needed. A view only has its sprite
+	 * reapplied when the type of projectile it draws changes.
+	 */
+	private void syncProjectileViews(ProjectileViews pool, FrameSnapshot.ProjectileLayer projectiles, double alpha) {
+		int count = projectiles.size();
+		while (pool.views.size() < count) {
+			ImageView view = new ImageView();
+			view.setVisible(false);
+			layers.add(pool.layer, view);
+			pool.views.add(view);
+			pool.viewTypes.add(null);
+		}
+		for (int i = 0; i < count; i++) {
+			ImageView view = pool.views.get(i);
+			ProjectileType type = projectiles.getType(i);
+			if (pool.viewTypes.get(i) != type) {
+				SpriteAtlas.getRegion(type.getImageName()).applyTo(view);
+				view.setFitWidth(type.getImageWidth());
+				view.setFitHeight(type.getImageHeight());
+				pool.viewTypes.set(i, type);
+			}
+			view.setLayoutX(projectiles.interpolateX(i, alpha));
+			view.setLayoutY(projectiles.interpolateY(i, alpha));
+			if (i >= pool.shownCount) {
+				view.setVisible(true);
+			}
+		}
+		for (int i = count; i < pool.shownCount; i++) {
+			pool.views.get(i).setVisible(false);
+		}
+		pool.shownCount = count;
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.demo;
+
+/**
+ * The PlayerInput enum lists the controls the player uses to fly the user plane.
+ */
+public enum PlayerInput {
+
+	/** Moves the plane up while held. */
+	UP,
+
+	/** Moves the plane down while held. */
+	DOWN,
+
+	/** Fires a projectile when pressed. */
+	FIRE
+}
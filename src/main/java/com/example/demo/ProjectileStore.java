@@ -0,0 +1,343 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+/**
+ * The ProjectileStore class holds the projectiles of one side of a level as a structure of arrays: each projectile
+ * is a row index into parallel primitive arrays of type, position, velocity, age and destroyed flag. Projectiles
+ * move in straight lines, so a whole tick of movement is one tight loop over the arrays, with no virtual calls and
+ * no objects to chase. Rows are kept in the order the projectiles were fired; removing destroyed projectiles
+ * compacts the arrays in place. Nothing is allocated unless the store has to grow.
+ * <p>
+ * A projectile's position is kept, like an {@link ActiveActor}'s, as the point it was fired from plus the distance
+ * it has travelled since, so that both models compute bit-identical positions.
+ */
+public class ProjectileStore {
+
+	/** The number of projectiles the store holds by default before growing. */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	/** Every projectile type, indexed by ordinal, to turn stored ordinals back into types. */
+	private static final ProjectileType[] TYPES = ProjectileType.values();
+
+	/** The width of each projectile type, indexed by ordinal. */
+	private static final double[] TYPE_WIDTHS = new double[TYPES.length];
+
+	/** The height of each projectile type, indexed by ordinal. */
+	private static final double[] TYPE_HEIGHTS = new double[TYPES.length];
+
+	static {
+		for (ProjectileType type : TYPES) {
+			TYPE_WIDTHS[type.ordinal()] = type.getImageWidth();
+			TYPE_HEIGHTS[type.ordinal()] = type.getImageHeight();
+		}
+	}
+
+	private byte[] types;
+	private double[] layoutX;
+	private double[] layoutY;
+	private double[] translateX;
+	private double[] translateY;
+	private double[] previousTranslateX;
+	private double[] previousTranslateY;
+	private double[] velocityX;
+	private double[] velocityY;
+	private int[] ages;
+	private boolean[] destroyed;
+	private int count;
+
+	/**
+	 * Constructs an empty ProjectileStore with room for {@link #DEFAULT_CAPACITY} projectiles.
+	 */
+	public ProjectileStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty ProjectileStore with room for the given number of projectiles before it grows.
+	 *
+	 * @param capacity the initial capacity
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public ProjectileStore(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		types = new byte[capacity];
+		layoutX = new double[capacity];
+		layoutY = new double[capacity];
+		translateX = new double[capacity];
+		translateY = new double[capacity];
+		previousTranslateX = new double[capacity];
+		previousTranslateY = new double[capacity];
+		velocityX = new double[capacity];
+		velocityY = new double[capacity];
+		ages = new int[capacity];
+		destroyed = new boolean[capacity];
+	}
+
+	/**
+	 * Adds a projectile of the given type fired from the given point, moving at its type's velocity.
+	 *
+	 * @param type the type of projectile
+	 * @param x the x-coordinate of the projectile's top-left corner
+	 * @param y the y-coordinate of the projectile's top-left corner
+	 * @return the index of the new projectile
+	 */
+	public int spawn(ProjectileType type, double x, double y) {
+		if (count == types.length) {
+			grow(count + 1);
+		}
+		int index = count++;
+		types[index] = (byte) type.ordinal();
+		layoutX[index] = x;
+		layoutY[index] = y;
+		translateX[index] = 0;
+		translateY[index] = 0;
+		previousTranslateX[index] = 0;
+		previousTranslateY[index] = 0;
+		velocityX[index] = type.getHorizontalVelocity();
+		velocityY[index] = 0;
+		ages[index] = 0;
+		destroyed[index] = false;
+		return index;
+	}
+
+	/**
+	 * Records the current position of every projectile as the start of the tick about to run, so that it can be
+	 * drawn between its previous and current positions.
+	 */
+	public void savePreviousPositions() {
+		System.arraycopy(translateX, 0, previousTranslateX, 0, count);
+		System.arraycopy(translateY, 0, previousTranslateY, 0, count);
+	}
+
+	/**
+	 * Moves every projectile by its velocity.
+	 */
+	public void advance() {
+		advance(0, count);
+	}
+
+	/**
+	 * Moves the projectiles of a range of indices by their velocity. Ranges that do not overlap may be moved
+	 * from different threads at once.
+	 *
+	 * @param from the first index to move
+	 * @param to one past the last index to move
+	 */
+	public void advance(int from, int to) {
+		double[] translateX = this.translateX;
+		double[] translateY = this.translateY;
+		double[] velocityX = this.velocityX;
+		double[] velocityY = this.velocityY;
+		for (int i = from; i < to; i++) {
+			translateX[i] += velocityX[i];
+			translateY[i] += velocityY[i];
+		}
+	}
+
+	/**
+	 * Removes the destroyed projectiles, keeping the others in order.
+	 *
+	 * @return the number of projectiles removed
+	 */
+	public int removeDestroyed() {
+		int survivors = 0;
+		for (int i = 0; i < count; i++) {
+			if (destroyed[i]) {
+				continue;
+			}
+			if (survivors != i) {
+				move(i, survivors);
+			}
+			survivors++;
+		}
+		int removed = count - survivors;
+		count = survivors;
+		return removed;
+	}
+
+	/**
+	 * Removes every projectile.
+	 */
+	public void clear() {
+		count = 0;
+	}
+
+	/**
+	 * Returns the number of projectiles in the store.
+	 *
+	 * @return the projectile count
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Checks whether the store holds no projectiles.
+	 *
+	 * @return true if there are no projectiles, false otherwise
+	 */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Returns the type of a projectile.
+	 *
+	 * @param index the index of the projectile
+	 * @return the projectile's type
+	 */
+	public ProjectileType getType(int index) {
+		return TYPES[types[index]];
+	}
+
+	/**
+	 * Destroys a projectile, which is removed at the next {@link #removeDestroyed()}.
+	 *
+	 * @param index the index of the projectile
+	 */
+	public void destroy(int index) {
+		destroyed[index] = true;
+	}
+
+	/**
+	 * Checks whether a projectile has been destroyed.
+	 *
+	 * @param index the index of the projectile
+	 * @return true if the projectile is destroyed, false otherwise
+	 */
+	public boolean isDestroyed(int index) {
+		return destroyed[index];
+	}
+
+	/**
+	 * Advances the age of a projectile by one tick.
+	 *
+	 * @param index the index of the projectile
+	 * @return the new age of the projectile in ticks
+	 */
+	public int incrementAge(int index) {
+		return ++ages[index];
+	}
+
+	/**
+	 * Returns the left edge of a projectile's bounding box.
+	 *
+	 * @param index the index of the projectile
+	 * @return the minimum x-coordinate
+	 */
+	public double getMinX(int index) {
+		return layoutX[index] + translateX[index];
+	}
+
+	/**
+	 * Returns the top edge of a projectile's bounding box.
+	 *
+	 * @param index the index of the projectile
+	 * @return the minimum y-coordinate
+	 */
+	public double getMinY(int index) {
+		return layoutY[index] + translateY[index];
+	}
+
+	/**
+	 * Returns the right edge of a projectile's bounding box.
+	 *
+	 * @param index the index of the projectile
+	 * @return the maximum x-coordinate
+	 */
+	public double getMaxX(int index) {
+		return getMinX(index) + TYPE_WIDTHS[types[index]];
+	}
+
+	/**
+	 * Returns the bottom edge of a projectile's bounding box.
+	 *
+	 * @param index the index of the projectile
+	 * @return the maximum y-coordinate
+	 */
+	public double getMaxY(int index) {
+		return getMinY(index) + TYPE_HEIGHTS[types[index]];
+	}
+
+	/**
+	 * Returns the left edge of a projectile's bounding box at the start of the current tick.
+	 *
+	 * @param index the index of the projectile
+	 * @return the previous minimum x-coordinate
+	 */
+	public double getPreviousMinX(int index) {
+		return layoutX[index] + previousTranslateX[index];
+	}
+
+	/**
+	 * Returns the top edge of a projectile's bounding box at the start of the current tick.
+	 *
+	 * @param index the index of the projectile
+	 * @return the previous minimum y-coordinate
+	 */
+	public double getPreviousMinY(int index) {
+		return layoutY[index] + previousTranslateY[index];
+	}
+
+	/**
+	 * Returns the x-coordinate to draw a projectile at, between its position at the start of the last tick and now.
+	 *
+	 * @param index the index of the projectile
+	 * @param alpha the fraction of a tick elapsed since the last tick
+	 * @return the interpolated x-coordinate
+	 */
+	public double interpolateX(int index, double alpha) {
+		double previous = previousTranslateX[index];
+		return layoutX[index] + previous + (translateX[index] - previous) * alpha;
+	}
+
+	/**
+	 * Returns the y-coordinate to draw a projectile at, between its position at the start of the last tick and now.
+	 *
+	 * @param index the index of the projectile
+	 * @param alpha the fraction of a tick elapsed since the last tick
+	 * @return the interpolated y-coordinate
+	 */
+	public double interpolateY(int index, double alpha) {
+		double previous = previousTranslateY[index];
+		return layoutY[index] + previous + (translateY[index] - previous) * alpha;
+	}
+
+	/**
+	 * Copies a projectile's row to another index.
+	 */
+	private void move(int from, int to) {
+		types[to] = types[from];
+		layoutX[to] = layoutX[from];
+		layoutY[to] = layoutY[from];
+		translateX[to] = translateX[from];
+		translateY[to] = translateY[from];
+		previousTranslateX[to] = previousTranslateX[from];
+		previousTranslateY[to] = previousTranslateY[from];
+		velocityX[to] = velocityX[from];
+		velocityY[to] = velocityY[from];
+		ages[to] = ages[from];
+		destroyed[to] = destroyed[from];
+	}
+
+	/**
+	 * Grows the arrays so that they can hold at least the given number of projectiles.
+	 */
+	private void grow(int capacity) {
+		int newCapacity = Math.max(capacity, types.length * 2);
+		types = Arrays.copyOf(types, newCapacity);
+		layoutX = Arrays.copyOf(layoutX, newCapacity);
+		layoutY = Arrays.copyOf(layoutY, newCapacity);
+		translateX = Arrays.copyOf(translateX, newCapacity);
+		translateY = Arrays.copyOf(translateY, newCapacity);
+		previousTranslateX = Arrays.copyOf(previousTranslateX, newCapacity);
+		previousTranslateY = Arrays.copyOf(previousTranslateY, newCapacity);
+		velocityX = Arrays.copyOf(velocityX, newCapacity);
+		velocityY = Arrays.copyOf(velocityY, newCapacity);
+		ages = Arrays.copyOf(ages, newCapacity);
+		destroyed = Arrays.copyOf(destroyed, newCapacity);
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.demo;
+
+/**
+ * The ProjectileType enum describes each kind of projectile: its sprite in the {@link SpriteAtlas}, its size and
+ * its velocity. Projectiles themselves are rows of a {@link ProjectileStore} rather than objects.
+ */
+public enum ProjectileType {
+
+	/** A projectile fired by the player, moving right. */
+	USER("userfire.png", 125, 15),
+
+	/** A projectile fired by a regular enemy plane, moving left. */
+	ENEMY("enemyFire.png", 50, -10),
+
+	/** A fireball thrown by the boss, moving left. */
+	BOSS("fireball.png", 75, -15);
+
+	/** The name of the projectile's sprite in the {@link SpriteAtlas}. */
+	private final String imageName;
+
+	/** The height of the projectile. */
+	private final int imageHeight;
+
+	/** The width of the projectile, derived from the image's aspect ratio. */
+	private final double imageWidth;
+
+	/** The collision shape of the projectile's image at the projectile's size. */
+	private final SpriteMask mask;
+
+	/** The distance the projectile moves to the right each tick; negative values move it left. */
+	private final double horizontalVelocity;
+
+	/**
+	 * Constructs a ProjectileType, reading the sprite's aspect ratio to size it and its alpha channel to shape it.
+	 *
+	 * @param imageName the name of the projectile's sprite
+	 * @param imageHeight the height of the projectile
+	 * @param horizontalVelocity the distance the projectile moves each tick
+	 */
+	ProjectileType(String imageName, int imageHeight, double horizontalVelocity) {
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		String resourcePath = SpriteAtlas.getDefinition(imageName).getResourcePath();
+		this.imageWidth = imageHeight * SpriteMetrics.getAspectRatio(resourcePath);
+		this.mask = SpriteMask.of(resourcePath, imageWidth, imageHeight);
+		this.horizontalVelocity = horizontalVelocity;
+	}
+
+	/**
+	 * Resolves the projectile's sprite in the {@link SpriteAtlas} ahead of the first spawn.
+	 */
+	public void preload() {
+		SpriteAtlas.getRegion(imageName);
+	}
+
+	/**
+	 * Returns the name of the projectile's sprite in the {@link SpriteAtlas}.
+	 *
+	 * @return the sprite name
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Returns the height of the projectile.
+	 *
+	 * @return the height
+	 */
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Returns the width of the projectile.
+	 *
+	 * @return the width
+	 */
+	public double getImageWidth() {
+		return imageWidth;
+	}
+
+	/**
+	 * Returns the collision shape of the projectile, relative to its bounding box.
+	 *
+	 * @return the projectile's sprite mask
+	 */
+	public SpriteMask getMask() {
+		return mask;
+	}
+
+	/**
+	 * Returns the distance the projectile moves to the right each tick.
+	 *
+	 * @return the horizontal velocity
+	 */
+	public double getHorizontalVelocity() {
+		return horizontalVelocity;
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.demo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The RandomSource class provides the random numbers of one level. It is created from a single seed and splits
+ * an independent {@link SplittableRandom} stream for each {@link RandomStream}, so the same seed and the same
+ * player input always produce the same run. The streams are not thread-safe and belong to the thread
+ * simulating the level.
+ */
+public final class RandomSource {
+
+	/** The seed the streams were split from. */
+	private final long seed;
+
+	/** The stream of each subsystem, indexed by {@link RandomStream#ordinal()}. */
+	private final SplittableRandom[] streams;
+
+	/**
+	 * Constructs a RandomSource, splitting one stream per subsystem from the seed in declaration order.
+	 *
+	 * @param seed the seed of the level
+	 */
+	public RandomSource(long seed) {
+		this.seed = seed;
+		SplittableRandom root = new SplittableRandom(seed);
+		RandomStream[] subsystems = RandomStream.values();
+		this.streams = new SplittableRandom[subsystems.length];
+		for (RandomStream subsystem : subsystems) {
+			streams[subsystem.ordinal()] = root.split();
+		}
+	}
+
+	/**
+	 * Creates a seed for a level that was not given one.
+	 *
+	 * @return a new, unpredictable seed
+	 */
+	public static long newSeed() {
+		return new SplittableRandom().nextLong();
+	}
+
+	/**
+	 * Returns the stream of a subsystem.
+	 *
+	 * @param subsystem the subsystem drawing random numbers
+	 * @return the subsystem's stream
+	 */
+	public SplittableRandom stream(RandomStream subsystem) {
+		return streams[subsystem.ordinal()];
+	}
+
+	/**
+	 * Shuffles a list with a subsystem's stream, using the same algorithm as {@link Collections#shuffle(List)}.
+	 *
+	 * @param list the list to shuffle
+	 * @param subsystem the subsystem drawing random numbers
+	 */
+	public void shuffle(List<?> list, RandomStream subsystem) {
+		SplittableRandom random = stream(subsystem);
+		for (int i = list.size(); i > 1; i--) {
+			Collections.swap(list, i - 1, random.nextInt(i));
+		}
+	}
+
+	/**
+	 * Returns the seed the streams were split from.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+}
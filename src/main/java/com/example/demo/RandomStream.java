@@ -0,0 +1,21 @@
+package com.example.demo;
+
+/**
+ * The RandomStream enum lists the subsystems that draw random numbers. Each one draws from its own stream of a
+ * level's {@link RandomSource}, so that a change in how often one subsystem draws does not shift the numbers
+ * seen by the others.
+ */
+public enum RandomStream {
+
+	/** Enemy spawning: whether an enemy spawns and where. */
+	SPAWN,
+
+	/** Enemy fire: whether an enemy plane fires in the current tick. */
+	FIRE,
+
+	/** Boss behaviour: the boss's move pattern and firing. */
+	BOSS_AI,
+
+	/** Boss shield: whether the boss raises its shield in the current tick. */
+	SHIELD
+}
@@ -0,0 +1,13 @@
+package com.example.demo;
+
+/**
+ * The RendererMode enum lists the available ways of drawing a level's actors.
+ */
+public enum RendererMode {
+
+	/** Draws each actor as its own {@link javafx.scene.image.ImageView} node, see {@link NodeActorRenderer}. */
+	NODES,
+
+	/** Draws every actor onto a single {@link javafx.scene.canvas.Canvas}, see {@link CanvasActorRenderer}. */
+	CANVAS
+}
@@ -0,0 +1,279 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The Replay class is a replay file read back into memory: the level it was recorded in, the seed and screen size
+ * to recreate the level with, whether its collisions were pixel-accurate, every input event with its tick, and,
+ * if the level ended while recording, the final tick count and state hash. See {@link ReplayWriter} for the file
+ * format.
+ */
+public final class Replay {
+
+	/** The first four bytes of a replay file, "CWRP". */
+	static final int MAGIC = 0x43575250;
+
+	/** The version of the replay file format. */
+	static final int FORMAT_VERSION = 4;
+
+	/** The code of the trailer record. */
+	static final int END_CODE = 0xFF;
+
+	/** The input controls, indexed by the code of their events. */
+	private static final PlayerInput[] INPUTS = PlayerInput.values();
+
+	private final LevelId levelId;
+	private final long seed;
+	private final double screenHeight;
+	private final double screenWidth;
+	private final double ticksPerSecond;
+	private final boolean pixelCollisions;
+
+	/** The tick of each input event. */
+	private final long[] eventTicks;
+
+	/** The code of each input event, see {@link #encodeInput(PlayerInput, boolean)}. */
+	private final byte[] eventCodes;
+
+	/** Whether the file ends with a trailer. */
+	private final boolean finished;
+
+	private final long finalTick;
+	private final long finalStateHash;
+
+	/**
+	 * Constructs a Replay from the contents of a replay file.
+	 */
+	private Replay(LevelId levelId, long seed, double screenHeight, double screenWidth, double ticksPerSecond,
+			boolean pixelCollisions, long[] eventTicks, byte[] eventCodes, boolean finished, long finalTick,
+			long finalStateHash) {
+		this.levelId = levelId;
+		this.seed = seed;
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.ticksPerSecond = ticksPerSecond;
+		this.pixelCollisions = pixelCollisions;
+		this.eventTicks = eventTicks;
+		this.eventCodes = eventCodes;
+		this.finished = finished;
+		this.finalTick = finalTick;
+		this.finalStateHash = finalStateHash;
+	}
+
+	/**
+	 * Reads a replay file. A file cut off after its last complete event, for example by a crash, is read as an
+	 * unfinished replay, even if the cut falls within the trailer.
+	 *
+	 * @param file the replay file
+	 * @return the replay
+	 * @throws IOException if the file cannot be read or is not a replay file
+	 */
+	public static Replay read(Path file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readUnsignedShort() != FORMAT_VERSION) {
+				throw new IOException("Not a replay file: " + file);
+			}
+			LevelId levelId = readLevelId(in, file);
+			long seed = in.readLong();
+			double screenHeight = in.readDouble();
+			double screenWidth = in.readDouble();
+			double ticksPerSecond = in.readDouble();
+			boolean pixelCollisions = in.readBoolean();
+			long[] ticks = new long[64];
+			byte[] codes = new byte[64];
+			int count = 0;
+			long tick = 0;
+			boolean finished = false;
+			long finalStateHash = 0;
+			try {
+				while (!finished) {
+					tick += readTickDelta(in);
+					int code = in.readUnsignedByte();
+					if (code == END_CODE) {
+						finalStateHash = in.readLong();
+						finished = true;
+					} else if (code >= 2 * INPUTS.length) {
+						throw new IOException("Invalid replay event code " + code + " in " + file);
+					} else {
+						if (count == ticks.length) {
+							ticks = Arrays.copyOf(ticks, count * 2);
+							codes = Arrays.copyOf(codes, count * 2);
+						}
+						ticks[count] = tick;
+						codes[count] = (byte) code;
+						count++;
+					}
+				}
+			} catch (EOFException e) {
+				// The file was cut off within an event or the trailer; keep the complete events before it.
+			}
+			long finalTick = finished ? tick : count > 0 ? ticks[count - 1] : 0;
+			return new Replay(levelId, seed, screenHeight, screenWidth, ticksPerSecond, pixelCollisions,
+					Arrays.copyOf(ticks, count), Arrays.copyOf(codes, count), finished, finalTick, finalStateHash);
+		}
+	}
+
+	/**
+	 * Codes a press or release of a control as one byte.
+	 *
+	 * @param input the control
+	 * @param pressed true for a press, false for a release
+	 * @return the event code
+	 */
+	static int encodeInput(PlayerInput input, boolean pressed) {
+		return input.ordinal() << 1 | (pressed ? 1 : 0);
+	}
+
+	/**
+	 * Reads the id of the level recorded.
+	 */
+	private static LevelId readLevelId(DataInputStream in, Path file) throws IOException {
+		String name = in.readUTF();
+		try {
+			return LevelId.valueOf(name);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Unknown level " + name + " in " + file, e);
+		}
+	}
+
+	/**
+	 * Reads an unsigned variable-length integer.
+	 */
+	private static long readTickDelta(DataInputStream in) throws IOException {
+		long delta = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			int b = in.readUnsignedByte();
+			delta |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return delta;
+			}
+		}
+		throw new IOException("Malformed tick delta in replay file");
+	}
+
+	/**
+	 * Returns the number of input events.
+	 *
+	 * @return the event count
+	 */
+	public int getEventCount() {
+		return eventTicks.length;
+	}
+
+	/**
+	 * Returns the tick an input event applies to.
+	 *
+	 * @param index the index of the event
+	 * @return the number of ticks run before the event
+	 */
+	public long getEventTick(int index) {
+		return eventTicks[index];
+	}
+
+	/**
+	 * Returns the control of an input event.
+	 *
+	 * @param index the index of the event
+	 * @return the control
+	 */
+	public PlayerInput getEventInput(int index) {
+		return INPUTS[eventCodes[index] >> 1];
+	}
+
+	/**
+	 * Checks whether an input event is a press.
+	 *
+	 * @param index the index of the event
+	 * @return true for a press, false for a release
+	 */
+	public boolean isEventPressed(int index) {
+		return (eventCodes[index] & 1) != 0;
+	}
+
+	/**
+	 * Returns the id of the level recorded.
+	 *
+	 * @return the level id
+	 */
+	public LevelId getLevelId() {
+		return levelId;
+	}
+
+	/**
+	 * Returns the seed of the level recorded.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the height of the screen the level was created with.
+	 *
+	 * @return the screen height
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Returns the width of the screen the level was created with.
+	 *
+	 * @return the screen width
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Returns the tick rate the level was played at.
+	 *
+	 * @return the ticks per second
+	 */
+	public double getTicksPerSecond() {
+		return ticksPerSecond;
+	}
+
+	/**
+	 * Checks whether the level's collisions were pixel-accurate.
+	 *
+	 * @return true if the level was played with pixel-accurate collisions
+	 */
+	public boolean isPixelCollisionsEnabled() {
+		return pixelCollisions;
+	}
+
+	/**
+	 * Checks whether the level ended while recording, so that its final state can be verified.
+	 *
+	 * @return true if the replay has a trailer
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * Returns the number of ticks the level ran, or for an unfinished replay the tick of the last event.
+	 *
+	 * @return the final tick
+	 */
+	public long getFinalTick() {
+		return finalTick;
+	}
+
+	/**
+	 * Returns the hash of the level's final state.
+	 *
+	 * @return the state hash, or 0 for an unfinished replay
+	 */
+	public long getFinalStateHash() {
+		return finalStateHash;
+	}
+}
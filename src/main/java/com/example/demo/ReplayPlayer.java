@@ -0,0 +1,113 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The ReplayPlayer class plays a {@link Replay} back headlessly: it recreates the recorded level with the
+ * recorded seed and screen size, feeds it the recorded input at the recorded ticks as fast as possible, and
+ * compares the state the level ends in with the state hash in the replay.
+ */
+public class ReplayPlayer {
+
+	/** The replay being played. */
+	private final Replay replay;
+
+	/** The level the replay is played in. */
+	private final LevelParent level;
+
+	/** The index of the next input event to feed. */
+	private int nextEvent;
+
+	/**
+	 * Constructs a ReplayPlayer, creating the recorded level. The level's seed and collision mode are set through
+	 * the {@link GameSettings}, which are restored afterwards.
+	 *
+	 * @param replay the replay to play
+	 */
+	public ReplayPlayer(Replay replay) {
+		this.replay = replay;
+		Long previousSeed = GameSettings.getSeed();
+		boolean previousPixelCollisions = GameSettings.isPixelCollisionsEnabled();
+		GameSettings.setSeed(replay.getSeed());
+		GameSettings.setPixelCollisionsEnabled(replay.isPixelCollisionsEnabled());
+		try {
+			this.level = LevelRegistry.create(replay.getLevelId(), replay.getScreenHeight(), replay.getScreenWidth());
+		} finally {
+			GameSettings.setSeed(previousSeed);
+			GameSettings.setPixelCollisionsEnabled(previousPixelCollisions);
+		}
+	}
+
+	/**
+	 * Plays the replay until the recorded final tick, or until the level ends.
+	 *
+	 * @return the number of ticks simulated
+	 */
+	public long play() {
+		HeadlessRunner runner = new HeadlessRunner(level);
+		return runner.run(replay.getFinalTick(), this::feedInput);
+	}
+
+	/**
+	 * Checks whether the level ended at the recorded tick in the recorded state.
+	 *
+	 * @return true if the replay is finished and the level's final state matches it, false otherwise
+	 */
+	public boolean matchesRecording() {
+		return replay.isFinished() && level.getTickCount() == replay.getFinalTick()
+				&& level.computeStateHash() == replay.getFinalStateHash();
+	}
+
+	/**
+	 * Returns the level the replay is played in.
+	 *
+	 * @return the level
+	 */
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	/**
+	 * Feeds the level every recorded input event of the tick about to run.
+	 */
+	private void feedInput(LevelParent level, long tick) {
+		while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= tick) {
+			level.handleInput(replay.getEventInput(nextEvent), replay.isEventPressed(nextEvent));
+			nextEvent++;
+		}
+	}
+
+	/**
+	 * Plays a replay file and reports the simulation speed and whether the final state matches.
+	 * Exits with status 1 if the replay is finished and its final state does not match.
+	 *
+	 * @param args the replay file
+	 * @throws IOException if the replay file cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("Usage: ReplayPlayer <replay file>");
+			System.exit(2);
+		}
+		Replay replay = Replay.read(Path.of(args[0]));
+		ReplayPlayer player = new ReplayPlayer(replay);
+		long start = System.nanoTime();
+		long ticks = player.play();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("Replayed %s (seed %d): %d events, %d ticks in %.3f s (%.0fx real time)%n",
+				replay.getLevelId(), replay.getSeed(), replay.getEventCount(), ticks, seconds,
+				ticks / replay.getTicksPerSecond() / seconds);
+		if (!replay.isFinished()) {
+			System.out.printf("Replay is unfinished; final state hash %016x not verified%n",
+					player.getLevel().computeStateHash());
+		} else if (player.matchesRecording()) {
+			System.out.printf("Final state hash %016x matches the recording%n", replay.getFinalStateHash());
+		} else {
+			System.out.printf("MISMATCH: recorded tick %d hash %016x, replayed tick %d hash %016x%n",
+					replay.getFinalTick(), replay.getFinalStateHash(), player.getLevel().getTickCount(),
+					player.getLevel().computeStateHash());
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.demo;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The ReplayWriter class records a level's player input to a replay file as it happens. The file starts with a
+ * header naming the level, its seed, the screen size, the tick rate and whether collisions were
+ * pixel-accurate; each input event is then appended
+ * as the number of ticks since the previous event, as an unsigned variable-length integer, followed by one byte
+ * coding the control and whether it was pressed. Every event is flushed straight away, so a replay survives a
+ * crash of the game. When the level ends, a trailer with the final tick count and state hash is appended.
+ * See {@link Replay} for reading the file back.
+ */
+public class ReplayWriter implements Closeable {
+
+	/** The output stream of the replay file. */
+	private final DataOutputStream out;
+
+	/** The tick of the last event written. */
+	private long lastTick;
+
+	/**
+	 * Creates a replay file and writes its header.
+	 *
+	 * @param file the replay file, replaced if it exists
+	 * @param levelId the id of the level recorded
+	 * @param seed the level's seed
+	 * @param screenHeight the height of the screen the level was created with
+	 * @param screenWidth the width of the screen the level was created with
+	 * @param ticksPerSecond the tick rate the level was played at
+	 * @param pixelCollisions whether the level's collisions were pixel-accurate
+	 * @throws IOException if the file cannot be created or written
+	 */
+	public ReplayWriter(Path file, LevelId levelId, long seed, double screenHeight, double screenWidth,
+			double ticksPerSecond, boolean pixelCollisions) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+		out.writeInt(Replay.MAGIC);
+		out.writeShort(Replay.FORMAT_VERSION);
+		out.writeUTF(levelId.name());
+		out.writeLong(seed);
+		out.writeDouble(screenHeight);
+		out.writeDouble(screenWidth);
+		out.writeDouble(ticksPerSecond);
+		out.writeBoolean(pixelCollisions);
+		out.flush();
+	}
+
+	/**
+	 * Appends a press or release of one of the player's controls.
+	 *
+	 * @param tick the index of the tick the input applies to, which is the number of ticks run before it
+	 * @param input the control
+	 * @param pressed true if the control was pressed, false if it was released
+	 * @throws IOException if the file cannot be written
+	 */
+	public void writeInput(long tick, PlayerInput input, boolean pressed) throws IOException {
+		writeTick(tick);
+		out.writeByte(Replay.encodeInput(input, pressed));
+		out.flush();
+	}
+
+	/**
+	 * Appends the trailer holding the state the level ended in and closes the file.
+	 *
+	 * @param finalTick the number of ticks the level ran
+	 * @param stateHash the hash of the level's final state
+	 * @throws IOException if the file cannot be written
+	 */
+	public void finish(long finalTick, long stateHash) throws IOException {
+		writeTick(finalTick);
+		out.writeByte(Replay.END_CODE);
+		out.writeLong(stateHash);
+		close();
+	}
+
+	/**
+	 * Closes the file. A replay closed without {@link #finish(long, long)} can still be played, but its final
+	 * state cannot be verified.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	/**
+	 * Writes the number of ticks since the previous record as an unsigned variable-length integer.
+	 */
+	private void writeTick(long tick) throws IOException {
+		if (tick < lastTick) {
+			throw new IllegalArgumentException("Replay ticks must not decrease: " + tick + " < " + lastTick);
+		}
+		long delta = tick - lastTick;
+		while ((delta & ~0x7FL) != 0) {
+			out.writeByte((int) ((delta & 0x7F) | 0x80));
+			delta >>>= 7;
+		}
+		out.writeByte((int) delta);
+		lastTick = tick;
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.demo;
+
+/**
+ * The SceneLayer enum lists the layers a level's scene is drawn in, from back to front. Each actor category has
+ * a layer of its own, so spawning and removing actors only touches the children of that category's layer.
+ */
+public enum SceneLayer {
+
+	/** The level background. */
+	BACKGROUND(true),
+
+	/** The enemy planes and bosses. */
+	ENEMIES(false),
+
+	/** The player's plane. */
+	FRIENDLIES(false),
+
+	/** The projectiles fired by the player. */
+	USER_PROJECTILES(false),
+
+	/** The projectiles fired by enemies. */
+	ENEMY_PROJECTILES(false),
+
+	/** The heads-up display, such as the player's hearts and the boss shield. */
+	HUD(true),
+
+	/** The images shown over the game, such as the win and game over images. */
+	OVERLAY(true);
+
+	/** Whether the layer's content rarely changes. */
+	private final boolean staticContent;
+
+	/**
+	 * Constructs a SceneLayer.
+	 *
+	 * @param staticContent whether the layer's content rarely changes
+	 */
+	SceneLayer(boolean staticContent) {
+		this.staticContent = staticContent;
+	}
+
+	/**
+	 * Checks whether the layer's content rarely changes, in which case the layer is cached as a bitmap.
+	 *
+	 * @return true if the layer is static, false if it changes every tick
+	 */
+	public boolean isStatic() {
+		return staticContent;
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.demo;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The SceneLayers class builds a level's scene graph as one group per {@link SceneLayer}, stacked in the layer
+ * order under a single root. Static layers are cached as bitmaps. Every insertion and removal goes through this
+ * class, which counts the mutations of each layer and the time they took.
+ */
+public class SceneLayers {
+
+	/** The group holding every layer. */
+	private final Group root;
+
+	/** The group of each layer. */
+	private final Map<SceneLayer, Group> layers;
+
+	/** The number of nodes inserted into each layer, indexed by layer ordinal. */
+	private final long[] insertions;
+
+	/** The number of nodes removed from each layer, indexed by layer ordinal. */
+	private final long[] removals;
+
+	/** The time spent changing the children of each layer, in nanoseconds, indexed by layer ordinal. */
+	private final long[] mutationNanos;
+
+	/**
+	 * Constructs the layer groups and the root holding them.
+	 */
+	public SceneLayers() {
+		this.root = new Group();
+		this.layers = new EnumMap<>(SceneLayer.class);
+		for (SceneLayer layer : SceneLayer.values()) {
+			Group group = new Group();
+			if (layer.isStatic()) {
+				group.setCache(true);
+				group.setCacheHint(CacheHint.QUALITY);
+			}
+			layers.put(layer, group);
+			root.getChildren().add(group);
+		}
+		this.insertions = new long[SceneLayer.values().length];
+		this.removals = new long[SceneLayer.values().length];
+		this.mutationNanos = new long[SceneLayer.values().length];
+	}
+
+	/**
+	 * Adds a node to the front of a layer.
+	 *
+	 * @param layer the layer to add to
+	 * @param node the node to add
+	 */
+	public void add(SceneLayer layer, Node node) {
+		long start = System.nanoTime();
+		layers.get(layer).getChildren().add(node);
+		mutationNanos[layer.ordinal()] += System.nanoTime() - start;
+		insertions[layer.ordinal()]++;
+	}
+
+	/**
+	 * Removes a batch of nodes from a layer in a single change of its children.
+	 *
+	 * @param layer the layer to remove from
+	 * @param nodes the nodes to remove
+	 */
+	public void removeAll(SceneLayer layer, Collection<? extends Node> nodes) {
+		long start = System.nanoTime();
+		layers.get(layer).getChildren().removeAll(nodes);
+		mutationNanos[layer.ordinal()] += System.nanoTime() - start;
+		removals[layer.ordinal()] += nodes.size();
+	}
+
+	/**
+	 * Stops caching the static layers as bitmaps. The toolkit frees a cached bitmap only when the change reaches
+	 * it on a pulse while the scene is still shown, so this must be called a frame before the scene is replaced.
+	 */
+	public void releaseCaches() {
+		for (SceneLayer layer : SceneLayer.values()) {
+			if (layer.isStatic()) {
+				layers.get(layer).setCache(false);
+			}
+		}
+	}
+
+	/**
+	 * Returns the group holding every layer, to be used as the scene's root.
+	 *
+	 * @return the root group
+	 */
+	public Group getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns the group of a layer.
+	 *
+	 * @param layer the layer
+	 * @return the layer's group
+	 */
+	public Group getLayer(SceneLayer layer) {
+		return layers.get(layer);
+	}
+
+	/**
+	 * Formats the number of nodes in each layer, the mutations made to it and their average cost.
+	 *
+	 * @return a multi-line report, one line per layer that has been changed
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		for (SceneLayer layer : SceneLayer.values()) {
+			int index = layer.ordinal();
+			long mutations = insertions[index] + removals[index];
+			if (mutations == 0) {
+				continue;
+			}
+			report.append(String.format("%-17s %5d nodes, %7d inserted, %7d removed, %8.2f us/node%n",
+					layer, layers.get(layer).getChildren().size(), insertions[index], removals[index],
+					mutationNanos[index] / 1e3 / mutations));
+		}
+		return report.toString();
+	}
+}
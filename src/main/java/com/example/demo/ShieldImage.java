@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -10,8 +9,8 @@ import javafx.scene.image.ImageView;
  */
 public class ShieldImage extends ImageView {
 
-	// Path to the shield image file
-	private static final String IMAGE_NAME = "/images/shield.png";
+	// Name of the shield sprite in the sprite atlas
+	private static final String IMAGE_NAME = "shield.png";
 	// The size of the shield image
 	private static final int SHIELD_SIZE = 200;
 
@@ -25,8 +24,8 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		// Set the shield image from the class path
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.jpg").toExternalForm()));
+		// Set the shield image from the sprite atlas
+		SpriteAtlas.getRegion(IMAGE_NAME).applyTo(this);
 		this.setVisible(false); // Initially, the shield is hidden
 		this.setFitHeight(SHIELD_SIZE); // Set the height of the shield
 		this.setFitWidth(SHIELD_SIZE); // Set the width of the shield
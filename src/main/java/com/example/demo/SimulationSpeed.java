@@ -0,0 +1,106 @@
+package com.example.demo;
+
+/**
+ * The SimulationSpeed enum lists the rates a level can be simulated at relative to real time. Faster speeds
+ * run several ticks per frame and draw only every few frames, since the intermediate states are not meant to be
+ * watched; {@link #UNCAPPED} runs as many ticks as fit in each frame's time budget.
+ */
+public enum SimulationSpeed {
+
+	/** Real time. */
+	NORMAL(1, 1),
+
+	/** Twice real time. */
+	DOUBLE(2, 1),
+
+	/** Ten times real time, drawing every second frame. */
+	TEN_TIMES(10, 2),
+
+	/** As fast as the simulation can run, drawing every fourth frame. */
+	UNCAPPED(0, 4);
+
+	/** The wall-clock time an uncapped loop spends running ticks in each frame, in nanoseconds. */
+	public static final long UNCAPPED_TICK_BUDGET_NANOS = 12_000_000;
+
+	/** The number of ticks run per tick of real time, or 0 if uncapped. */
+	private final int multiplier;
+
+	/** The number of frames per rendered frame. */
+	private final int renderInterval;
+
+	/**
+	 * Constructs a SimulationSpeed.
+	 *
+	 * @param multiplier the number of ticks run per tick of real time, or 0 if uncapped
+	 * @param renderInterval the number of frames per rendered frame
+	 */
+	SimulationSpeed(int multiplier, int renderInterval) {
+		this.multiplier = multiplier;
+		this.renderInterval = renderInterval;
+	}
+
+	/**
+	 * Parses a speed given as a multiplier, such as {@code 2} or {@code 10x}, or as {@code uncapped}.
+	 *
+	 * @param value the speed
+	 * @return the matching speed
+	 * @throws IllegalArgumentException if no speed matches
+	 */
+	public static SimulationSpeed parse(String value) {
+		String multiplier = value.toLowerCase().endsWith("x") ? value.substring(0, value.length() - 1) : value;
+		for (SimulationSpeed speed : values()) {
+			if (speed.isUncapped() ? multiplier.equalsIgnoreCase("uncapped")
+					: multiplier.equals(Integer.toString(speed.multiplier))) {
+				return speed;
+			}
+		}
+		throw new IllegalArgumentException("Unknown simulation speed: " + value);
+	}
+
+	/**
+	 * Returns the number of ticks run per tick of real time.
+	 *
+	 * @return the speed multiplier, or 0 if uncapped
+	 */
+	public int getMultiplier() {
+		return multiplier;
+	}
+
+	/**
+	 * Checks whether the speed is limited only by how fast ticks run.
+	 *
+	 * @return true if uncapped
+	 */
+	public boolean isUncapped() {
+		return multiplier == 0;
+	}
+
+	/**
+	 * Returns the number of frames per rendered frame.
+	 *
+	 * @return the render interval, 1 to render every frame
+	 */
+	public int getRenderInterval() {
+		return renderInterval;
+	}
+
+	/**
+	 * Returns the next faster speed, wrapping around to {@link #NORMAL} after {@link #UNCAPPED}.
+	 *
+	 * @return the next speed
+	 */
+	public SimulationSpeed next() {
+		SimulationSpeed[] speeds = values();
+		return speeds[(ordinal() + 1) % speeds.length];
+	}
+
+	/**
+	 * Formats the speed for display, for example {@code 10x}.
+	 *
+	 * @return the speed label
+	 */
+	@Override
+	public String toString() {
+		return isUncapped() ? "uncapped" : multiplier + "x";
+	}
+}
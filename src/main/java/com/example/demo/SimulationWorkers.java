@@ -0,0 +1,167 @@
+package com.example.demo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The SimulationWorkers class splits bulk simulation work, such as moving every projectile or testing every
+ * actor for collisions, into chunks of consecutive indices run on a {@link ForkJoinPool}. Work smaller than two
+ * chunks of the minimum chunk size runs as a single chunk on the calling thread, so small scenes stay serial and
+ * pay nothing for the option.
+ * <p>
+ * Chunks only touch the simulation state of their own indices, never JavaFX, and the caller merges their results
+ * in chunk order once every chunk has finished, so a tick has the same outcome whatever the parallelism. Pools
+ * are shared by every level with the same parallelism, so level transitions do not start new threads.
+ */
+public final class SimulationWorkers {
+
+	/** The fewest indices worth handing to a worker thread. */
+	public static final int DEFAULT_MIN_CHUNK_SIZE = 4096;
+
+	/** Workers that run everything on the calling thread. */
+	public static final SimulationWorkers SERIAL = new SimulationWorkers(1, DEFAULT_MIN_CHUNK_SIZE);
+
+	/** The pool of each parallelism started so far. */
+	private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+	/**
+	 * The work done on one chunk of indices.
+	 */
+	@FunctionalInterface
+	public interface ChunkTask {
+
+		/**
+		 * Processes the indices of one chunk.
+		 *
+		 * @param chunk the index of the chunk, from 0 to the chunk count minus one
+		 * @param from the first index of the chunk
+		 * @param to one past the last index of the chunk
+		 */
+		void run(int chunk, int from, int to);
+	}
+
+	/** The maximum number of chunks run at once. */
+	private final int parallelism;
+
+	/** The fewest indices a chunk is given. */
+	private final int minChunkSize;
+
+	/** The pool chunks run on, or null if the parallelism is one. */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructs SimulationWorkers.
+	 *
+	 * @param parallelism the maximum number of chunks run at once; one runs everything on the calling thread
+	 * @param minChunkSize the fewest indices a chunk is given
+	 * @throws IllegalArgumentException if the parallelism or the chunk size is not positive
+	 */
+	public SimulationWorkers(int parallelism, int minChunkSize) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+		}
+		if (minChunkSize <= 0) {
+			throw new IllegalArgumentException("Minimum chunk size must be positive: " + minChunkSize);
+		}
+		this.parallelism = parallelism;
+		this.minChunkSize = minChunkSize;
+		this.pool = parallelism > 1 ? POOLS.computeIfAbsent(parallelism, ForkJoinPool::new) : null;
+	}
+
+	/**
+	 * Returns the maximum number of chunks run at once.
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Returns the number of chunks a given amount of work is split into: one per minimum chunk size, up to the
+	 * parallelism.
+	 *
+	 * @param work the amount of work, in indices or comparable units
+	 * @return the chunk count, at least one
+	 */
+	public int chunkCount(int work) {
+		return Math.max(1, Math.min(parallelism, work / minChunkSize));
+	}
+
+	/**
+	 * Runs a task over the indices from 0 to the given count, split into as many chunks as
+	 * {@link #chunkCount(int)} gives for the count, and waits for every chunk to finish.
+	 *
+	 * @param count the number of indices
+	 * @param task the work done on each chunk
+	 */
+	public void forEachChunk(int count, ChunkTask task) {
+		forEachChunk(count, chunkCount(count), task);
+	}
+
+	/**
+	 * Runs a task over the indices from 0 to the given count, split into the given number of chunks of nearly
+	 * equal size, and waits for every chunk to finish. A single chunk runs on the calling thread.
+	 *
+	 * @param count the number of indices
+	 * @param chunks the number of chunks, at most the parallelism
+	 * @param task the work done on each chunk
+	 */
+	public void forEachChunk(int count, int chunks, ChunkTask task) {
+		int chunkCount = Math.min(Math.min(chunks, parallelism), count);
+		if (chunkCount <= 1) {
+			task.run(0, 0, count);
+			return;
+		}
+		pool.invoke(new ChunkAction(task, count, chunkCount, 0, chunkCount));
+	}
+
+	/**
+	 * Runs a range of chunks, splitting it in halves until a single chunk is left.
+	 */
+	private static final class ChunkAction extends RecursiveAction {
+
+		/** ForkJoinTask is Serializable, but chunk actions are never serialized. */
+		private static final long serialVersionUID = 1L;
+
+		private final transient ChunkTask task;
+		private final int count;
+		private final int chunkCount;
+		private final int firstChunk;
+		private final int endChunk;
+
+		/**
+		 * Constructs a ChunkAction for the chunks from the first up to, but excluding, the end chunk.
+		 */
+		private ChunkAction(ChunkTask task, int count, int chunkCount, int firstChunk, int endChunk) {
+			this.task = task;
+			this.count = count;
+			this.chunkCount = chunkCount;
+			this.firstChunk = firstChunk;
+			this.endChunk = endChunk;
+		}
+
+		/**
+		 * Runs the single chunk, or splits the range.
+		 */
+		@Override
+		protected void compute() {
+			if (endChunk - firstChunk == 1) {
+				task.run(firstChunk, start(firstChunk), start(endChunk));
+				return;
+			}
+			int middle = (firstChunk + endChunk) >>> 1;
+			invokeAll(new ChunkAction(task, count, chunkCount, firstChunk, middle),
+					new ChunkAction(task, count, chunkCount, middle, endChunk));
+		}
+
+		/**
+		 * Returns the first index of a chunk.
+		 */
+		private int start(int chunk) {
+			return (int) ((long) count * chunk / chunkCount);
+		}
+	}
+}
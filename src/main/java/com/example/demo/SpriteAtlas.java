@@ -0,0 +1,101 @@
+package com.example.demo;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SpriteAtlas class is the game's catalogue of sprites and the entry point to the shared {@link TextureAtlas}
+ * they are packed into. Sprites are looked up by name, which is the name of their image file. The catalogue itself
+ * is plain data, so actors can check their sprite name headlessly; the atlas pages are only loaded, from the disk
+ * cache where possible, the first time a region is requested.
+ */
+public final class SpriteAtlas {
+
+	/** The maximum width and height of an atlas page. */
+	private static final int PAGE_SIZE = 2048;
+
+	/** The empty space kept around each sprite in the atlas. */
+	private static final int PADDING = 2;
+
+	/** Every sprite in the atlas, keyed by name, at the size it is displayed at. */
+	private static final Map<String, SpriteDefinition> SPRITES = catalogue(
+			SpriteDefinition.ofHeight("userplane.png", 150),
+			SpriteDefinition.ofHeight("enemyplane.png", 150),
+			SpriteDefinition.ofHeight("bossplane.png", 300),
+			SpriteDefinition.ofHeight("userfire.png", 125),
+			SpriteDefinition.ofHeight("enemyFire.png", 50),
+			SpriteDefinition.ofHeight("fireball.png", 75),
+			SpriteDefinition.ofHeight("heart.png", 50),
+			SpriteDefinition.ofSize("shield.png", 200, 200));
+
+	/** The loaded atlas, or null until a region is first requested. */
+	private static TextureAtlas atlas;
+
+	/**
+	 * Prevents instantiation; the atlas is accessed through its static methods.
+	 */
+	private SpriteAtlas() {
+	}
+
+	/**
+	 * Returns the definition of a sprite.
+	 *
+	 * @param name the sprite name
+	 * @return the sprite definition
+	 * @throws IllegalArgumentException if the catalogue has no sprite of that name
+	 */
+	public static SpriteDefinition getDefinition(String name) {
+		SpriteDefinition sprite = SPRITES.get(name);
+		if (sprite == null) {
+			throw new IllegalArgumentException("No sprite named " + name + " in the sprite catalogue");
+		}
+		return sprite;
+	}
+
+	/**
+	 * Returns the region holding a sprite, loading the atlas if it has not been loaded yet.
+	 *
+	 * @param name the sprite name
+	 * @return the sprite's region
+	 * @throws IllegalArgumentException if the catalogue has no sprite of that name
+	 */
+	public static SpriteRegion getRegion(String name) {
+		return getAtlas().getRegion(name);
+	}
+
+	/**
+	 * Returns the atlas holding every sprite in the catalogue, loading it if it has not been loaded yet.
+	 *
+	 * @return the texture atlas
+	 */
+	public static synchronized TextureAtlas getAtlas() {
+		if (atlas == null) {
+			atlas = TextureAtlas.load(List.copyOf(SPRITES.values()), new AtlasPacker(PAGE_SIZE, PADDING),
+					GameSettings.getAtlasCacheDirectory());
+		}
+		return atlas;
+	}
+
+	/**
+	 * Formats the state of the atlas for diagnostics.
+	 *
+	 * @return a one-line report
+	 */
+	public static synchronized String report() {
+		return atlas == null ? "Texture atlas: not loaded" : atlas.report();
+	}
+
+	/**
+	 * Indexes the sprite definitions by name, keeping their order.
+	 */
+	private static Map<String, SpriteDefinition> catalogue(SpriteDefinition... sprites) {
+		Map<String, SpriteDefinition> catalogue = new LinkedHashMap<>();
+		for (SpriteDefinition sprite : sprites) {
+			if (catalogue.put(sprite.getName(), sprite) != null) {
+				throw new IllegalStateException("Duplicate sprite name: " + sprite.getName());
+			}
+		}
+		return catalogue;
+	}
+}
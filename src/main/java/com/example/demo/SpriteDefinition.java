@@ -0,0 +1,103 @@
+package com.example.demo;
+
+/**
+ * The SpriteDefinition class describes one sprite to be packed into the {@link TextureAtlas}: the name its
+ * region is looked up by, the image it is cut from and the size it is pre-scaled to.
+ */
+public final class SpriteDefinition {
+
+	/** The location path of the sprite images. */
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	/** The name the sprite's region is looked up by. */
+	private final String name;
+
+	/** The absolute classpath location of the sprite's image. */
+	private final String resourcePath;
+
+	/** The width the sprite is pre-scaled to, in pixels. */
+	private final int width;
+
+	/** The height the sprite is pre-scaled to, in pixels. */
+	private final int height;
+
+	/**
+	 * Constructs a SpriteDefinition.
+	 *
+	 * @param name the name the sprite's region is looked up by
+	 * @param resourcePath the absolute classpath location of the sprite's image
+	 * @param width the width the sprite is pre-scaled to
+	 * @param height the height the sprite is pre-scaled to
+	 * @throws IllegalArgumentException if the size is not positive
+	 */
+	public SpriteDefinition(String name, String resourcePath, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Sprite size must be positive: " + name + " " + width + "x" + height);
+		}
+		this.name = name;
+		this.resourcePath = resourcePath;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Defines a sprite named after its image file, pre-scaled to the given height with the image's aspect ratio.
+	 *
+	 * @param imageName the name of the image file, which is also the sprite's name
+	 * @param height the height the sprite is pre-scaled to
+	 * @return the sprite definition
+	 */
+	public static SpriteDefinition ofHeight(String imageName, int height) {
+		String resourcePath = IMAGE_LOCATION + imageName;
+		int width = (int) Math.round(height * SpriteMetrics.getAspectRatio(resourcePath));
+		return new SpriteDefinition(imageName, resourcePath, width, height);
+	}
+
+	/**
+	 * Defines a sprite named after its image file, pre-scaled to the given size.
+	 *
+	 * @param imageName the name of the image file, which is also the sprite's name
+	 * @param width the width the sprite is pre-scaled to
+	 * @param height the height the sprite is pre-scaled to
+	 * @return the sprite definition
+	 */
+	public static SpriteDefinition ofSize(String imageName, int width, int height) {
+		return new SpriteDefinition(imageName, IMAGE_LOCATION + imageName, width, height);
+	}
+
+	/**
+	 * Returns the name the sprite's region is looked up by.
+	 *
+	 * @return the sprite name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the absolute classpath location of the sprite's image.
+	 *
+	 * @return the image resource path
+	 */
+	public String getResourcePath() {
+		return resourcePath;
+	}
+
+	/**
+	 * Returns the width the sprite is pre-scaled to.
+	 *
+	 * @return the width in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height the sprite is pre-scaled to.
+	 *
+	 * @return the height in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,265 @@
+package com.example.demo;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The SpriteMask class is the collision shape of a sprite at the size it is displayed at: one bit per pixel,
+ * set where the sprite is opaque, packed into {@code long} words row by row, together with the tight bounding box
+ * of the set bits. Sprites have wide transparent margins, so the tight box is what the collision broadphase tests;
+ * the bits let the narrowphase check whether two sprites actually overlap, 64 pixels at a time.
+ * <p>
+ * Masks are built from the image's alpha channel, decoded with ImageIO so that no JavaFX toolkit is needed,
+ * once per image and size, and shared by every actor drawn with that image at that size.
+ */
+public final class SpriteMask {
+
+	/** The alpha, out of 255, from which a source pixel counts as opaque. */
+	private static final int ALPHA_THRESHOLD = 128;
+
+	/** The number of pixels in a word of the mask. */
+	private static final int WORD_BITS = Long.SIZE;
+
+	/** The mask of each image and size built so far, keyed by resource path and size. */
+	private static final Map<String, SpriteMask> MASKS = new ConcurrentHashMap<>();
+
+	/** The number of pixel columns of the mask. */
+	private final int columns;
+
+	/** The number of pixel rows of the mask. */
+	private final int rows;
+
+	/** The number of words holding one row. */
+	private final int wordsPerRow;
+
+	/** The bits of the mask; bit {@code x % 64} of word {@code y * wordsPerRow + x / 64} is pixel (x, y). */
+	private final long[] bits;
+
+	/** The tight box of the opaque pixels relative to the sprite's top-left corner, in display units. */
+	private final double minX;
+	private final double minY;
+	private final double maxX;
+	private final double maxY;
+
+	/** The index of the first and one past the last column and row holding an opaque pixel. */
+	private final int firstColumn;
+	private final int endColumn;
+	private final int firstRow;
+	private final int endRow;
+
+	/**
+	 * Constructs a SpriteMask from its bits, computing the tight box.
+	 */
+	private SpriteMask(int columns, int rows, long[] bits, double width) {
+		this.columns = columns;
+		this.rows = rows;
+		this.wordsPerRow = (columns + WORD_BITS - 1) / WORD_BITS;
+		this.bits = bits;
+		int left = columns;
+		int right = 0;
+		int top = rows;
+		int bottom = 0;
+		for (int y = 0; y < rows; y++) {
+			for (int x = 0; x < columns; x++) {
+				if (isOpaque(x, y)) {
+					left = Math.min(left, x);
+					right = Math.max(right, x + 1);
+					top = Math.min(top, y);
+					bottom = Math.max(bottom, y + 1);
+				}
+			}
+		}
+		this.firstColumn = left;
+		this.endColumn = right;
+		this.firstRow = top;
+		this.endRow = bottom;
+		this.minX = left;
+		this.minY = top;
+		this.maxX = Math.min(right, width);
+		this.maxY = bottom;
+	}
+
+	/**
+	 * Returns the mask of an image displayed at the given size, building it the first time it is requested.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @param width the width the image is displayed at
+	 * @param height the height the image is displayed at
+	 * @return the sprite's mask
+	 * @throws IllegalArgumentException if the resource does not exist or cannot be decoded
+	 */
+	public static SpriteMask of(String resourcePath, double width, int height) {
+		return MASKS.computeIfAbsent(resourcePath + '@' + width + 'x' + height,
+				key -> build(resourcePath, width, height));
+	}
+
+	/**
+	 * Decodes an image and builds its mask.
+	 */
+	private static SpriteMask build(String resourcePath, double width, int height) {
+		BufferedImage image;
+		try (InputStream stream = SpriteMask.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Image resource not found: " + resourcePath);
+			}
+			image = ImageIO.read(stream);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read image: " + resourcePath, e);
+		}
+		if (image == null) {
+			throw new IllegalArgumentException("Not a readable image: " + resourcePath);
+		}
+		return fromImage(image, width, height);
+	}
+
+	/**
+	 * Builds the mask of a decoded image displayed at the given size, marking each display pixel that covers at
+	 * least one opaque source pixel. Unlike {@link #of}, the mask is not shared.
+	 *
+	 * @param image the decoded image
+	 * @param width the width the image is displayed at
+	 * @param height the height the image is displayed at
+	 * @return the image's mask
+	 */
+	static SpriteMask fromImage(BufferedImage image, double width, int height) {
+		int columns = Math.max(1, (int) Math.ceil(width));
+		int rows = Math.max(1, height);
+		int wordsPerRow = (columns + WORD_BITS - 1) / WORD_BITS;
+		long[] bits = new long[wordsPerRow * rows];
+		int sourceWidth = image.getWidth();
+		int sourceHeight = image.getHeight();
+		WritableRaster alpha = image.getAlphaRaster();
+		int[] alphaRow = new int[sourceWidth];
+		for (int sy = 0; sy < sourceHeight; sy++) {
+			if (alpha != null) {
+				alpha.getSamples(0, sy, sourceWidth, 1, 0, alphaRow);
+			}
+			int y = (int) ((long) sy * rows / sourceHeight);
+			for (int sx = 0; sx < sourceWidth; sx++) {
+				if (alpha == null || alphaRow[sx] >= ALPHA_THRESHOLD) {
+					int x = (int) ((long) sx * columns / sourceWidth);
+					bits[y * wordsPerRow + x / WORD_BITS] |= 1L << (x % WORD_BITS);
+				}
+			}
+		}
+		return new SpriteMask(columns, rows, bits, width);
+	}
+
+	/**
+	 * Checks whether this mask overlaps another mask placed at the given offset. Only the rows and words where
+	 * the tight boxes of both masks meet are tested, each word with a single AND.
+	 *
+	 * @param other the other mask
+	 * @param offsetX the column of this mask the other mask's left edge is placed at
+	 * @param offsetY the row of this mask the other mask's top edge is placed at
+	 * @return true if an opaque pixel of this mask covers an opaque pixel of the other mask, false otherwise
+	 */
+	public boolean overlaps(SpriteMask other, int offsetX, int offsetY) {
+		int fromX = Math.max(firstColumn, offsetX + other.firstColumn);
+		int toX = Math.min(endColumn, offsetX + other.endColumn);
+		int fromY = Math.max(firstRow, offsetY + other.firstRow);
+		int toY = Math.min(endRow, offsetY + other.endRow);
+		if (fromX >= toX || fromY >= toY) {
+			return false;
+		}
+		int firstWord = fromX / WORD_BITS;
+		int lastWord = (toX - 1) / WORD_BITS;
+		for (int y = fromY; y < toY; y++) {
+			int row = y * wordsPerRow;
+			int otherRow = (y - offsetY) * other.wordsPerRow;
+			for (int word = firstWord; word <= lastWord; word++) {
+				if ((bits[row + word] & other.rowBits(otherRow, word * WORD_BITS - offsetX)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether a pixel of the mask is opaque.
+	 *
+	 * @param x the column of the pixel
+	 * @param y the row of the pixel
+	 * @return true if the pixel is opaque, false if it is transparent or outside the mask
+	 */
+	public boolean isOpaque(int x, int y) {
+		if (x < 0 || y < 0 || x >= columns || y >= rows) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + x / WORD_BITS] & 1L << (x % WORD_BITS)) != 0;
+	}
+
+	/**
+	 * Checks whether the mask has no opaque pixel at all.
+	 *
+	 * @return true if the sprite is fully transparent, false otherwise
+	 */
+	public boolean isEmpty() {
+		return firstColumn >= endColumn;
+	}
+
+	/**
+	 * Returns the left edge of the tight box, relative to the sprite's left edge.
+	 *
+	 * @return the minimum x offset
+	 */
+	public double getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Returns the top edge of the tight box, relative to the sprite's top edge.
+	 *
+	 * @return the minimum y offset
+	 */
+	public double getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Returns the right edge of the tight box, relative to the sprite's left edge.
+	 *
+	 * @return the maximum x offset
+	 */
+	public double getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Returns the bottom edge of the tight box, relative to the sprite's top edge.
+	 *
+	 * @return the maximum y offset
+	 */
+	public double getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * Returns the 64 pixels of a row starting at the given column, which need not be word-aligned; pixels
+	 * outside the mask are transparent.
+	 */
+	private long rowBits(int row, int column) {
+		int word = Math.floorDiv(column, WORD_BITS);
+		int shift = Math.floorMod(column, WORD_BITS);
+		long low = wordAt(row, word) >>> shift;
+		if (shift == 0) {
+			return low;
+		}
+		return low | wordAt(row, word + 1) << (WORD_BITS - shift);
+	}
+
+	/**
+	 * Returns a word of a row, or zero if the word lies outside the row.
+	 */
+	private long wordAt(int row, int word) {
+		return word >= 0 && word < wordsPerRow ? bits[row + word] : 0;
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.demo;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SpriteMetrics class reads the dimensions of sprite images straight from their PNG headers, so that
+ * actor sizes and hitboxes can be computed without decoding the image or starting the JavaFX toolkit.
+ */
+public final class SpriteMetrics {
+
+	/** The eight-byte signature at the start of every PNG file. */
+	private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+	/** The number of bytes between the signature and the image width: the IHDR chunk length and type. */
+	private static final int IHDR_HEADER_LENGTH = 8;
+
+	/** The width-to-height ratio of each image read so far, keyed by resource path. */
+	private static final Map<String, Double> ASPECT_RATIOS = new ConcurrentHashMap<>();
+
+	/**
+	 * Prevents instantiation; the metrics are accessed through the static methods.
+	 */
+	private SpriteMetrics() {
+	}
+
+	/**
+	 * Returns the width-to-height ratio of a PNG image.
+	 *
+	 * @param resourcePath the absolute classpath location of the image
+	 * @return the aspect ratio of the image
+	 * @throws IllegalArgumentException if the resource does not exist or is not a PNG image
+	 */
+	public static double getAspectRatio(String resourcePath) {
+		return ASPECT_RATIOS.computeIfAbsent(resourcePath, SpriteMetrics::readAspectRatio);
+	}
+
+	/**
+	 * Reads the width and height from the IHDR chunk of a PNG image.
+	 */
+	private static double readAspectRatio(String resourcePath) {
+		try (InputStream stream = SpriteMetrics.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Image resource not found: " + resourcePath);
+			}
+			DataInputStream input = new DataInputStream(stream);
+			byte[] signature = new byte[PNG_SIGNATURE.length];
+			input.readFully(signature);
+			if (!Arrays.equals(signature, PNG_SIGNATURE)) {
+				throw new IllegalArgumentException("Not a PNG image: " + resourcePath);
+			}
+			input.skipNBytes(IHDR_HEADER_LENGTH);
+			int width = input.readInt();
+			int height = input.readInt();
+			return (double) width / height;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read image header: " + resourcePath, e);
+		}
+	}
+}
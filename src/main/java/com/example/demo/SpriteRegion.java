@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The SpriteRegion class locates one sprite inside a larger image: the image to draw from and the source
+ * rectangle covering the sprite, in the image's pixels.
+ */
+public final class SpriteRegion {
+
+	/** The image holding the sprite. */
+	private final Image image;
+
+	/** The left edge of the sprite in the image. */
+	private final double x;
+
+	/** The top edge of the sprite in the image. */
+	private final double y;
+
+	/** The width of the sprite in the image. */
+	private final double width;
+
+	/** The height of the sprite in the image. */
+	private final double height;
+
+	/**
+	 * Constructs a SpriteRegion.
+	 *
+	 * @param image the image holding the sprite
+	 * @param x the left edge of the sprite in the image
+	 * @param y the top edge of the sprite in the image
+	 * @param width the width of the sprite in the image
+	 * @param height the height of the sprite in the image
+	 */
+	public SpriteRegion(Image image, double x, double y, double width, double height) {
+		this.image = image;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Makes an image view show this sprite, by setting its image and viewport.
+	 *
+	 * @param view the image view
+	 */
+	public void applyTo(ImageView view) {
+		view.setImage(image);
+		view.setViewport(new Rectangle2D(x, y, width, height));
+	}
+
+	/**
+	 * Returns the image holding the sprite.
+	 *
+	 * @return the image
+	 */
+	public Image getImage() {
+		return image;
+	}
+
+	/**
+	 * Returns the left edge of the sprite in the image.
+	 *
+	 * @return the source x-coordinate
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the top edge of the sprite in the image.
+	 *
+	 * @return the source y-coordinate
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Returns the width of the sprite in the image.
+	 *
+	 * @return the source width
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the height of the sprite in the image.
+	 *
+	 * @return the source height
+	 */
+	public double getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,347 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The TextureAtlas class holds sprites packed into a few shared page images, together with the index of the
+ * {@link SpriteRegion region} each sprite occupies. The first time a set of sprites is loaded, each image is
+ * decoded at its pre-scaled size, packed with an {@link AtlasPacker} and copied into its page; the pages and the
+ * region index are then written to a binary cache file, so that later startups read the pixels back without
+ * decoding or scaling any PNG. The cache file is named after a checksum of the sprite definitions, the packing
+ * parameters and the image bytes, so changing any of them produces a fresh atlas.
+ */
+public final class TextureAtlas {
+
+	/** The first four bytes of a cache file, "CWAT". */
+	private static final int MAGIC = 0x43574154;
+
+	/** The version of the cache file format. */
+	private static final int FORMAT_VERSION = 1;
+
+	/** The number of bytes per cached pixel. */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/**
+	 * The location of one sprite in the pages, as stored in the region index.
+	 */
+	private static final class RegionEntry {
+
+		/** The sprite name. */
+		private final String name;
+
+		/** The index of the page holding the sprite. */
+		private final int page;
+
+		/** The source rectangle of the sprite in its page. */
+		private final int x;
+		private final int y;
+		private final int width;
+		private final int height;
+
+		/**
+		 * Constructs a RegionEntry.
+		 */
+		private RegionEntry(String name, int page, int x, int y, int width, int height) {
+			this.name = name;
+			this.page = page;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	/** The page images. */
+	private final List<Image> pages;
+
+	/** The region of each sprite, keyed by sprite name. */
+	private final Map<String, SpriteRegion> regions;
+
+	/** Whether the pages were read from the cache file rather than packed from the images. */
+	private final boolean loadedFromCache;
+
+	/** The time taken to load the atlas, in nanoseconds. */
+	private final long loadNanos;
+
+	/**
+	 * Constructs a TextureAtlas from its pages and region index.
+	 */
+	private TextureAtlas(List<Image> pages, List<RegionEntry> index, boolean loadedFromCache, long loadNanos) {
+		this.pages = pages;
+		this.regions = new HashMap<>();
+		for (RegionEntry entry : index) {
+			regions.put(entry.name, new SpriteRegion(pages.get(entry.page), entry.x, entry.y, entry.width,
+					entry.height));
+		}
+		this.loadedFromCache = loadedFromCache;
+		this.loadNanos = loadNanos;
+	}
+
+	/**
+	 * Loads an atlas holding the given sprites, from the cache directory if a matching cache file exists, or by
+	 * packing the sprite images and writing the cache file otherwise. A cache file that cannot be read or
+	 * written is ignored.
+	 *
+	 * @param sprites the sprites to hold
+	 * @param packer the packer laying out the pages
+	 * @param cacheDirectory the directory holding cache files, or null to always pack the images
+	 * @return the atlas
+	 * @throws IllegalArgumentException if a sprite image cannot be found or decoded, or does not fit on a page
+	 */
+	public static TextureAtlas load(List<SpriteDefinition> sprites, AtlasPacker packer, Path cacheDirectory) {
+		long start = System.nanoTime();
+		long key = computeKey(sprites, packer);
+		Path cacheFile = cacheDirectory == null ? null : cacheDirectory.resolve(String.format("atlas-%08x.bin", key));
+		List<RegionEntry> index = new ArrayList<>();
+		List<int[]> pixels = new ArrayList<>();
+		List<int[]> sizes = new ArrayList<>();
+		if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+			try {
+				readCache(cacheFile, key, packer.getPageSize(), index, pixels, sizes);
+				return new TextureAtlas(toImages(pixels, sizes), index, true, System.nanoTime() - start);
+			} catch (IOException | RuntimeException e) {
+				System.err.println("Ignoring unreadable texture atlas cache " + cacheFile + ": " + e);
+				index.clear();
+				pixels.clear();
+				sizes.clear();
+			}
+		}
+		packPages(sprites, packer, index, pixels, sizes);
+		if (cacheFile != null) {
+			try {
+				writeCache(cacheFile, key, index, pixels, sizes);
+			} catch (IOException e) {
+				System.err.println("Could not write texture atlas cache " + cacheFile + ": " + e);
+			}
+		}
+		return new TextureAtlas(toImages(pixels, sizes), index, false, System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns the region of a sprite.
+	 *
+	 * @param name the sprite name
+	 * @return the sprite's region
+	 * @throws IllegalArgumentException if the atlas does not hold the sprite
+	 */
+	public SpriteRegion getRegion(String name) {
+		SpriteRegion region = regions.get(name);
+		if (region == null) {
+			throw new IllegalArgumentException("No sprite named " + name + " in the texture atlas");
+		}
+		return region;
+	}
+
+	/**
+	 * Returns the number of page images.
+	 *
+	 * @return the page count
+	 */
+	public int getPageCount() {
+		return pages.size();
+	}
+
+	/**
+	 * Checks whether the pages were read from the cache file rather than packed from the images.
+	 *
+	 * @return true if the atlas was loaded from the cache
+	 */
+	public boolean isLoadedFromCache() {
+		return loadedFromCache;
+	}
+
+	/**
+	 * Formats the size of the pages, the number of regions and how the atlas was loaded.
+	 *
+	 * @return a one-line report
+	 */
+	public String report() {
+		StringBuilder pageSizes = new StringBuilder();
+		for (Image page : pages) {
+			pageSizes.append(pageSizes.length() == 0 ? "" : ", ")
+					.append((int) page.getWidth()).append('x').append((int) page.getHeight());
+		}
+		return String.format("Texture atlas: %d page(s) [%s], %d regions, %s in %.1f ms", pages.size(), pageSizes,
+				regions.size(), loadedFromCache ? "read from cache" : "packed from images", loadNanos / 1e6);
+	}
+
+	/**
+	 * Decodes every sprite at its pre-scaled size and copies it into the page chosen by the packer, trimming
+	 * each page to the area actually used.
+	 */
+	private static void packPages(List<SpriteDefinition> sprites, AtlasPacker packer, List<RegionEntry> index,
+			List<int[]> pixels, List<int[]> sizes) {
+		List<AtlasPacker.Placement> placements = packer.pack(sprites);
+		for (AtlasPacker.Placement placement : placements) {
+			SpriteDefinition sprite = placement.getSprite();
+			while (sizes.size() <= placement.getPage()) {
+				sizes.add(new int[2]);
+			}
+			int[] size = sizes.get(placement.getPage());
+			size[0] = Math.max(size[0], placement.getX() + sprite.getWidth() + packer.getPadding());
+			size[1] = Math.max(size[1], placement.getY() + sprite.getHeight() + packer.getPadding());
+		}
+		for (int[] size : sizes) {
+			pixels.add(new int[size[0] * size[1]]);
+		}
+		for (AtlasPacker.Placement placement : placements) {
+			SpriteDefinition sprite = placement.getSprite();
+			Image image = new Image(requireResource(sprite.getResourcePath()).toExternalForm(), sprite.getWidth(),
+					sprite.getHeight(), false, true);
+			if (image.isError()) {
+				throw new IllegalArgumentException("Could not decode sprite image: " + sprite.getResourcePath(),
+						image.getException());
+			}
+			int pageWidth = sizes.get(placement.getPage())[0];
+			int width = Math.min(sprite.getWidth(), (int) image.getWidth());
+			int height = Math.min(sprite.getHeight(), (int) image.getHeight());
+			image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(),
+					pixels.get(placement.getPage()), placement.getY() * pageWidth + placement.getX(), pageWidth);
+			index.add(new RegionEntry(sprite.getName(), placement.getPage(), placement.getX(), placement.getY(),
+					width, height));
+		}
+	}
+
+	/**
+	 * Creates the page images from their premultiplied ARGB pixels.
+	 */
+	private static List<Image> toImages(List<int[]> pixels, List<int[]> sizes) {
+		List<Image> images = new ArrayList<>(pixels.size());
+		for (int i = 0; i < pixels.size(); i++) {
+			int width = sizes.get(i)[0];
+			int height = sizes.get(i)[1];
+			WritableImage page = new WritableImage(width, height);
+			page.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels.get(i),
+					0, width);
+			images.add(page);
+		}
+		return images;
+	}
+
+	/**
+	 * Writes the region index and page pixels to a temporary file and moves it over the cache file, so that an
+	 * interrupted write never leaves a truncated cache behind. The temporary file is deleted if the write fails.
+	 */
+	private static void writeCache(Path cacheFile, long key, List<RegionEntry> index, List<int[]> pixels,
+			List<int[]> sizes) throws IOException {
+		Files.createDirectories(cacheFile.getParent());
+		Path temporaryFile = Files.createTempFile(cacheFile.getParent(), "atlas-", ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeLong(key);
+				out.writeInt(index.size());
+				for (RegionEntry entry : index) {
+					out.writeUTF(entry.name);
+					out.writeInt(entry.page);
+					out.writeInt(entry.x);
+					out.writeInt(entry.y);
+					out.writeInt(entry.width);
+					out.writeInt(entry.height);
+				}
+				out.writeInt(pixels.size());
+				for (int i = 0; i < pixels.size(); i++) {
+					out.writeInt(sizes.get(i)[0]);
+					out.writeInt(sizes.get(i)[1]);
+					ByteBuffer bytes = ByteBuffer.allocate(pixels.get(i).length * BYTES_PER_PIXEL);
+					bytes.asIntBuffer().put(pixels.get(i));
+					out.write(bytes.array());
+				}
+			}
+			Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Reads the region index and page pixels back from a cache file. Page sizes are checked against the page size
+	 * of the packer before any pixel array is allocated, so a corrupt header cannot request a huge one.
+	 */
+	private static void readCache(Path cacheFile, long key, int pageSize, List<RegionEntry> index,
+			List<int[]> pixels, List<int[]> sizes) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readLong() != key) {
+				throw new IOException("Not a texture atlas cache for these sprites");
+			}
+			int regionCount = in.readInt();
+			for (int i = 0; i < regionCount; i++) {
+				index.add(new RegionEntry(in.readUTF(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+						in.readInt()));
+			}
+			int pageCount = in.readInt();
+			for (int i = 0; i < pageCount; i++) {
+				int width = in.readInt();
+				int height = in.readInt();
+				if (width <= 0 || height <= 0 || width > pageSize || height > pageSize) {
+					throw new IOException("Invalid page size " + width + "x" + height);
+				}
+				int pixelCount = Math.multiplyExact(width, height);
+				byte[] bytes = new byte[Math.multiplyExact(pixelCount, BYTES_PER_PIXEL)];
+				in.readFully(bytes);
+				int[] page = new int[pixelCount];
+				ByteBuffer.wrap(bytes).asIntBuffer().get(page);
+				sizes.add(new int[] {width, height});
+				pixels.add(page);
+			}
+		}
+	}
+
+	/**
+	 * Computes the checksum naming the cache file: it covers the format version, the packing parameters, every
+	 * sprite definition and the bytes of every sprite image.
+	 */
+	private static long computeKey(List<SpriteDefinition> sprites, AtlasPacker packer) {
+		CRC32 checksum = new CRC32();
+		ByteBuffer numbers = ByteBuffer.allocate(4 * Integer.BYTES);
+		numbers.putInt(FORMAT_VERSION).putInt(packer.getPageSize()).putInt(packer.getPadding()).putInt(sprites.size());
+		checksum.update(numbers.array());
+		for (SpriteDefinition sprite : sprites) {
+			String names = sprite.getName() + '\0' + sprite.getResourcePath() + '\0';
+			checksum.update(names.getBytes(StandardCharsets.UTF_8));
+			numbers.clear();
+			numbers.putInt(sprite.getWidth()).putInt(sprite.getHeight());
+			checksum.update(numbers.array(), 0, 2 * Integer.BYTES);
+			try (InputStream image = requireResource(sprite.getResourcePath()).openStream()) {
+				checksum.update(image.readAllBytes());
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Could not read sprite image: " + sprite.getResourcePath(), e);
+			}
+		}
+		return checksum.getValue();
+	}
+
+	/**
+	 * Locates a sprite image on the classpath.
+	 */
+	private static URL requireResource(String resourcePath) {
+		URL url = TextureAtlas.class.getResource(resourcePath);
+		if (url == null) {
+			throw new IllegalArgumentException("Sprite image not found: " + resourcePath);
+		}
+		return url;
+	}
+}
@@ -0,0 +1,230 @@
+package com.example.demo;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The ThreadedGameLoop class runs simulation ticks at a fixed rate on a dedicated simulation thread, and draws from
+ * an {@link AnimationTimer} on the JavaFX application thread, so a slow tick no longer delays drawing or key
+ * handling. After the ticks due at each wake-up the simulation thread publishes a frame; each pulse of the timer
+ * draws the latest frame published. The two threads only meet through lock-free buffers owned by the caller,
+ * such as a {@link FrameExchange} for the frames and an {@link InputQueue} for the player's input.
+ * <p>
+ * Ticks owed beyond a catch-up limit are dropped, as in the {@link FixedStepGameLoop}. A {@link SimulationSpeed}
+ * shortens the real time between ticks, or, when uncapped, runs ticks back to back in slices of wall-clock time;
+ * faster speeds also draw only every few pulses.
+ */
+public class ThreadedGameLoop implements GameLoop {
+
+	/** The name of the simulation thread. */
+	private static final String THREAD_NAME = "simulation";
+
+	/**
+	 * Publishes the state reached by the simulation for the timer to draw.
+	 */
+	@FunctionalInterface
+	public interface FramePublisher {
+
+		/**
+		 * Publishes the state reached by the last tick.
+		 *
+		 * @param dueNanos the {@link System#nanoTime()} at which the last tick was due
+		 * @param intervalNanos the real time between two ticks, or 0 if the ticks are not paced in real time
+		 */
+		void publish(long dueNanos, long intervalNanos);
+	}
+
+	/** The simulated time covered by one tick, in nanoseconds. */
+	private final long nanosPerTick;
+
+	/** The maximum number of ticks run at one wake-up. */
+	private final int maxTicksPerWakeUp;
+
+	/** The simulation tick to run. */
+	private final Runnable tick;
+
+	/** Publishes the state reached by the ticks of each wake-up. */
+	private final FramePublisher publisher;
+
+	/** Draws the latest published state, given the timestamp of the pulse. */
+	private final LongConsumer render;
+
+	/** Calls {@link #render} on each pulse, and stops itself once the simulation has stopped. */
+	private final AnimationTimer renderTimer;
+
+	private volatile boolean running;
+	private volatile SimulationSpeed speed;
+	private int pulsesSinceRender;
+
+	/** The simulation thread, or null when stopped. Only set and cleared on the JavaFX application thread. */
+	private Thread thread;
+
+	/**
+	 * Constructs a ThreadedGameLoop.
+	 *
+	 * @param ticksPerSecond the number of simulation ticks to run per second
+	 * @param maxTicksPerWakeUp the maximum number of ticks to run at once before dropping the backlog
+	 * @param tick the simulation tick to run, on the simulation thread
+	 * @param publisher publishes the state reached after the ticks of each wake-up, on the simulation thread
+	 * @param render draws the latest published state on the JavaFX application thread, given the pulse's
+	 *               {@link System#nanoTime()}
+	 */
+	public ThreadedGameLoop(double ticksPerSecond, int maxTicksPerWakeUp, Runnable tick, FramePublisher publisher,
+			LongConsumer render) {
+		if (!(ticksPerSecond > 0) || maxTicksPerWakeUp <= 0) {
+			throw new IllegalArgumentException("Tick rate and catch-up limit must be positive");
+		}
+		this.nanosPerTick = Math.round(1_000_000_000.0 / ticksPerSecond);
+		this.maxTicksPerWakeUp = maxTicksPerWakeUp;
+		this.tick = tick;
+		this.publisher = publisher;
+		this.render = render;
+		this.speed = SimulationSpeed.NORMAL;
+		this.renderTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				renderPulse();
+			}
+		};
+	}
+
+	/**
+	 * Starts the simulation thread and the render timer. Must be called on the JavaFX application thread.
+	 */
+	@Override
+	public void start() {
+		if (thread != null) {
+			return;
+		}
+		running = true;
+		thread = new Thread(this::simulate, THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+		renderTimer.start();
+	}
+
+	/**
+	 * Stops the simulation. From within a tick, the simulation thread finishes the tick and exits, and the render
+	 * timer draws once more and stops at its next pulse. From any other thread, which must be the JavaFX
+	 * application thread, waits for the simulation thread to exit and stops the render timer, so the caller may
+	 * then touch the simulated state itself.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		if (Thread.currentThread() == thread) {
+			return;
+		}
+		if (thread != null) {
+			LockSupport.unpark(thread);
+			joinUninterruptibly(thread);
+			thread = null;
+		}
+		renderTimer.stop();
+	}
+
+	/**
+	 * Sets how fast simulated time passes relative to real time and how often the result is drawn, taking effect
+	 * from the simulation thread's next wake-up.
+	 *
+	 * @param speed the simulation speed
+	 */
+	@Override
+	public void setSpeed(SimulationSpeed speed) {
+		this.speed = speed;
+		LockSupport.unpark(thread);
+	}
+
+	/**
+	 * Runs on the simulation thread until stopped: sleeps until the next tick is due, runs the ticks owed, and
+	 * publishes the state they reached.
+	 */
+	private void simulate() {
+		SimulationSpeed currentSpeed = speed;
+		long interval = intervalAt(currentSpeed);
+		long nextTickNanos = System.nanoTime() + interval;
+		while (running) {
+			if (speed != currentSpeed) {
+				currentSpeed = speed;
+				interval = intervalAt(currentSpeed);
+				nextTickNanos = System.nanoTime() + interval;
+			}
+			if (currentSpeed.isUncapped()) {
+				runUncappedTicks();
+				nextTickNanos = System.nanoTime();
+				continue;
+			}
+			long now = System.nanoTime();
+			if (now < nextTickNanos) {
+				LockSupport.parkNanos(nextTickNanos - now);
+				continue;
+			}
+			int ticksRun = 0;
+			int maxTicks = maxTicksPerWakeUp * currentSpeed.getMultiplier();
+			while (running && now >= nextTickNanos && ticksRun < maxTicks) {
+				tick.run();
+				nextTickNanos += interval;
+				ticksRun++;
+			}
+			if (now >= nextTickNanos) {
+				nextTickNanos = now + interval - (now - nextTickNanos) % interval;
+			}
+			publisher.publish(nextTickNanos - interval, interval);
+		}
+	}
+
+	/**
+	 * Returns the real time between two ticks at a speed; uncapped speeds are not paced and count as normal.
+	 */
+	private long intervalAt(SimulationSpeed simulationSpeed) {
+		return nanosPerTick / Math.max(1, simulationSpeed.getMultiplier());
+	}
+
+	/**
+	 * Runs ticks until a slice of wall-clock time is spent, and publishes the state reached as is.
+	 */
+	private void runUncappedTicks() {
+		long deadline = System.nanoTime() + SimulationSpeed.UNCAPPED_TICK_BUDGET_NANOS;
+		do {
+			tick.run();
+		} while (running && System.nanoTime() < deadline);
+		publisher.publish(System.nanoTime(), 0);
+	}
+
+	/**
+	 * Draws on every render interval'th pulse. Once the simulation thread has stopped by itself, draws the state
+	 * it ended in one last time and stops the timer.
+	 */
+	private void renderPulse() {
+		if (!running && thread != null && !thread.isAlive()) {
+			thread = null;
+			render.accept(System.nanoTime());
+			renderTimer.stop();
+			return;
+		}
+		if (++pulsesSinceRender >= speed.getRenderInterval()) {
+			render.accept(System.nanoTime());
+			pulsesSinceRender = 0;
+		}
+	}
+
+	/**
+	 * Waits for a thread to exit, even if interrupted meanwhile, restoring the interrupt status afterwards.
+	 */
+	private static void joinUninterruptibly(Thread target) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				target.join();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The TickEvent class is a JDK Flight Recorder event covering one level tick, carrying the number of actors
+ * in play when the tick finished. Recorded only while tick profiling is enabled.
+ */
+@Name("com.example.demo.Tick")
+@Label("Game Tick")
+@Category("Sky Battle")
+@Description("One simulation tick of a level")
+public class TickEvent extends Event {
+
+	/** The simple class name of the level. */
+	@Label("Level")
+	public String level;
+
+	/** The index of the tick within the level. */
+	@Label("Tick")
+	public long tick;
+
+	/** The number of friendly units in play. */
+	@Label("Friendly Units")
+	public int friendlyUnits;
+
+	/** The number of enemy units in play. */
+	@Label("Enemy Units")
+	public int enemyUnits;
+
+	/** The number of projectiles fired by the player in play. */
+	@Label("User Projectiles")
+	public int userProjectiles;
+
+	/** The number of projectiles fired by enemies in play. */
+	@Label("Enemy Projectiles")
+	public int enemyProjectiles;
+}
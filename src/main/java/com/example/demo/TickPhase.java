@@ -0,0 +1,32 @@
+package com.example.demo;
+
+/**
+ * The TickPhase enum lists the stages of a level's tick, in the order {@link LevelParent} runs them.
+ * Each phase can also be run on its own, which lets benchmarks and profilers look at one stage at a time.
+ */
+public enum TickPhase {
+
+	/** Records the actors' positions for interpolation and lets the level spawn new enemies. */
+	SPAWN_ENEMY_UNITS,
+
+	/** Moves every actor and retires projectiles that have expired. */
+	UPDATE_ACTORS,
+
+	/** Lets every enemy fire. */
+	GENERATE_ENEMY_FIRE,
+
+	/** Applies enemy penetration and the three collision passes, each detecting its contacts before resolving them. */
+	HANDLE_COLLISIONS,
+
+	/** Removes destroyed actors from play and returns pooled ones to their pools. */
+	REMOVE_DESTROYED_ACTORS,
+
+	/** Credits the player with the enemies destroyed during the tick and publishes an event for each. */
+	UPDATE_KILL_COUNT,
+
+	/** Publishes the player's loss of health, from which the heads-up display updates. */
+	UPDATE_LEVEL_VIEW,
+
+	/** Lets the level decide whether it has been won or lost. */
+	CHECK_IF_GAME_OVER
+}
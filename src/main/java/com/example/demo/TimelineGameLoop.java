@@ -0,0 +1,94 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * The TimelineGameLoop class runs simulation ticks from the key frames of an indefinitely repeating
+ * {@link Timeline}: one tick per key frame at normal speed, or as many as the {@link SimulationSpeed} asks for.
+ * Actors are drawn at their simulated positions, so motion advances in whole ticks.
+ */
+public class TimelineGameLoop implements GameLoop {
+
+	/** The timeline driving the ticks. */
+	private final Timeline timeline;
+
+	/** The simulation tick to run. */
+	private final Runnable tick;
+
+	/** Draws the state reached by the ticks of a key frame. */
+	private final DoubleConsumer render;
+
+	private SimulationSpeed speed;
+	private int framesSinceRender;
+	private boolean running;
+
+	/**
+	 * Constructs a TimelineGameLoop.
+	 *
+	 * @param ticksPerSecond the number of simulation ticks to run per second
+	 * @param tick the simulation tick to run
+	 * @param render draws the state reached by each tick; always receives an interpolation factor of 1
+	 */
+	public TimelineGameLoop(double ticksPerSecond, Runnable tick, DoubleConsumer render) {
+		this.tick = tick;
+		this.render = render;
+		this.speed = SimulationSpeed.NORMAL;
+		this.timeline = new Timeline();
+		timeline.setCycleCount(Timeline.INDEFINITE);
+		timeline.getKeyFrames().add(new KeyFrame(Duration.seconds(1 / ticksPerSecond), e -> runKeyFrame()));
+	}
+
+	/**
+	 * Starts playing the timeline.
+	 */
+	@Override
+	public void start() {
+		running = true;
+		timeline.play();
+	}
+
+	/**
+	 * Stops the timeline, including from within a tick, in which case the remaining ticks of the key frame are
+	 * skipped.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		timeline.stop();
+	}
+
+	/**
+	 * Sets how many ticks each key frame runs and how often the result is drawn.
+	 *
+	 * @param speed the simulation speed
+	 */
+	@Override
+	public void setSpeed(SimulationSpeed speed) {
+		this.speed = speed;
+	}
+
+	/**
+	 * Runs the ticks of one key frame: the speed multiplier's worth, or as many as fit in the time budget when
+	 * uncapped. The state reached is drawn on every render interval'th key frame.
+	 */
+	private void runKeyFrame() {
+		if (speed.isUncapped()) {
+			long deadline = System.nanoTime() + SimulationSpeed.UNCAPPED_TICK_BUDGET_NANOS;
+			do {
+				tick.run();
+			} while (running && System.nanoTime() < deadline);
+		} else {
+			for (int i = 0; i < speed.getMultiplier() && running; i++) {
+				tick.run();
+			}
+		}
+		if (running && ++framesSinceRender >= speed.getRenderInterval()) {
+			render.accept(1);
+			framesSinceRender = 0;
+		}
+	}
+}
@@ -31,6 +31,13 @@ public class UserPlane extends FighterPlane {
 		velocityMultiplier = 0;  // Initially not moving
 	}
 
+	/**
+	 * Resolves the user plane sprite in the sprite atlas ahead of the first spawn.
+	 */
+	public static void preload() {
+		preloadSprite(IMAGE_NAME);
+	}
+
 	/**
 	 * Updates the position of the user plane based on user input.
 	 * The plane can move up or down within defined vertical bounds.
@@ -58,11 +65,14 @@ public class UserPlane extends FighterPlane {
 	/**
 	 * Fires a projectile from the user plane.
 	 *
-	 * @return the projectile fired by the user plane
+	 * @param projectiles the store the projectile is spawned into
+	 * @return true, as the user plane always fires
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+	public boolean fireProjectile(ProjectileStore projectiles) {
+		projectiles.spawn(ProjectileType.USER, PROJECTILE_X_POSITION,
+				getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+		return true;
 	}
 
 	/**
@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -21,7 +20,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition the Y position of the image on the screen
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(ImageCache.getImage(IMAGE_NAME, WIDTH, HEIGHT));
 		this.setVisible(false);  // Initially set the image to be invisible
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
@@ -29,6 +28,13 @@ public class WinImage extends ImageView {
 		this.setLayoutY(yPosition);
 	}
 
+	/**
+	 * Decodes the "You Win" image into the {@link ImageCache} ahead of time. Safe to call from any thread.
+	 */
+	public static void preload() {
+		ImageCache.preload(IMAGE_NAME, WIDTH, HEIGHT);
+	}
+
 	/**
 	 * Displays the "You Win" image by making it visible.
 	 */
@@ -1,27 +1,47 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.GameSettings;
+import com.example.demo.LevelId;
+import com.example.demo.LevelLeakCheck;
 import com.example.demo.LevelParent;
+import com.example.demo.LevelPreloader;
+import com.example.demo.LevelRegistry;
+import com.example.demo.LevelTransition;
 
 /**
  * The Controller class manages the game flow by initializing levels and handling transitions
- * between them. It observes changes in the game state and updates accordingly.
+ * between them. It listens for the transition of the level being played and moves on when the level is completed,
+ * disposing each level once it has been replaced. While a level is played, its successor in the
+ * {@link LevelRegistry} is prepared in the background. Each hand-off to the next level is timed from the completion
+ * of the level to the first frame of the next one, and each step of it on the JavaFX thread is checked against the
+ * frame budget.
  */
-public class Controller implements Observer {
+public class Controller {
 
-	/** The class name for the first level of the game. */
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.LevelOne";
+	/** The time a level hand-off may take without delaying a frame at 60 frames per second, in nanoseconds. */
+	private static final long FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
 
 	/** The primary stage for the application window. */
 	private final Stage stage;
 
+	/** Checks disposed levels for leaks, or null unless enabled in the {@link GameSettings}. */
+	private final LevelLeakCheck leakCheck;
+
+	/** Prepares the successor of the level being played. */
+	private final LevelPreloader preloader;
+
+	/** The level being played, or null before the game is launched. */
+	private LevelParent currentLevel;
+
+	/** Whether the level being played was prepared by the preloader. */
+	private boolean currentLevelPreloaded;
+
 	/**
 	 * Constructs a Controller for managing the game stages and levels.
 	 *
@@ -29,65 +49,124 @@ public class Controller implements Observer {
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.leakCheck = GameSettings.isLeakCheckEnabled() ? new LevelLeakCheck() : null;
+		this.preloader = new LevelPreloader(stage.getHeight(), stage.getWidth());
 	}
 
 	/**
 	 * Launches the game, displaying the stage and starting from the first level.
 	 *
-	 * @throws ClassNotFoundException if the level class cannot be found
-	 * @throws NoSuchMethodException if the level constructor is not found
-	 * @throws SecurityException if access to the level class or constructor is restricted
-	 * @throws InstantiationException if the level class cannot be instantiated
-	 * @throws IllegalAccessException if the level class or constructor is inaccessible
-	 * @throws IllegalArgumentException if invalid arguments are passed to the constructor
-	 * @throws InvocationTargetException if the constructor throws an exception
+	 * @throws IllegalStateException if the level registry is incomplete
 	 */
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-
+	public void launchGame() {
+		LevelRegistry.validate();
 		stage.show();
-		goToLevel(LEVEL_ONE_CLASS_NAME);
+		goToLevel(LevelRegistry.getFirstLevel());
 	}
 
 	/**
-	 * Transitions to the specified level.
+	 * Transitions to the specified level, disposing the current one first so that its game loop, handlers and
+	 * actors are released before the next level is built. The level prepared by the preloader is used if there
+	 * is one; otherwise the level is created here. Once the level has started, its successor is preloaded.
 	 *
-	 * @param className the name of the level class to load
-	 * @throws ClassNotFoundException if the level class cannot be found
-	 * @throws NoSuchMethodException if the level constructor is not found
-	 * @throws SecurityException if access to the level class or constructor is restricted
-	 * @throws InstantiationException if the level class cannot be instantiated
-	 * @throws IllegalAccessException if the level class or constructor is inaccessible
-	 * @throws IllegalArgumentException if invalid arguments are passed to the constructor
-	 * @throws InvocationTargetException if the constructor throws an exception
+	 * @param id the level to load
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-
-		Class<?> myClass = Class.forName(className);
-		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-		LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-		myLevel.addObserver(this);
+	private void goToLevel(LevelId id) {
+		disposeCurrentLevel();
+		LevelParent myLevel = preloader.take(id);
+		currentLevelPreloaded = myLevel != null;
+		if (myLevel == null) {
+			myLevel = LevelRegistry.create(id, stage.getHeight(), stage.getWidth());
+		}
+		myLevel.addLevelTransitionListener(this::goToLevelAfterDisposal);
 		Scene scene = myLevel.initializeScene();
 		stage.setScene(scene);
+		currentLevel = myLevel;
 		myLevel.startGame();
+		LevelId successor = LevelRegistry.getSuccessor(id);
+		if (successor != null) {
+			preloader.preload(successor);
+		}
 	}
 
 	/**
-	 * Responds to changes in observed objects, transitioning to a specified level.
+	 * Prints how long the hand-off to a new level took if one of its steps overran the frame budget, or always
+	 * when profiling is enabled.
 	 *
-	 * @param arg0 the observable object triggering the update
-	 * @param arg1 the level class name to transition to, provided as a String
+	 * @param transition the completed level and the new level
+	 * @param latencyNanos the time from the completion of the old level to the first frame of the new one
+	 * @param pulses the number of pulses the hand-off was spread over
+	 * @param longestStepNanos the longest time the hand-off held the JavaFX thread in one pulse
+	 */
+	private void reportHandOff(LevelTransition transition, long latencyNanos, int pulses, long longestStepNanos) {
+		if (longestStepNanos > FRAME_BUDGET_NANOS || GameSettings.isProfilingEnabled()) {
+			System.out.printf("Hand-off from %s to %s took %.2f ms over %d pulses, longest step %.2f ms (%s)%s%n",
+					transition.getCompletedLevel(), transition.getNextLevel(), latencyNanos / 1e6, pulses,
+					longestStepNanos / 1e6,
+					currentLevelPreloaded ? "preloaded" : "loaded on demand",
+					longestStepNanos > FRAME_BUDGET_NANOS ? ", over the frame budget" : "");
+		}
+	}
+
+	/**
+	 * Disposes the current level, if any, and schedules a leak check report if enabled. The report runs after
+	 * the transition has finished, once nothing on the stack refers to the old level any more.
 	 */
-	@Override
-	public void update(Observable arg0, Object arg1) {
-		try {
-			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-			Alert alert = new Alert(AlertType.ERROR);
-			alert.setContentText(e.getClass().toString());
-			alert.show();
+	private void disposeCurrentLevel() {
+		if (currentLevel == null) {
+			return;
 		}
+		currentLevel.dispose();
+		if (leakCheck != null) {
+			leakCheck.track(currentLevel);
+			Platform.runLater(() -> System.out.print(leakCheck.report()));
+		}
+		currentLevel = null;
+	}
+
+	/**
+	 * Moves on to the next level once the level being played has been completed. The transition is spread over
+	 * the next frames: the current level is disposed once its tick has finished, and the next level is built on
+	 * the first frame after that at which its preparation is done, so the JavaFX thread never waits for the
+	 * preloader and the toolkit has released the old scene's cached layers. The hand-off is reported on the pulse
+	 * after the new level's first frame.
+	 *
+	 * @param transition the completed level and the level to move on to
+	 */
+	private void goToLevelAfterDisposal(LevelTransition transition) {
+		LevelId id = transition.getNextLevel();
+		long completedNanos = System.nanoTime();
+		new AnimationTimer() {
+			private int pulses;
+			private long longestStepNanos;
+			private boolean disposed;
+			private boolean started;
+
+			@Override
+			public void handle(long now) {
+				if (started) {
+					stop();
+					reportHandOff(transition, System.nanoTime() - completedNanos, pulses, longestStepNanos);
+					return;
+				}
+				pulses++;
+				long stepStart = System.nanoTime();
+				if (!disposed) {
+					disposeCurrentLevel();
+					disposed = true;
+				} else if (preloader.isReady(id)) {
+					try {
+						goToLevel(id);
+						started = true;
+					} catch (RuntimeException e) {
+						stop();
+						Alert alert = new Alert(AlertType.ERROR);
+						alert.setContentText(e.toString());
+						alert.show();
+					}
+				}
+				longestStepNanos = Math.max(longestStepNanos, System.nanoTime() - stepStart);
+			}
+		}.start();
 	}
 }
@@ -1,8 +1,8 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.InvocationTargetException;
 import javafx.application.Application;
 import javafx.stage.Stage;
+import com.example.demo.GameSettings;
 
 /**
  * The Main class is the entry point of the application. It sets up the main game window
@@ -24,21 +24,15 @@ public class Main extends Application {
 
 	/**
 	 * Sets up the main game window with the specified dimensions and title.
-	 * Initializes the Controller and launches the game.
+	 * Applies the named command-line options (such as {@code --loop=timeline}) to the game settings,
+	 * then initializes the Controller and launches the game.
 	 *
 	 * @param stage the primary Stage object for the application window
-	 * @throws ClassNotFoundException if the Controller cannot load the initial level class
-	 * @throws NoSuchMethodException if the initial level constructor is not found
-	 * @throws SecurityException if access to the level class or constructor is restricted
-	 * @throws InstantiationException if the initial level class cannot be instantiated
-	 * @throws IllegalAccessException if the level class or constructor is inaccessible
-	 * @throws IllegalArgumentException if invalid arguments are passed to the constructor
-	 * @throws InvocationTargetException if the constructor throws an exception
+	 * @throws IllegalStateException if the level registry is incomplete
 	 */
 	@Override
-	public void start(Stage stage) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-
+	public void start(Stage stage) {
+		GameSettings.apply(getParameters().getNamed());
 		stage.setTitle(TITLE);
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
@@ -53,6 +47,6 @@ public class Main extends Application {
 	 * @param args the command-line arguments
 	 */
 	public static void main(String[] args) {
-		launch();
+		launch(args);
 	}
 }
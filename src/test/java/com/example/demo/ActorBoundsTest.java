@@ -0,0 +1,126 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the continuous time of impact computed by {@link ActorBounds}, with and without pixel accuracy.
+ */
+class ActorBoundsTest {
+
+	/** The colour of an opaque test pixel. */
+	private static final int OPAQUE = 0xFF000000;
+
+	/** The tolerance of compared times of impact. */
+	private static final double EPSILON = 1e-9;
+
+	/** A 20 by 4 pixel shot, opaque throughout. */
+	private static final SpriteMask SHOT = SpriteMaskTest.rectangleMask(20, 4, 0, 0, 20, 4);
+
+	/** A 4 by 100 pixel wall, opaque throughout. */
+	private static final SpriteMask WALL = SpriteMaskTest.rectangleMask(4, 100, 0, 0, 4, 100);
+
+	/**
+	 * Returns a cache holding one hitbox.
+	 */
+	private static ActorBounds box(double x, double y, double previousX, double previousY, SpriteMask mask) {
+		ActorBounds bounds = new ActorBounds();
+		bounds.add(x, y, previousX, previousY, mask);
+		return bounds;
+	}
+
+	/**
+	 * Returns the time of impact of two single hitboxes, checking that it is the same either way round.
+	 */
+	private static double timeOfImpact(ActorBounds first, ActorBounds second, boolean pixelAccurate) {
+		double time = first.timeOfImpact(0, second, 0, pixelAccurate);
+		assertEquals(time, second.timeOfImpact(0, first, 0, pixelAccurate), EPSILON, "asymmetric time of impact");
+		return time;
+	}
+
+	/**
+	 * A shot moving 300 pixels in one tick is caught by a 4 pixel wall it would otherwise pass through between
+	 * two ticks, at the fraction of the tick at which its front edge reaches the wall.
+	 */
+	@Test
+	void fastShotIsCaughtMidTick() {
+		ActorBounds shot = box(300, 10, 0, 10, SHOT);
+		ActorBounds wall = box(128, 0, 128, 0, WALL);
+		assertTrue(shot.getMinX(0) <= 128 && shot.getMaxX(0) >= 132, "swept box misses the wall");
+		assertEquals(0.36, timeOfImpact(shot, wall, false), EPSILON);
+		assertEquals(0.36, timeOfImpact(shot, wall, true), 1.0 / 300);
+	}
+
+	/**
+	 * A shot whose path ends short of the wall, or passes beside it, does not hit it.
+	 */
+	@Test
+	void missingPathsHaveNoImpact() {
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(box(100, 10, 0, 10, SHOT), box(128, 0, 128, 0, WALL), false));
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(box(300, 200, 0, 200, SHOT), box(128, 0, 128, 0, WALL),
+				false));
+	}
+
+	/**
+	 * Boxes without relative motion meet at the start of the tick if they overlap, and never otherwise, whether
+	 * both are still or both move alike.
+	 */
+	@Test
+	void zeroRelativeMotion() {
+		assertEquals(0, timeOfImpact(box(10, 10, 10, 10, SHOT), box(15, 0, 15, 0, WALL), false));
+		assertEquals(0, timeOfImpact(box(60, 10, 10, 10, SHOT), box(65, 0, 15, 0, WALL), false));
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(box(10, 10, 10, 10, SHOT), box(50, 0, 50, 0, WALL), false));
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(box(60, 10, 10, 10, SHOT), box(100, 0, 50, 0, WALL),
+				false));
+	}
+
+	/**
+	 * Touching edges count as meeting: boxes sharing an edge meet at the start of the tick, and a shot whose front
+	 * edge reaches the wall exactly at the end of the tick meets it at time 1.
+	 */
+	@Test
+	void touchingEdgesMeet() {
+		assertEquals(0, timeOfImpact(box(0, 10, 0, 10, SHOT), box(20, 0, 20, 0, WALL), false));
+		assertEquals(1, timeOfImpact(box(108, 10, 0, 10, SHOT), box(128, 0, 128, 0, WALL), false), EPSILON);
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(box(107.5, 10, 0, 10, SHOT), box(128, 0, 128, 0, WALL),
+				false));
+	}
+
+	/**
+	 * With pixel accuracy, a sprite inside the tight box of another but only over its transparent pixels does not
+	 * meet it, while one moving onto its opaque pixels meets it when they first overlap.
+	 */
+	@Test
+	void pixelAccuracyIgnoresTransparentPixels() {
+		BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 5; j++) {
+				image.setRGB(i, j, OPAQUE);
+				image.setRGB(j, i, OPAQUE);
+			}
+		}
+		ActorBounds corner = box(0, 0, 0, 0, SpriteMask.fromImage(image, 20, 20));
+		SpriteMask square = SpriteMaskTest.rectangleMask(5, 5, 0, 0, 5, 5);
+		ActorBounds inNotch = box(10, 10, 10, 10, square);
+		assertEquals(0, timeOfImpact(corner, inNotch, false));
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(corner, inNotch, true));
+		ActorBounds leavingNotch = box(10, 0, 10, 10, square);
+		assertEquals(0.5, timeOfImpact(corner, leavingNotch, true), 0.1);
+	}
+
+	/**
+	 * A fully transparent sprite never collides, even placed over an opaque one.
+	 */
+	@Test
+	void emptyMasksNeverCollide() {
+		SpriteMask empty = SpriteMaskTest.rectangleMask(20, 20, 0, 0, 0, 0);
+		ActorBounds ghost = box(100, 10, 0, 10, empty);
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(ghost, box(0, 0, 0, 0, WALL), false));
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(ghost, box(50, 0, 50, 0, WALL), true));
+		assertEquals(ActorBounds.NO_IMPACT, timeOfImpact(ghost, ghost, false));
+	}
+}
@@ -0,0 +1,195 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the {@link CollisionGrid} broadphase finds exactly the colliding pairs a brute-force pass over every
+ * pair finds, whatever the cell size, and that a level plays out the same with any cell size.
+ */
+class CollisionGridTest {
+
+	/** The screen size the levels are built for, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The cell sizes the grid is tested with, including the level's default and one not a whole number. */
+	private static final double[] CELL_SIZES = {10, 128, 333.5};
+
+	/** The number of boxes in each group of a random round. */
+	private static final int BOX_COUNT = 300;
+
+	/** The number of random rounds per cell size. */
+	private static final int ROUND_COUNT = 20;
+
+	/** The extent of the area the random boxes are placed in, around the origin. */
+	private static final int AREA = 1500;
+
+	/** The largest distance a random box moves during the tick along each axis. */
+	private static final int MAX_MOVE = 40;
+
+	/** The hitboxes of the random boxes, from a single pixel to ones spanning many cells. */
+	private static final List<SpriteMask> MASKS = List.of(
+			SpriteMaskTest.rectangleMask(1, 1, 0, 0, 1, 1),
+			SpriteMaskTest.rectangleMask(40, 40, 0, 0, 40, 40),
+			SpriteMaskTest.rectangleMask(128, 128, 0, 0, 128, 128),
+			SpriteMaskTest.rectangleMask(300, 6, 0, 0, 300, 6),
+			SpriteMaskTest.rectangleMask(6, 300, 0, 0, 6, 300),
+			SpriteMaskTest.rectangleMask(620, 210, 10, 5, 610, 205));
+
+	/** The seed the levels are run with. */
+	private static final long SEED = 3;
+
+	/** The most ticks a level is simulated for. */
+	private static final int MAX_TICKS = 5_000;
+
+	/**
+	 * Restores the settings changed by the tests.
+	 */
+	@AfterEach
+	void restoreSettings() {
+		GameSettings.setSeed(null);
+	}
+
+	/**
+	 * Fills a cache with random boxes. Half of them have their corner on a cell line of the given cell size, and
+	 * half of them stand still.
+	 */
+	private static ActorBounds randomBoxes(SplittableRandom random, double cellSize) {
+		ActorBounds bounds = new ActorBounds();
+		for (int i = 0; i < BOX_COUNT; i++) {
+			double x = random.nextInt(-AREA, AREA);
+			double y = random.nextInt(-AREA, AREA);
+			if (random.nextBoolean()) {
+				x = Math.floor(x / cellSize) * cellSize;
+				y = Math.floor(y / cellSize) * cellSize;
+			}
+			double previousX = x;
+			double previousY = y;
+			if (random.nextBoolean()) {
+				previousX += random.nextInt(-MAX_MOVE, MAX_MOVE + 1);
+				previousY += random.nextInt(-MAX_MOVE, MAX_MOVE + 1);
+			}
+			bounds.add(x, y, previousX, previousY, MASKS.get(random.nextInt(MASKS.size())));
+		}
+		return bounds;
+	}
+
+	/**
+	 * Returns every colliding pair found by testing each box of the first cache against every box of the second.
+	 */
+	private static List<String> bruteForcePairs(ActorBounds bounds, ActorBounds others) {
+		List<String> pairs = new ArrayList<>();
+		for (int i = 0; i < bounds.size(); i++) {
+			for (int j = 0; j < others.size(); j++) {
+				if (bounds.timeOfImpact(i, others, j, false) != ActorBounds.NO_IMPACT) {
+					pairs.add(i + "-" + j);
+				}
+			}
+		}
+		return pairs;
+	}
+
+	/**
+	 * Returns every colliding pair found by testing each box of the first cache against the candidates the grid
+	 * finds for it, checking that the candidates are ascending and unique.
+	 */
+	private static List<String> gridPairs(CollisionGrid grid, ActorBounds bounds, ActorBounds others) {
+		List<String> pairs = new ArrayList<>();
+		CollisionGrid.Query query = grid.newQuery();
+		for (int i = 0; i < bounds.size(); i++) {
+			int candidateCount = query.run(bounds, i);
+			int[] candidates = query.getCandidates();
+			for (int c = 0; c < candidateCount; c++) {
+				int j = candidates[c];
+				assertTrue(c == 0 || candidates[c - 1] < j, "candidates of " + i + " out of order");
+				if (bounds.timeOfImpact(i, others, j, false) != ActorBounds.NO_IMPACT) {
+					pairs.add(i + "-" + j);
+				}
+			}
+		}
+		return pairs;
+	}
+
+	/**
+	 * For random boxes on and off cell lines, moving and still, spanning one or many cells, the colliding pairs
+	 * among the grid's candidates are exactly those of the brute-force pass, in the same order, for every cell
+	 * size. One grid is reused for every round, so changing the cell size between builds is covered too.
+	 */
+	@Test
+	void gridMatchesBruteForce() {
+		SplittableRandom random = new SplittableRandom(3);
+		CollisionGrid grid = new CollisionGrid(CELL_SIZES[0]);
+		int collidingPairs = 0;
+		for (double cellSize : CELL_SIZES) {
+			grid.setCellSize(cellSize);
+			for (int round = 0; round < ROUND_COUNT; round++) {
+				ActorBounds bounds = randomBoxes(random, cellSize);
+				ActorBounds others = randomBoxes(random, cellSize);
+				grid.build(others);
+				List<String> expected = bruteForcePairs(bounds, others);
+				assertEquals(expected, gridPairs(grid, bounds, others), "cell size " + cellSize);
+				collidingPairs += expected.size();
+			}
+		}
+		assertTrue(collidingPairs > CELL_SIZES.length * ROUND_COUNT, "too few colliding pairs: " + collidingPairs);
+	}
+
+	/**
+	 * Boxes that only touch along a cell line, on either side of the origin, are candidates of each other, as
+	 * touching boxes collide.
+	 */
+	@Test
+	void boxesTouchingOnCellLinesAreCandidates() {
+		SpriteMask cell = MASKS.get(2);
+		CollisionGrid grid = new CollisionGrid(128);
+		ActorBounds others = new ActorBounds();
+		others.add(128, 0, 128, 0, cell);
+		others.add(-128, -128, -128, -128, cell);
+		others.add(0, 128, 0, 128, cell);
+		others.add(256, 256, 256, 256, cell);
+		grid.build(others);
+		ActorBounds bounds = new ActorBounds();
+		bounds.add(0, 0, 0, 0, cell);
+
+		assertEquals(List.of("0-0", "0-1", "0-2"), bruteForcePairs(bounds, others));
+		assertEquals(List.of("0-0", "0-1", "0-2"), gridPairs(grid, bounds, others));
+	}
+
+	/**
+	 * Every level, run with the same seed and input, ends in the same state whatever the collision cell size, so
+	 * the broadphase changes nothing in the three collision passes.
+	 */
+	@Test
+	void levelsPlayOutTheSameWithAnyCellSize() {
+		for (LevelId id : LevelId.values()) {
+			long expected = runLevel(id, 0);
+			for (double cellSize : CELL_SIZES) {
+				assertEquals(expected, runLevel(id, cellSize), id + " with cell size " + cellSize);
+			}
+		}
+	}
+
+	/**
+	 * Simulates a level with the sweeping bot until it ends or the tick limit is reached, with the given cell size
+	 * or, if 0, the default one, and returns the hash of the state it ended in.
+	 */
+	private static long runLevel(LevelId id, double cellSize) {
+		GameSettings.setSeed(SEED);
+		LevelParent level = LevelRegistry.create(id, SCREEN_HEIGHT, SCREEN_WIDTH);
+		if (cellSize > 0) {
+			level.setCollisionCellSize(cellSize);
+		}
+		new HeadlessRunner(level).run(MAX_TICKS, HeadlessRunner::sweepAndFire);
+		long stateHash = level.computeStateHash();
+		level.dispose();
+		return stateHash;
+	}
+}
@@ -0,0 +1,166 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that a projectile meeting several planes during a tick damages only one of them: the one it meets first,
+ * or the one that comes first in the level's list if it meets them at the same time.
+ */
+class CollisionResolutionTest {
+
+	/** The screen size the level is built for, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** Where the projectile is fired from, well away from the player's plane. */
+	private static final double PROJECTILE_X = 500;
+	private static final double PROJECTILE_Y = 300;
+
+	/** The gap between the projectile and the plane it meets early in the tick. */
+	private static final double NEAR_GAP = 2;
+
+	/** The gap between the projectile and the plane it meets late in the tick. */
+	private static final double FAR_GAP = ProjectileType.USER.getHorizontalVelocity() - 3;
+
+	/**
+	 * A level that spawns nothing and never ends, into which the tests place planes and projectiles by hand.
+	 */
+	private static final class TestLevel extends LevelParent {
+
+		/** The player's health in the test level. */
+		private static final int PLAYER_INITIAL_HEALTH = 5;
+
+		/**
+		 * Constructs an empty test level.
+		 */
+		TestLevel() {
+			super("/com/example/demo/images/background1.jpg", SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH);
+		}
+
+		/**
+		 * Adds the player's plane, the only friendly unit.
+		 */
+		@Override
+		protected void initializeFriendlyUnits() {
+			addFriendlyUnit(getUser());
+		}
+
+		/**
+		 * Never ends the level.
+		 */
+		@Override
+		protected void checkIfGameOver() {
+		}
+
+		/**
+		 * Spawns nothing; the tests add the enemies themselves.
+		 */
+		@Override
+		protected void spawnEnemyUnits() {
+		}
+
+		/**
+		 * Creates the plain level view.
+		 *
+		 * @return the level view
+		 */
+		@Override
+		protected LevelView instantiateLevelView() {
+			return new LevelView(getSceneLayers(), PLAYER_INITIAL_HEALTH);
+		}
+	}
+
+	/**
+	 * Fires a user projectile and moves it through one tick, returning its index.
+	 */
+	private static int fireAndAdvance(LevelParent level) {
+		ProjectileStore projectiles = level.getUserProjectiles();
+		int projectile = projectiles.spawn(ProjectileType.USER, PROJECTILE_X, PROJECTILE_Y);
+		projectiles.savePreviousPositions();
+		projectiles.advance();
+		return projectile;
+	}
+
+	/**
+	 * Adds a stationary enemy plane to the level whose hitbox starts the given gap to the right of the projectile's
+	 * hitbox at the start of the tick, centred on it vertically.
+	 */
+	private static EnemyPlane addEnemyAhead(LevelParent level, int projectile, double gap) {
+		ProjectileStore projectiles = level.getUserProjectiles();
+		ActorBounds projectileBounds = new ActorBounds();
+		projectileBounds.capture(projectiles);
+		double travelled = projectiles.getMinX(projectile) - projectiles.getPreviousMinX(projectile);
+		double startMaxX = projectileBounds.getMaxX(projectile) - travelled;
+		double centreY = (projectileBounds.getMinY(projectile) + projectileBounds.getMaxY(projectile)) / 2;
+		ActorBounds probeBounds = new ActorBounds();
+		probeBounds.capture(List.<ActiveActorDestructible>of(new EnemyPlane(0, 0)));
+		double x = startMaxX + gap - probeBounds.getMinX(0);
+		double y = centreY - (probeBounds.getMinY(0) + probeBounds.getMaxY(0)) / 2;
+		EnemyPlane enemy = new EnemyPlane(x, y);
+		level.addEnemyUnit(enemy);
+		return enemy;
+	}
+
+	/**
+	 * The projectile damages only the plane it reaches first during the tick, even though that plane comes second
+	 * in the level's list and the projectile overlaps both by the end of the tick.
+	 */
+	@Test
+	void projectileDamagesEarliestImpactOnly() {
+		TestLevel level = new TestLevel();
+		int projectile = fireAndAdvance(level);
+		EnemyPlane far = addEnemyAhead(level, projectile, FAR_GAP);
+		EnemyPlane near = addEnemyAhead(level, projectile, NEAR_GAP);
+
+		level.runPhase(TickPhase.HANDLE_COLLISIONS);
+
+		assertTrue(level.getUserProjectiles().isDestroyed(projectile));
+		assertTrue(near.isDestroyed());
+		assertEquals(0, near.getHealth());
+		assertFalse(far.isDestroyed());
+		assertEquals(1, far.getHealth());
+		level.dispose();
+	}
+
+	/**
+	 * A projectile reaching two planes at the same time damages only the one that comes first in the level's list.
+	 */
+	@Test
+	void simultaneousImpactDamagesLowerIndexOnly() {
+		TestLevel level = new TestLevel();
+		int projectile = fireAndAdvance(level);
+		EnemyPlane first = addEnemyAhead(level, projectile, NEAR_GAP);
+		EnemyPlane second = addEnemyAhead(level, projectile, NEAR_GAP);
+
+		level.runPhase(TickPhase.HANDLE_COLLISIONS);
+
+		assertTrue(level.getUserProjectiles().isDestroyed(projectile));
+		assertTrue(first.isDestroyed());
+		assertFalse(second.isDestroyed());
+		assertEquals(1, second.getHealth());
+		level.dispose();
+	}
+
+	/**
+	 * A projectile already overlapping two planes at the start of the tick also damages only the first in the list.
+	 */
+	@Test
+	void overlapAtStartDamagesLowerIndexOnly() {
+		TestLevel level = new TestLevel();
+		int projectile = fireAndAdvance(level);
+		EnemyPlane first = addEnemyAhead(level, projectile, -FAR_GAP);
+		EnemyPlane second = addEnemyAhead(level, projectile, -NEAR_GAP);
+
+		level.runPhase(TickPhase.HANDLE_COLLISIONS);
+
+		assertTrue(first.isDestroyed());
+		assertFalse(second.isDestroyed());
+		level.dispose();
+	}
+}
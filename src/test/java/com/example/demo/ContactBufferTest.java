@@ -0,0 +1,112 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the time ordering of a {@link ContactBuffer} and how it breaks ties between simultaneous contacts.
+ */
+class ContactBufferTest {
+
+	/** The number of random contacts sorted by the ordering test. */
+	private static final int RANDOM_CONTACT_COUNT = 10_000;
+
+	/**
+	 * Contacts are ordered by time of impact, from 0 to 1.
+	 */
+	@Test
+	void sortsByTimeOfImpact() {
+		ContactBuffer contacts = new ContactBuffer();
+		contacts.add(0, 0, 1.0);
+		contacts.add(1, 0, 0.5);
+		contacts.add(2, 0, 0.0);
+		contacts.add(3, 0, 0.25);
+		contacts.sortByTime();
+
+		assertEquals(4, contacts.size());
+		int[] expectedFirst = {2, 3, 1, 0};
+		double[] expectedTimes = {0.0, 0.25, 0.5, 1.0};
+		for (int rank = 0; rank < contacts.size(); rank++) {
+			assertEquals(expectedFirst[rank], contacts.getFirst(rank));
+			assertEquals(expectedTimes[rank], contacts.getTime(rank));
+		}
+	}
+
+	/**
+	 * Contacts with equal times keep the order they were added in, which is ascending order of the first index
+	 * and then the second, among contacts at other times.
+	 */
+	@Test
+	void equalTimesKeepIndexOrder() {
+		ContactBuffer contacts = new ContactBuffer();
+		contacts.add(0, 2, 0.5);
+		contacts.add(0, 5, 0.75);
+		contacts.add(1, 0, 0.5);
+		contacts.add(1, 3, 0.5);
+		contacts.add(4, 1, 0.25);
+		contacts.add(6, 0, 0.5);
+		contacts.sortByTime();
+
+		int[][] expected = {{4, 1}, {0, 2}, {1, 0}, {1, 3}, {6, 0}, {0, 5}};
+		for (int rank = 0; rank < expected.length; rank++) {
+			assertEquals(expected[rank][0], contacts.getFirst(rank), "first of rank " + rank);
+			assertEquals(expected[rank][1], contacts.getSecond(rank), "second of rank " + rank);
+		}
+	}
+
+	/**
+	 * A large buffer of random contacts, many at the same time, sorts into ascending time and then insertion
+	 * order, and buffers filled from consecutive ranges and appended in order sort the same way.
+	 */
+	@Test
+	void sortIsStableAcrossAppendedChunks() {
+		SplittableRandom random = new SplittableRandom(23);
+		ContactBuffer whole = new ContactBuffer();
+		ContactBuffer lowerHalf = new ContactBuffer();
+		ContactBuffer upperHalf = new ContactBuffer();
+		for (int i = 0; i < RANDOM_CONTACT_COUNT; i++) {
+			double time = random.nextInt(8) / 8.0;
+			whole.add(i, i * 7, time);
+			(i < RANDOM_CONTACT_COUNT / 2 ? lowerHalf : upperHalf).add(i, i * 7, time);
+		}
+		ContactBuffer appended = new ContactBuffer();
+		appended.addAll(lowerHalf);
+		appended.addAll(upperHalf);
+		whole.sortByTime();
+		appended.sortByTime();
+
+		for (int rank = 1; rank < whole.size(); rank++) {
+			double previousTime = whole.getTime(rank - 1);
+			double time = whole.getTime(rank);
+			assertTrue(previousTime < time || previousTime == time && whole.getFirst(rank - 1) < whole.getFirst(rank),
+					"rank " + rank);
+		}
+		for (int rank = 0; rank < whole.size(); rank++) {
+			assertEquals(whole.getFirst(rank), appended.getFirst(rank));
+			assertEquals(whole.getSecond(rank), appended.getSecond(rank));
+		}
+	}
+
+	/**
+	 * A cleared buffer is empty and reports later contacts in the order they are added until sorted again.
+	 */
+	@Test
+	void clearEmptiesBuffer() {
+		ContactBuffer contacts = new ContactBuffer();
+		contacts.add(3, 3, 0.9);
+		contacts.add(2, 2, 0.1);
+		contacts.sortByTime();
+		contacts.clear();
+		assertEquals(0, contacts.size());
+
+		contacts.add(5, 1, 0.9);
+		contacts.add(4, 2, 0.1);
+		assertEquals(5, contacts.getFirst(0));
+		contacts.sortByTime();
+		assertEquals(4, contacts.getFirst(0));
+	}
+}
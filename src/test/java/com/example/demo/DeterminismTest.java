@@ -0,0 +1,68 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that every level is reproducible: the same seed and the same input give bit-identical runs, while another
+ * seed gives a different one.
+ */
+class DeterminismTest {
+
+	/** The screen size the levels are built for, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The seed both reference runs of a level are made with. */
+	private static final long SEED = 42;
+
+	/** The seed of the run expected to diverge. */
+	private static final long OTHER_SEED = 43;
+
+	/** The most ticks a level is simulated for. */
+	private static final int MAX_TICKS = 5_000;
+
+	/**
+	 * Restores the settings changed by the tests.
+	 */
+	@AfterEach
+	void restoreSettings() {
+		GameSettings.setSeed(null);
+	}
+
+	/**
+	 * Simulates a level with the given seed and the sweeping bot until it ends or the tick limit is reached, and
+	 * returns the hash of the state it ended in, which covers the number of ticks run.
+	 */
+	private static long run(LevelId id, long seed) {
+		GameSettings.setSeed(seed);
+		LevelParent level = LevelRegistry.create(id, SCREEN_HEIGHT, SCREEN_WIDTH);
+		new HeadlessRunner(level).run(MAX_TICKS, HeadlessRunner::sweepAndFire);
+		long stateHash = level.computeStateHash();
+		level.dispose();
+		return stateHash;
+	}
+
+	/**
+	 * Two runs of a level with the same seed and input end after the same number of ticks in the same state.
+	 */
+	@Test
+	void sameSeedGivesIdenticalRuns() {
+		for (LevelId id : LevelId.values()) {
+			assertEquals(run(id, SEED), run(id, SEED), id.toString());
+		}
+	}
+
+	/**
+	 * A run of a level with another seed ends in a different state, so the seed does reach the level's randomness.
+	 */
+	@Test
+	void otherSeedDiverges() {
+		for (LevelId id : LevelId.values()) {
+			assertNotEquals(run(id, SEED), run(id, OTHER_SEED), id.toString());
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the hand-off of {@link FrameSnapshot}s through the {@link FrameExchange} triple buffer, on one thread and
+ * with a writer and a reader on two threads.
+ */
+class FrameExchangeTest {
+
+	/** The number of frames published by the concurrent test. */
+	private static final int CONCURRENT_FRAME_COUNT = 200_000;
+
+	/** The number of projectiles in a frame cycles up to this count, so frames differ in size. */
+	private static final int MAX_PROJECTILES = 40;
+
+	/**
+	 * Fills a frame with the i-th numbered content: its tick is i, and it holds a number of projectiles derived
+	 * from i, all at an x-coordinate of i, so that a reader can tell a frame changed under it.
+	 */
+	private static void fillNumbered(FrameSnapshot frame, ProjectileStore projectiles, long i) {
+		projectiles.clear();
+		for (int p = 0; p < i % MAX_PROJECTILES; p++) {
+			projectiles.spawn(ProjectileType.USER, i, p);
+		}
+		frame.clear(i, 0, 0);
+		frame.addProjectiles(projectiles, SceneLayer.USER_PROJECTILES);
+	}
+
+	/**
+	 * Checks that a frame holds the intact numbered content of its tick.
+	 */
+	private static boolean isIntact(FrameSnapshot frame) {
+		long tick = frame.getTick();
+		if (frame.getProjectileLayerCount() != 1) {
+			return false;
+		}
+		FrameSnapshot.ProjectileLayer projectiles = frame.getProjectileLayer(0);
+		if (projectiles.size() != tick % MAX_PROJECTILES) {
+			return false;
+		}
+		for (int p = 0; p < projectiles.size(); p++) {
+			if (projectiles.interpolateX(p, 1) != tick) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Before anything is published, the reader gets an empty frame distinct from the one being filled; once a
+	 * frame is published, the reader gets that very frame and the writer moves on to another.
+	 */
+	@Test
+	void readerGetsLatestPublishedFrame() {
+		FrameExchange exchange = new FrameExchange();
+		FrameSnapshot initial = exchange.getLatestFrame();
+		assertEquals(0, initial.getActorCount());
+		FrameSnapshot first = exchange.getBackFrame();
+		assertNotSame(initial, first);
+		first.clear(1, 0, 0);
+		exchange.publish();
+		assertNotSame(first, exchange.getBackFrame());
+		assertSame(first, exchange.getLatestFrame());
+		assertSame(first, exchange.getLatestFrame());
+		assertNotSame(first, exchange.getBackFrame());
+	}
+
+	/**
+	 * Frames published faster than they are read are skipped: the reader gets the newest one, and the writer
+	 * never fills the frame the reader holds.
+	 */
+	@Test
+	void unreadFramesAreSkipped() {
+		FrameExchange exchange = new FrameExchange();
+		FrameSnapshot held = exchange.getLatestFrame();
+		for (long tick = 1; tick <= 5; tick++) {
+			FrameSnapshot back = exchange.getBackFrame();
+			assertNotSame(held, back);
+			back.clear(tick, 0, 0);
+			exchange.publish();
+		}
+		held = exchange.getLatestFrame();
+		assertEquals(5, held.getTick());
+		for (int i = 0; i < 3; i++) {
+			assertNotSame(held, exchange.getBackFrame());
+			exchange.publish();
+		}
+	}
+
+	/**
+	 * A reader taking frames while a writer publishes them only ever sees complete frames, which never change
+	 * while it holds them, with ticks that never go backwards, and ends on the last frame published.
+	 */
+	@Test
+	void concurrentReaderSeesCompleteStableFrames() throws InterruptedException {
+		FrameExchange exchange = new FrameExchange();
+		AtomicBoolean writing = new AtomicBoolean(true);
+		AtomicReference<String> failure = new AtomicReference<>();
+		long[] framesSeen = {0};
+		Thread reader = new Thread(() -> {
+			long lastTick = -1;
+			boolean done = false;
+			while (!done && failure.get() == null) {
+				done = !writing.get();
+				FrameSnapshot frame = exchange.getLatestFrame();
+				long tick = frame.getTick();
+				if (tick < lastTick || tick > 0 && !isIntact(frame)) {
+					failure.compareAndSet(null, "Frame of tick " + tick + " after tick " + lastTick);
+				}
+				if (tick != lastTick) {
+					framesSeen[0]++;
+				}
+				lastTick = tick;
+				Thread.onSpinWait();
+				if (frame.getTick() != tick || tick > 0 && !isIntact(frame)) {
+					failure.compareAndSet(null, "Frame of tick " + tick + " changed while held");
+				}
+			}
+			if (lastTick != CONCURRENT_FRAME_COUNT) {
+				failure.compareAndSet(null, "Ended on tick " + lastTick);
+			}
+		});
+		reader.start();
+		ProjectileStore projectiles = new ProjectileStore();
+		for (long i = 1; i <= CONCURRENT_FRAME_COUNT && failure.get() == null; i++) {
+			fillNumbered(exchange.getBackFrame(), projectiles, i);
+			exchange.publish();
+		}
+		writing.set(false);
+		reader.join();
+		assertNull(failure.get());
+		assertTrue(framesSeen[0] > 0);
+	}
+}
@@ -0,0 +1,166 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ordering, overwriting and drop accounting of the {@link GameEventBus}, on one thread and with readers
+ * polling concurrently with the writer.
+ */
+class GameEventBusTest {
+
+	/** Every event type, indexed by ordinal. */
+	private static final GameEventType[] TYPES = GameEventType.values();
+
+	/** The number of events published by the concurrent test. */
+	private static final int CONCURRENT_EVENT_COUNT = 2_000_000;
+
+	/** The number of readers polling concurrently with the writer. */
+	private static final int CONCURRENT_READER_COUNT = 3;
+
+	/**
+	 * Publishes the i-th event of a sequence whose type, tick and value are all derived from i, so that a reader
+	 * can tell a torn event from an intact one.
+	 */
+	private static void publishNumbered(GameEventBus bus, long i) {
+		bus.setTick(i);
+		bus.publish(TYPES[(int) (i % TYPES.length)], valueOf(i));
+	}
+
+	/**
+	 * Returns the value of the i-th numbered event.
+	 */
+	private static int valueOf(long i) {
+		return (int) (i * 31 + 7);
+	}
+
+	/**
+	 * Checks that an event is the intact numbered event of its tick.
+	 */
+	private static boolean isIntact(GameEventType type, long tick, int value) {
+		return type == TYPES[(int) (tick % TYPES.length)] && value == valueOf(tick);
+	}
+
+	/**
+	 * Events are delivered once each, in the order they were published, with their tick and value.
+	 */
+	@Test
+	void deliversEventsInPublishOrder() {
+		GameEventBus bus = new GameEventBus(16);
+		List<Long> ticks = new ArrayList<>();
+		GameEventBus.Subscription subscription = bus.subscribe((type, tick, value) -> {
+			assertTrue(isIntact(type, tick, value));
+			ticks.add(tick);
+		});
+		for (long i = 0; i < 10; i++) {
+			publishNumbered(bus, i);
+		}
+		assertEquals(10, subscription.poll());
+		assertEquals(0, subscription.poll());
+		publishNumbered(bus, 10);
+		assertEquals(1, subscription.poll());
+		assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), ticks);
+		assertEquals(0, subscription.getDroppedCount());
+	}
+
+	/**
+	 * A subscription only sees the events published after it was created.
+	 */
+	@Test
+	void subscriptionStartsAtCurrentEvent() {
+		GameEventBus bus = new GameEventBus(16);
+		publishNumbered(bus, 0);
+		publishNumbered(bus, 1);
+		List<Long> ticks = new ArrayList<>();
+		GameEventBus.Subscription subscription = bus.subscribe((type, tick, value) -> ticks.add(tick));
+		publishNumbered(bus, 2);
+		assertEquals(1, subscription.poll());
+		assertEquals(List.of(2L), ticks);
+		assertEquals(3, bus.getPublishedCount());
+	}
+
+	/**
+	 * A reader that falls the capacity or more behind gets the newest events but one less than the capacity, in
+	 * order, and counts the others as dropped, since the writer may be overwriting the oldest slot.
+	 */
+	@Test
+	void overwrittenEventsAreCountedAsDropped() {
+		GameEventBus bus = new GameEventBus(8);
+		List<Long> ticks = new ArrayList<>();
+		GameEventBus.Subscription subscription = bus.subscribe((type, tick, value) -> ticks.add(tick));
+		for (long i = 0; i < 20; i++) {
+			publishNumbered(bus, i);
+		}
+		assertEquals(7, subscription.poll());
+		assertEquals(List.of(13L, 14L, 15L, 16L, 17L, 18L, 19L), ticks);
+		assertEquals(13, subscription.getDroppedCount());
+		for (long i = 20; i < 27; i++) {
+			publishNumbered(bus, i);
+		}
+		assertEquals(7, subscription.poll());
+		assertEquals(13, subscription.getDroppedCount());
+	}
+
+	/**
+	 * The capacity must be a positive power of two.
+	 */
+	@Test
+	void rejectsInvalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new GameEventBus(0));
+		assertThrows(IllegalArgumentException.class, () -> new GameEventBus(12));
+	}
+
+	/**
+	 * Readers polling while the writer publishes never see a torn or reordered event, and every event is either
+	 * delivered or counted as dropped by each reader.
+	 */
+	@Test
+	void concurrentReadersSeeIntactEvents() throws InterruptedException {
+		GameEventBus bus = new GameEventBus(1024);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		AtomicReference<String> failure = new AtomicReference<>();
+		List<Thread> readers = new ArrayList<>();
+		List<GameEventBus.Subscription> subscriptions = new ArrayList<>();
+		long[] delivered = new long[CONCURRENT_READER_COUNT];
+		for (int r = 0; r < CONCURRENT_READER_COUNT; r++) {
+			int reader = r;
+			long[] lastTick = {-1};
+			GameEventBus.Subscription subscription = bus.subscribe((type, tick, value) -> {
+				if (!isIntact(type, tick, value) || tick <= lastTick[0]) {
+					failure.compareAndSet(null, "Reader " + reader + " saw " + type + ", " + tick + ", " + value
+							+ " after tick " + lastTick[0]);
+				}
+				lastTick[0] = tick;
+				delivered[reader]++;
+			});
+			subscriptions.add(subscription);
+			readers.add(new Thread(() -> {
+				while (writing.get()) {
+					subscription.poll();
+				}
+				subscription.poll();
+			}));
+		}
+		readers.forEach(Thread::start);
+		for (long i = 0; i < CONCURRENT_EVENT_COUNT; i++) {
+			publishNumbered(bus, i);
+		}
+		writing.set(false);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		assertNull(failure.get());
+		for (int r = 0; r < CONCURRENT_READER_COUNT; r++) {
+			assertEquals(CONCURRENT_EVENT_COUNT, delivered[r] + subscriptions.get(r).getDroppedCount());
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ordering and capacity of the single-producer, single-consumer {@link InputQueue}, on one thread and
+ * with the producer and consumer on two threads.
+ */
+class InputQueueTest {
+
+	/** Every control, indexed by ordinal. */
+	private static final PlayerInput[] INPUTS = PlayerInput.values();
+
+	/** The number of inputs passed between the two threads of the concurrent test. */
+	private static final int CONCURRENT_INPUT_COUNT = 200_000;
+
+	/**
+	 * Returns the control of the i-th input of a numbered sequence.
+	 */
+	private static PlayerInput inputOf(long i) {
+		return INPUTS[(int) (i % INPUTS.length)];
+	}
+
+	/**
+	 * Returns whether the i-th input of a numbered sequence is a press.
+	 */
+	private static boolean isPress(long i) {
+		return i / INPUTS.length % 2 == 0;
+	}
+
+	/**
+	 * Formats an input for comparison.
+	 */
+	private static String describe(PlayerInput input, boolean pressed) {
+		return input + (pressed ? " down" : " up");
+	}
+
+	/**
+	 * Inputs are drained once each, in the order they were offered.
+	 */
+	@Test
+	void drainsInputsInOfferOrder() {
+		InputQueue queue = new InputQueue(8);
+		List<String> drained = new ArrayList<>();
+		assertTrue(queue.offer(PlayerInput.UP, true));
+		assertTrue(queue.offer(PlayerInput.FIRE, true));
+		assertTrue(queue.offer(PlayerInput.UP, false));
+		assertEquals(3, queue.drain((input, pressed) -> drained.add(describe(input, pressed))));
+		assertEquals(0, queue.drain((input, pressed) -> drained.add(describe(input, pressed))));
+		assertEquals(List.of("UP down", "FIRE down", "UP up"), drained);
+	}
+
+	/**
+	 * A full queue rejects and counts new inputs without overwriting queued ones, and accepts inputs again once
+	 * drained, across many wraps of the ring.
+	 */
+	@Test
+	void rejectsInputsAtCapacity() {
+		InputQueue queue = new InputQueue(4);
+		List<String> drained = new ArrayList<>();
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 4; i++) {
+				assertTrue(queue.offer(inputOf(i), isPress(round)));
+			}
+			assertFalse(queue.offer(PlayerInput.DOWN, true));
+			assertFalse(queue.offer(PlayerInput.DOWN, false));
+			drained.clear();
+			assertEquals(4, queue.drain((input, pressed) -> drained.add(describe(input, pressed))));
+			for (int i = 0; i < 4; i++) {
+				assertEquals(describe(inputOf(i), isPress(round)), drained.get(i));
+			}
+		}
+		assertEquals(20, queue.getRejectedCount());
+	}
+
+	/**
+	 * The capacity must be a positive power of two.
+	 */
+	@Test
+	void rejectsInvalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new InputQueue(0));
+		assertThrows(IllegalArgumentException.class, () -> new InputQueue(100));
+	}
+
+	/**
+	 * A consumer draining while a producer offers sees every accepted input exactly once, in order, and the
+	 * producer only sees rejections while the queue is full.
+	 */
+	@Test
+	void concurrentConsumerSeesEveryInputInOrder() throws InterruptedException {
+		InputQueue queue = new InputQueue(16);
+		AtomicReference<String> failure = new AtomicReference<>();
+		long[] received = {0};
+		Thread consumer = new Thread(() -> {
+			while (received[0] < CONCURRENT_INPUT_COUNT && failure.get() == null) {
+				int drained = queue.drain((input, pressed) -> {
+					long i = received[0]++;
+					if (input != inputOf(i) || pressed != isPress(i)) {
+						failure.compareAndSet(null, "Input " + i + " was " + describe(input, pressed));
+					}
+				});
+				if (drained == 0) {
+					Thread.yield();
+				}
+			}
+		});
+		consumer.start();
+		for (long i = 0; i < CONCURRENT_INPUT_COUNT && failure.get() == null; i++) {
+			while (!queue.offer(inputOf(i), isPress(i))) {
+				Thread.yield();
+			}
+		}
+		consumer.join();
+		assertNull(failure.get());
+		assertEquals(CONCURRENT_INPUT_COUNT, received[0]);
+	}
+}
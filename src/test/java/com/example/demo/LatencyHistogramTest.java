@@ -0,0 +1,79 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the bucket mapping and percentiles of the {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+	/** The largest relative width of a bucket: one part in the number of sub-buckets per power of two. */
+	private static final double MAX_RELATIVE_ERROR = 1.0 / 32;
+
+	/**
+	 * Every value maps to a bucket whose upper edge is at or above it, while the previous bucket's upper edge is
+	 * below it, so the buckets are contiguous and ordered.
+	 */
+	@Test
+	void bucketsAreContiguous() {
+		for (long value = 0; value < 1 << 16; value++) {
+			int bucket = LatencyHistogram.bucketOf(value);
+			assertTrue(LatencyHistogram.upperEdgeOf(bucket) >= value, "upper edge below " + value);
+			if (bucket > 0) {
+				assertTrue(LatencyHistogram.upperEdgeOf(bucket - 1) < value, "previous edge above " + value);
+			}
+		}
+	}
+
+	/**
+	 * Consecutive powers of two use every bucket between them, so no sub-bucket is left unused.
+	 */
+	@Test
+	void everySubBucketIsUsed() {
+		for (int power = 5; power < Long.SIZE - 2; power++) {
+			int first = LatencyHistogram.bucketOf(1L << power);
+			int next = LatencyHistogram.bucketOf(1L << power + 1);
+			assertEquals(32, next - first, "buckets between 2^" + power + " and 2^" + (power + 1));
+		}
+		assertEquals(LatencyHistogram.bucketOf(31) + 1, LatencyHistogram.bucketOf(32));
+	}
+
+	/**
+	 * The bucket of any value is no wider than one thirty-second of the value, up to the largest long.
+	 */
+	@Test
+	void bucketWidthIsBounded() {
+		SplittableRandom random = new SplittableRandom(8);
+		for (int i = 0; i < 100_000; i++) {
+			long value = random.nextLong(Long.MAX_VALUE) >>> random.nextInt(Long.SIZE - 1);
+			long upperEdge = LatencyHistogram.upperEdgeOf(LatencyHistogram.bucketOf(value));
+			assertTrue(upperEdge >= value);
+			assertTrue(upperEdge - value <= Math.max(0, value * MAX_RELATIVE_ERROR), "bucket too wide at " + value);
+		}
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.upperEdgeOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+	}
+
+	/**
+	 * Percentiles report the upper edge of the bucket holding the ranked value, capped at the maximum.
+	 */
+	@Test
+	void percentilesFollowRecordedValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 1000; value++) {
+			histogram.record(value * 1000);
+		}
+		assertEquals(1000, histogram.getTotalCount());
+		assertEquals(1_000_000, histogram.getMaxValue());
+		assertEquals(500_500, histogram.getMean(), 1e-9);
+		long median = histogram.getValueAtPercentile(50);
+		assertTrue(median >= 500_000 && median <= 500_000 * (1 + MAX_RELATIVE_ERROR), "median " + median);
+		assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+		histogram.reset();
+		assertEquals(0, histogram.getValueAtPercentile(99));
+	}
+}
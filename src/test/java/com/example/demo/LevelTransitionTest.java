@@ -0,0 +1,47 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that completing a level hands its {@link LevelTransitionListener}s a typed {@link LevelTransition}.
+ */
+class LevelTransitionTest {
+
+	/** The screen size the level is built for, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * The transition names the completed level and its successor, and is delivered exactly once, at the dispatch
+	 * following the tick that completed the level, after the level's events.
+	 */
+	@Test
+	void transitionIsDeliveredOnceAtDispatch() {
+		LevelParent level = LevelRegistry.create(LevelId.LEVEL_ONE, SCREEN_HEIGHT, SCREEN_WIDTH);
+		List<LevelTransition> transitions = new ArrayList<>();
+		List<GameEventType> eventsBeforeTransition = new ArrayList<>();
+		List<GameEventType> events = new ArrayList<>();
+		level.addGameEventListener((type, tick, value) -> events.add(type));
+		level.addLevelTransitionListener(transition -> {
+			eventsBeforeTransition.addAll(events);
+			transitions.add(transition);
+		});
+
+		level.goToNextLevel();
+		assertTrue(transitions.isEmpty());
+		level.dispatchGameEvents();
+		level.dispatchGameEvents();
+
+		assertEquals(1, transitions.size());
+		assertEquals(LevelId.LEVEL_ONE, transitions.get(0).getCompletedLevel());
+		assertEquals(LevelRegistry.getSuccessor(LevelId.LEVEL_ONE), transitions.get(0).getNextLevel());
+		assertEquals(List.of(GameEventType.LEVEL_COMPLETED), eventsBeforeTransition);
+		level.dispose();
+	}
+}
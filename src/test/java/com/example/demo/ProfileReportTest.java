@@ -0,0 +1,84 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the tick profile a level reports when it ends covers every tick it ran, including the one that ended
+ * it.
+ */
+class ProfileReportTest {
+
+	/** The screen size the level is built for, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The seed the level is run with. */
+	private static final long SEED = 42;
+
+	/** The most ticks the level is given to end in. */
+	private static final int MAX_TICKS = 100_000;
+
+	/**
+	 * Restores the settings changed by the test.
+	 */
+	@AfterEach
+	void restoreSettings() {
+		GameSettings.setProfilingEnabled(false);
+		GameSettings.setSeed(null);
+	}
+
+	/**
+	 * Every phase row of the printed report has the same count as the TICK row, which is the number of ticks the
+	 * level ran.
+	 */
+	@Test
+	void reportCountsEveryTickOfEveryPhase() {
+		GameSettings.setProfilingEnabled(true);
+		GameSettings.setSeed(SEED);
+		LevelParent level = LevelRegistry.create(LevelId.LEVEL_ONE, SCREEN_HEIGHT, SCREEN_WIDTH);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream originalOut = System.out;
+		System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+		try {
+			new HeadlessRunner(level).run(MAX_TICKS, HeadlessRunner::sweepAndFire);
+		} finally {
+			System.setOut(originalOut);
+		}
+		assertTrue(level.hasEnded(), "level did not end");
+
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (String line : output.toString(StandardCharsets.UTF_8).split("\\R")) {
+			String[] columns = line.trim().split("\\s+");
+			if (columns.length == 5 && (columns[0].equals("TICK") || isPhase(columns[0]))) {
+				counts.put(columns[0], Long.parseLong(columns[1]));
+			}
+		}
+		assertEquals(TickPhase.values().length + 1, counts.size(), "report rows: " + counts);
+		for (Map.Entry<String, Long> row : counts.entrySet()) {
+			assertEquals(level.getTickCount(), row.getValue(), row.getKey() + " count");
+		}
+		level.dispose();
+	}
+
+	/**
+	 * Checks whether a report row is named after a tick phase.
+	 */
+	private static boolean isPhase(String name) {
+		for (TickPhase phase : TickPhase.values()) {
+			if (phase.name().equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,192 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that replay files written by {@link ReplayWriter} while a level runs are read back by {@link Replay} with
+ * their header, events and trailer intact, and that cut-off files are read as unfinished replays.
+ */
+class ReplayTest {
+
+	/** The screen size the level is built for, matching the game window. */
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+
+	/** The seed the level is recorded with. */
+	private static final long SEED = 14;
+
+	/** The most ticks the level is given to end in. */
+	private static final int MAX_TICKS = 100_000;
+
+	/** The number of ticks between the test bot's shots. */
+	private static final int FIRE_INTERVAL = 4;
+
+	/** The number of ticks the test bot keeps flying in one direction. */
+	private static final int TURN_INTERVAL = 30;
+
+	/** The number of bytes cut off the end of a recorded file, one at a time, by the truncation test. */
+	private static final int MAX_CUT = 40;
+
+	/** The directory the replays are written to. */
+	@TempDir
+	Path directory;
+
+	/** The number of input events the test bot has fed the level. */
+	private int inputCount;
+
+	/**
+	 * Restores the settings changed by the tests.
+	 */
+	@AfterEach
+	void restoreSettings() {
+		GameSettings.setSeed(null);
+	}
+
+	/**
+	 * Fires steadily and sweeps up and down, counting every input event fed to the level.
+	 */
+	private void feedInput(LevelParent level, long tick) {
+		if (tick % FIRE_INTERVAL == 0) {
+			level.handleInput(PlayerInput.FIRE, true);
+			level.handleInput(PlayerInput.FIRE, false);
+			inputCount += 2;
+		}
+		if (tick % TURN_INTERVAL == 0) {
+			PlayerInput previous = (tick / TURN_INTERVAL) % 2 == 0 ? PlayerInput.DOWN : PlayerInput.UP;
+			level.handleInput(previous, false);
+			level.handleInput(previous == PlayerInput.UP ? PlayerInput.DOWN : PlayerInput.UP, true);
+			inputCount += 2;
+		}
+	}
+
+	/**
+	 * Records a seeded run of the first level until it ends, and returns the level.
+	 */
+	private LevelParent recordLevel() throws IOException {
+		GameSettings.setSeed(SEED);
+		LevelParent level = LevelRegistry.create(LevelId.LEVEL_ONE, SCREEN_HEIGHT, SCREEN_WIDTH);
+		level.startRecording(directory);
+		new HeadlessRunner(level).run(MAX_TICKS, this::feedInput);
+		assertTrue(level.hasEnded(), "level did not end");
+		return level;
+	}
+
+	/**
+	 * Returns the only replay file in the test's directory.
+	 */
+	private Path recordedFile() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			Path[] replays = files.toArray(Path[]::new);
+			assertEquals(1, replays.length);
+			return replays[0];
+		}
+	}
+
+	/**
+	 * A recorded run reads back with the level's header fields, every input event and the level's final tick and
+	 * state hash, and playing it back ends in the recorded state.
+	 */
+	@Test
+	void recordedRunReadsBackAndVerifies() throws IOException {
+		LevelParent level = recordLevel();
+		Replay replay = Replay.read(recordedFile());
+
+		assertEquals(LevelId.LEVEL_ONE, replay.getLevelId());
+		assertEquals(SEED, replay.getSeed());
+		assertEquals(SCREEN_HEIGHT, replay.getScreenHeight());
+		assertEquals(SCREEN_WIDTH, replay.getScreenWidth());
+		assertEquals(GameSettings.getTicksPerSecond(), replay.getTicksPerSecond());
+		assertFalse(replay.isPixelCollisionsEnabled());
+		assertEquals(inputCount, replay.getEventCount());
+		assertEquals(PlayerInput.FIRE, replay.getEventInput(0));
+		assertTrue(replay.isEventPressed(0));
+		assertEquals(0, replay.getEventTick(0));
+		assertTrue(replay.isFinished());
+		assertEquals(level.getTickCount(), replay.getFinalTick());
+		assertEquals(level.computeStateHash(), replay.getFinalStateHash());
+		level.dispose();
+
+		ReplayPlayer player = new ReplayPlayer(replay);
+		player.play();
+		assertTrue(player.matchesRecording());
+		player.getLevel().dispose();
+	}
+
+	/**
+	 * Event ticks needing one to several bytes of variable-length delta, and equal ticks, read back exactly.
+	 */
+	@Test
+	void tickDeltasOfEveryLengthReadBack() throws IOException {
+		long[] ticks = {0, 0, 127, 128, 255, 16_511, 16_512, 1L << 40, (1L << 40) + 1};
+		Path file = directory.resolve("deltas.replay");
+		try (ReplayWriter writer = new ReplayWriter(file, LevelId.LEVEL_TWO, -1, SCREEN_HEIGHT, SCREEN_WIDTH, 60,
+				true)) {
+			for (int i = 0; i < ticks.length; i++) {
+				writer.writeInput(ticks[i], PlayerInput.values()[i % PlayerInput.values().length], i % 2 == 0);
+			}
+			writer.finish(Long.MAX_VALUE, 0x0123456789ABCDEFL);
+		}
+		Replay replay = Replay.read(file);
+
+		assertEquals(LevelId.LEVEL_TWO, replay.getLevelId());
+		assertEquals(-1, replay.getSeed());
+		assertEquals(60, replay.getTicksPerSecond());
+		assertTrue(replay.isPixelCollisionsEnabled());
+		assertEquals(ticks.length, replay.getEventCount());
+		for (int i = 0; i < ticks.length; i++) {
+			assertEquals(ticks[i], replay.getEventTick(i));
+			assertEquals(PlayerInput.values()[i % PlayerInput.values().length], replay.getEventInput(i));
+			assertEquals(i % 2 == 0, replay.isEventPressed(i));
+		}
+		assertTrue(replay.isFinished());
+		assertEquals(Long.MAX_VALUE, replay.getFinalTick());
+		assertEquals(0x0123456789ABCDEFL, replay.getFinalStateHash());
+	}
+
+	/**
+	 * A recording cut off anywhere after its header, as by a crash, reads as an unfinished replay holding the
+	 * complete events before the cut, and still plays back.
+	 */
+	@Test
+	void truncatedFileIsUnfinished() throws IOException {
+		recordLevel().dispose();
+		Path file = recordedFile();
+		byte[] contents = Files.readAllBytes(file);
+		Replay complete = Replay.read(file);
+		Path truncated = directory.resolve("truncated.bin");
+
+		for (int cut = 1; cut <= MAX_CUT; cut++) {
+			Files.write(truncated, Arrays.copyOf(contents, contents.length - cut));
+			Replay replay = Replay.read(truncated);
+
+			assertFalse(replay.isFinished(), "cut " + cut);
+			assertEquals(0, replay.getFinalStateHash());
+			assertTrue(replay.getEventCount() <= complete.getEventCount(), "cut " + cut);
+			assertTrue(replay.getEventCount() >= complete.getEventCount() - MAX_CUT, "cut " + cut);
+			for (int i = 0; i < replay.getEventCount(); i++) {
+				assertEquals(complete.getEventTick(i), replay.getEventTick(i));
+				assertEquals(complete.getEventInput(i), replay.getEventInput(i));
+				assertEquals(complete.isEventPressed(i), replay.isEventPressed(i));
+			}
+			assertEquals(replay.getEventTick(replay.getEventCount() - 1), replay.getFinalTick());
+		}
+
+		Replay replay = Replay.read(truncated);
+		ReplayPlayer player = new ReplayPlayer(replay);
+		player.play();
+		assertFalse(player.matchesRecording());
+		player.getLevel().dispose();
+	}
+}
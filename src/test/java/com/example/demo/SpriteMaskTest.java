@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the tight boxes of {@link SpriteMask}s and checks their word-at-a-time overlap test against a pixel-by-pixel
+ * one.
+ */
+class SpriteMaskTest {
+
+	/** The number of random mask pairs and offsets compared with the pixel-by-pixel check. */
+	private static final int PAIR_COUNT = 200_000;
+
+	/** The colour of an opaque test pixel. */
+	private static final int OPAQUE = 0xFF000000;
+
+	/**
+	 * Returns the mask of a sprite of the game at the height it is displayed at.
+	 */
+	private static SpriteMask spriteMask(String imageName, int height) {
+		String resourcePath = SpriteAtlas.getDefinition(imageName).getResourcePath();
+		return SpriteMask.of(resourcePath, height * SpriteMetrics.getAspectRatio(resourcePath), height);
+	}
+
+	/**
+	 * Returns the mask of an image of the given size, opaque in the given rectangle and transparent elsewhere.
+	 */
+	static SpriteMask rectangleMask(int width, int height, int left, int top, int right, int bottom) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = top; y < bottom; y++) {
+			for (int x = left; x < right; x++) {
+				image.setRGB(x, y, OPAQUE);
+			}
+		}
+		return SpriteMask.fromImage(image, width, height);
+	}
+
+	/**
+	 * Checks whether two masks overlap one pixel at a time, over the tight box of the first.
+	 */
+	private static boolean overlapsPixelByPixel(SpriteMask mask, SpriteMask other, int offsetX, int offsetY) {
+		for (int y = (int) mask.getMinY(); y < (int) Math.ceil(mask.getMaxY()); y++) {
+			for (int x = (int) mask.getMinX(); x < (int) Math.ceil(mask.getMaxX()); x++) {
+				if (mask.isOpaque(x, y) && other.isOpaque(x - offsetX, y - offsetY)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The tight box covers exactly the opaque pixels.
+	 */
+	@Test
+	void tightBoxCoversOpaquePixels() {
+		SpriteMask mask = rectangleMask(100, 40, 10, 5, 90, 30);
+		assertEquals(10, mask.getMinX());
+		assertEquals(5, mask.getMinY());
+		assertEquals(90, mask.getMaxX());
+		assertEquals(30, mask.getMaxY());
+		assertTrue(mask.isOpaque(10, 5));
+		assertTrue(mask.isOpaque(89, 29));
+		assertFalse(mask.isOpaque(9, 5));
+		assertFalse(mask.isOpaque(90, 29));
+		assertFalse(mask.isOpaque(-1, 10));
+		assertFalse(mask.isEmpty());
+	}
+
+	/**
+	 * The word-at-a-time overlap test agrees with the pixel-by-pixel one for random pairs of the game's sprites and
+	 * of rectangles spanning several words, at random offsets, including negative ones and ones not aligned on a
+	 * word.
+	 */
+	@Test
+	void overlapsMatchesPixelByPixelCheck() {
+		List<SpriteMask> masks = List.of(
+				spriteMask("userplane.png", 150),
+				spriteMask("enemyplane.png", 150),
+				spriteMask("bossplane.png", 300),
+				ProjectileType.USER.getMask(),
+				ProjectileType.ENEMY.getMask(),
+				ProjectileType.BOSS.getMask(),
+				rectangleMask(200, 20, 63, 0, 129, 20),
+				rectangleMask(3, 3, 1, 1, 2, 2));
+		SplittableRandom random = new SplittableRandom(21);
+		int overlapping = 0;
+		for (int i = 0; i < PAIR_COUNT; i++) {
+			SpriteMask mask = masks.get(random.nextInt(masks.size()));
+			SpriteMask other = masks.get(random.nextInt(masks.size()));
+			int offsetX = random.nextInt((int) -other.getMaxX() - 2, (int) mask.getMaxX() + 2);
+			int offsetY = random.nextInt((int) -other.getMaxY() - 2, (int) mask.getMaxY() + 2);
+			boolean expected = overlapsPixelByPixel(mask, other, offsetX, offsetY);
+			assertEquals(expected, mask.overlaps(other, offsetX, offsetY),
+					"mask " + masks.indexOf(mask) + " and " + masks.indexOf(other) + " at " + offsetX + ", " + offsetY);
+			if (expected) {
+				overlapping++;
+			}
+		}
+		assertTrue(overlapping > PAIR_COUNT / 10 && overlapping < PAIR_COUNT * 9 / 10,
+				"too few of both outcomes: " + overlapping + " overlapping");
+	}
+
+	/**
+	 * Masks whose rectangles only touch along an edge do not overlap, as no pixel is shared.
+	 */
+	@Test
+	void adjacentMasksDoNotOverlap() {
+		SpriteMask mask = rectangleMask(70, 10, 0, 0, 70, 10);
+		assertFalse(mask.overlaps(mask, 70, 0));
+		assertFalse(mask.overlaps(mask, 0, 10));
+		assertTrue(mask.overlaps(mask, 69, 9));
+		assertTrue(mask.overlaps(mask, -69, -9));
+	}
+
+	/**
+	 * A fully transparent mask is empty and overlaps nothing.
+	 */
+	@Test
+	void emptyMaskOverlapsNothing() {
+		SpriteMask empty = SpriteMask.fromImage(new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB), 20, 20);
+		SpriteMask full = rectangleMask(20, 20, 0, 0, 20, 20);
+		assertTrue(empty.isEmpty());
+		assertFalse(empty.overlaps(full, 0, 0));
+		assertFalse(full.overlaps(empty, 0, 0));
+		assertFalse(empty.overlaps(empty, 0, 0));
+	}
+}